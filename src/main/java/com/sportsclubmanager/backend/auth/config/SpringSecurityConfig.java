@@ -1,21 +1,41 @@
 package com.sportsclubmanager.backend.auth.config;
 
+import com.sportsclubmanager.backend.auth.security.GrantedAuthorityRegistry;
+import com.sportsclubmanager.backend.auth.security.JwtAuthoritiesCodec;
+import com.sportsclubmanager.backend.auth.security.JwtKeyRing;
+import com.sportsclubmanager.backend.auth.security.authorization.RoleMaskAuthorizationManager;
+import com.sportsclubmanager.backend.auth.security.cache.JwtTokenCache;
 import com.sportsclubmanager.backend.auth.security.filter.JwtAuthenticationFilter;
 import com.sportsclubmanager.backend.auth.security.filter.JwtValidationFilter;
+import com.sportsclubmanager.backend.auth.security.password.BcryptProperties;
+import com.sportsclubmanager.backend.auth.security.password.BoundedPasswordEncoder;
+import com.sportsclubmanager.backend.auth.security.password.CalibratedBCryptPasswordEncoder;
+import com.sportsclubmanager.backend.auth.security.password.PasswordHashingProperties;
+import com.sportsclubmanager.backend.auth.security.revocation.TokenRevocationStore;
+import com.sportsclubmanager.backend.auth.service.RefreshTokenService;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import java.util.List;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,14 +44,54 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
 @Configuration
-@EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
+@EnableMethodSecurity(prePostEnabled = false, securedEnabled = true, jsr250Enabled = true)
 public class SpringSecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final JwtTokenCache jwtTokenCache;
+    private final JwtAuthoritiesCodec jwtAuthoritiesCodec;
+    private final JwtKeyRing jwtKeyRing;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     public SpringSecurityConfig(
-            AuthenticationConfiguration authenticationConfiguration) {
+            AuthenticationConfiguration authenticationConfiguration,
+            JwtTokenCache jwtTokenCache,
+            JwtAuthoritiesCodec jwtAuthoritiesCodec,
+            JwtKeyRing jwtKeyRing,
+            RefreshTokenService refreshTokenService,
+            TokenRevocationStore tokenRevocationStore) {
         this.authenticationConfiguration = authenticationConfiguration;
+        this.jwtTokenCache = jwtTokenCache;
+        this.jwtAuthoritiesCodec = jwtAuthoritiesCodec;
+        this.jwtKeyRing = jwtKeyRing;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationStore = tokenRevocationStore;
+    }
+
+    /**
+     * Interceptor de {@code @PreAuthorize} que decide las comprobaciones de
+     * roles con máscaras de bits precompiladas. Las dependencias se resuelven
+     * de forma diferida porque los asesores de infraestructura se crean antes
+     * que el resto de beans.
+     * Para registrar este interceptor se desactiva {@code prePostEnabled}, por
+     * lo que {@code @PostAuthorize}, {@code @PreFilter} y {@code @PostFilter}
+     * no se aplican; si se necesitan, deben registrarse sus interceptores.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor preAuthorizeAuthorizationMethodInterceptor(
+            ObjectProvider<RoleCatalog> roleCatalog,
+            ObjectProvider<GrantedAuthorityRegistry> authorityRegistry,
+            ApplicationContext applicationContext) {
+        PreAuthorizeAuthorizationManager fallback = new PreAuthorizeAuthorizationManager();
+        fallback.setApplicationContext(applicationContext);
+
+        return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(
+                new RoleMaskAuthorizationManager(
+                        roleCatalog::getObject,
+                        authorityRegistry::getObject,
+                        fallback));
     }
 
     @Bean
@@ -39,9 +99,26 @@ public class SpringSecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * Codificador de contraseñas BCrypt que se ejecuta en un grupo de hilos
+     * dedicado para no bloquear los hilos que atienden solicitudes.
+     * El coste se calibra al iniciar según el tiempo objetivo configurado.
+     */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(
+            BcryptProperties bcryptProperties,
+            PasswordHashingProperties passwordHashingProperties,
+            MeterRegistry meterRegistry) {
+        CalibratedBCryptPasswordEncoder bcrypt = CalibratedBCryptPasswordEncoder.create(bcryptProperties);
+
+        Gauge.builder("password.hashing.strength", bcrypt::getStrength)
+                .description("Coste de BCrypt calibrado para este nodo")
+                .register(meterRegistry);
+
+        return new BoundedPasswordEncoder(
+                bcrypt,
+                passwordHashingProperties,
+                meterRegistry);
     }
 
     @Bean
@@ -51,6 +128,8 @@ public class SpringSecurityConfig {
                 .authorizeHttpRequests(authorizeHttpRequests -> authorizeHttpRequests
                         .requestMatchers(HttpMethod.POST, "/login")
                         .permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/refresh")
+                        .permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/users")
                         .permitAll()
                         .requestMatchers(
@@ -63,8 +142,15 @@ public class SpringSecurityConfig {
                         .permitAll()
                         .anyRequest()
                         .authenticated())
-                .addFilter(new JwtAuthenticationFilter(authenticationManager()))
-                .addFilter(new JwtValidationFilter(authenticationManager()))
+                .addFilter(new JwtAuthenticationFilter(
+                        authenticationManager(),
+                        refreshTokenService))
+                .addFilter(new JwtValidationFilter(
+                        authenticationManager(),
+                        jwtTokenCache,
+                        jwtAuthoritiesCodec,
+                        jwtKeyRing,
+                        tokenRevocationStore))
                 .sessionManagement(management -> management.sessionCreationPolicy(
                         SessionCreationPolicy.STATELESS))
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
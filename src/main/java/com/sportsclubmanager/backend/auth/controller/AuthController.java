@@ -0,0 +1,49 @@
+package com.sportsclubmanager.backend.auth.controller;
+
+import com.sportsclubmanager.backend.auth.dto.RefreshTokenRequest;
+import com.sportsclubmanager.backend.auth.dto.TokenResponse;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.revocation.TokenRevocationStore;
+import com.sportsclubmanager.backend.auth.service.RefreshTokenService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    public AuthController(
+            RefreshTokenService refreshTokenService,
+            TokenRevocationStore tokenRevocationStore) {
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationStore = tokenRevocationStore;
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(
+            @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(
+                refreshTokenService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Revoca el token de acceso usado en la solicitud y, si se envía, la sesión
+     * del token de actualización.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            Authentication authentication,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        if (authentication.getDetails() instanceof JwtTokenDetails details) {
+            tokenRevocationStore.revokeToken(details);
+        }
+        if (request != null) {
+            refreshTokenService.logout(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.sportsclubmanager.backend.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+    @JsonProperty("refresh_token")
+    private String refreshToken;
+}
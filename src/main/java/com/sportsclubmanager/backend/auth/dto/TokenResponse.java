@@ -0,0 +1,29 @@
+package com.sportsclubmanager.backend.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+/**
+ * Tokens devueltos al iniciar sesión o al renovar el token de acceso.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+
+    @JsonProperty("access_token")
+    private String accessToken;
+
+    @JsonProperty("refresh_token")
+    private String refreshToken;
+
+    @JsonProperty("token_type")
+    private String tokenType;
+
+    /**
+     * Segundos que faltan para que expire el token de acceso.
+     */
+    @JsonProperty("expires_in")
+    private long expiresIn;
+}
@@ -0,0 +1,14 @@
+package com.sportsclubmanager.backend.auth.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    /**
+     * Excepción que se lanza cuando un token de actualización no existe, ha
+     * expirado o ya fue utilizado.
+     *
+     * @param message Mensaje descriptivo del error.
+     */
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
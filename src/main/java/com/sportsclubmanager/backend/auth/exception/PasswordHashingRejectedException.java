@@ -0,0 +1,15 @@
+package com.sportsclubmanager.backend.auth.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    /**
+     * Excepción que se lanza cuando la cola de cifrado de contraseñas está llena
+     * y la operación no puede aceptarse.
+     *
+     * @param message Mensaje descriptivo del error.
+     * @param cause   La causa original de la excepción.
+     */
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
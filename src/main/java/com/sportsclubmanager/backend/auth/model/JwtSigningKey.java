@@ -0,0 +1,53 @@
+package com.sportsclubmanager.backend.auth.model;
+
+import jakarta.persistence.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Clave compartida por todos los nodos para firmar y verificar los tokens JWT.
+ * Cada clave se identifica por su {@code kid}, que se incluye en el encabezado
+ * de los tokens firmados con ella.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = { "secret" })
+@Entity
+@Table(name = "jwt_signing_keys")
+public class JwtSigningKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(length = 36)
+    private String kid;
+
+    /**
+     * Secreto HS256 de la clave. Se guarda sin cifrar porque todos los nodos
+     * deben poder leerlo y la aplicación no dispone de una clave maestra con la
+     * que cifrarlo; cifrarlo con un valor de la misma configuración que las
+     * credenciales de la base de datos no añadiría protección. Quien pueda
+     * leer esta tabla puede firmar tokens válidos, por lo que el acceso a ella y
+     * a sus copias de seguridad debe limitarse como el de las credenciales. La
+     * rotación acota el tiempo durante el que un secreto filtrado sirve.
+     */
+    @Column(nullable = false, length = 64)
+    private byte[] secret;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Instante a partir del cual la clave deja de aceptarse para verificar
+     * tokens.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
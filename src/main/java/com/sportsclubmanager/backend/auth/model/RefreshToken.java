@@ -0,0 +1,52 @@
+package com.sportsclubmanager.backend.auth.model;
+
+import jakarta.persistence.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Token de actualización emitido al iniciar sesión. Solo se guarda el hash
+ * SHA-256 del token y cada uso lo reemplaza por uno nuevo de la misma familia.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private String username;
+
+    /**
+     * Identificador compartido por todos los tokens obtenidos a partir del mismo
+     * inicio de sesión.
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Instante en que el token se intercambió por uno nuevo. Un segundo uso
+     * indica que el token fue robado.
+     */
+    @Column(name = "used_at")
+    private Instant usedAt;
+}
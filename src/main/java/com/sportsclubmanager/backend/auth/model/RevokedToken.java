@@ -0,0 +1,36 @@
+package com.sportsclubmanager.backend.auth.model;
+
+import jakarta.persistence.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Revocación de tokens de acceso. La clave identifica un único token
+ * ({@code jti:<id>}) o todos los tokens de un usuario emitidos hasta
+ * {@code revokedAt} ({@code sub:<username>}).
+ * La entrada puede eliminarse cuando expiran todos los tokens afectados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "token_key")
+    private String tokenKey;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
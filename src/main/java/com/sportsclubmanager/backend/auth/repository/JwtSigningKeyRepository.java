@@ -0,0 +1,16 @@
+package com.sportsclubmanager.backend.auth.repository;
+
+import com.sportsclubmanager.backend.auth.model.JwtSigningKey;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+    List<JwtSigningKey> findByExpiresAtAfterOrderByCreatedAtDesc(Instant instant);
+
+    @Modifying
+    @Query("delete from JwtSigningKey k where k.expiresAt <= :instant")
+    int deleteExpired(Instant instant);
+}
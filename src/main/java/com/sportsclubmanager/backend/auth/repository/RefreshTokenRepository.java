@@ -0,0 +1,30 @@
+package com.sportsclubmanager.backend.auth.repository;
+
+import com.sportsclubmanager.backend.auth.model.RefreshToken;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query(
+            value = "update refresh_tokens set used_at = :usedAt where id = :id and used_at is null",
+            nativeQuery = true)
+    int markUsed(Long id, Instant usedAt);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamily(String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.username = :username")
+    int deleteByUsername(String username);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :instant")
+    int deleteExpired(Instant instant);
+}
@@ -0,0 +1,20 @@
+package com.sportsclubmanager.backend.auth.repository;
+
+import com.sportsclubmanager.backend.auth.model.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    @Query("select t.tokenKey from RevokedToken t where t.expiresAt > :instant")
+    List<String> findActiveKeys(Instant instant);
+
+    @Query("select t.tokenKey from RevokedToken t where t.revokedAt >= :instant")
+    List<String> findKeysRevokedSince(Instant instant);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :instant")
+    int deleteExpired(Instant instant);
+}
@@ -0,0 +1,204 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registro de autoridades construido a partir del {@link RoleCatalog}.
+ * Permite codificar los roles de un usuario como una máscara de bits, donde
+ * cada bit corresponde al ID de un rol, y resolver esa máscara a una lista
+ * inmutable de instancias únicas de {@link GrantedAuthority}.
+ */
+@Component
+public class GrantedAuthorityRegistry {
+
+    /**
+     * Mayor ID de rol que puede representarse en la máscara.
+     */
+    private static final int MAX_ROLE_ID = Long.SIZE - 1;
+
+    private final RoleCatalog roleCatalog;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public GrantedAuthorityRegistry(RoleCatalog roleCatalog) {
+        this.roleCatalog = roleCatalog;
+    }
+
+    /**
+     * Obtiene la instantánea correspondiente al estado actual del catálogo.
+     * El catálogo devuelve la misma lista de roles hasta que se vuelve a
+     * cargar, por lo que basta comparar referencias para saber si hay que
+     * reconstruirla.
+     */
+    private Snapshot current() {
+        List<RoleCatalog.RoleEntry> roles = roleCatalog.roles();
+        Snapshot current = snapshot;
+        if (current.source != roles) {
+            current = Snapshot.of(roles);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Codifica un conjunto de autoridades como una máscara de roles.
+     *
+     * @param authorities las autoridades del usuario autenticado
+     * @return la máscara de roles, o -1 si las autoridades no pueden
+     *         representarse de forma exacta con los roles registrados
+     */
+    public long encode(Collection<? extends GrantedAuthority> authorities) {
+        Snapshot current = current();
+        long mask = current.roleMask(authorities);
+
+        Set<String> expected = new LinkedHashSet<>();
+        authorities.forEach(authority -> expected.add(authority.getAuthority()));
+
+        Set<String> decoded = new LinkedHashSet<>();
+        current.resolve(mask).forEach(authority -> decoded.add(authority.getAuthority()));
+
+        return expected.equals(decoded) ? mask : -1L;
+    }
+
+    /**
+     * Calcula la máscara con los roles registrados presentes entre las
+     * autoridades. A diferencia de {@link #encode(Collection)}, se ignoran las
+     * autoridades que no son roles.
+     *
+     * @param authorities las autoridades del usuario autenticado
+     * @return la máscara de roles, o 0 si no tiene ningún rol registrado
+     */
+    public long roleMask(Collection<? extends GrantedAuthority> authorities) {
+        return current().roleMask(authorities);
+    }
+
+    /**
+     * Obtiene el ID con el que un rol se representa en la máscara.
+     *
+     * @param roleName el nombre del rol, con el prefijo {@code ROLE_}
+     * @return el ID del rol, o null si no está registrado o no cabe en la
+     *         máscara
+     */
+    public Long roleId(String roleName) {
+        return current().roleIdsByName.get(roleName);
+    }
+
+    /**
+     * Resuelve una máscara de roles a la lista de autoridades correspondiente.
+     * Las listas se calculan una sola vez por máscara y se reutilizan en las
+     * llamadas posteriores.
+     *
+     * @param mask la máscara de roles
+     * @return lista inmutable con los roles y sus autoridades
+     * @throws IllegalArgumentException si la máscara contiene roles desconocidos
+     */
+    public List<GrantedAuthority> decode(long mask) {
+        return current().resolve(mask);
+    }
+
+    /**
+     * Instantánea inmutable de los roles registrados.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(null, Map.of(), new GrantedAuthority[0][]);
+
+        /**
+         * Lista del catálogo a partir de la cual se construyó la instantánea.
+         */
+        private final List<RoleCatalog.RoleEntry> source;
+
+        private final Map<String, Long> roleIdsByName;
+
+        /**
+         * Autoridades expandidas de cada rol, indexadas por el ID del rol.
+         */
+        private final GrantedAuthority[][] authoritiesByRoleId;
+
+        private final long knownRoles;
+
+        private final Map<Long, List<GrantedAuthority>> authoritiesByMask = new ConcurrentHashMap<>();
+
+        private Snapshot(
+                List<RoleCatalog.RoleEntry> source,
+                Map<String, Long> roleIdsByName,
+                GrantedAuthority[][] authoritiesByRoleId) {
+            this.source = source;
+            this.roleIdsByName = roleIdsByName;
+            this.authoritiesByRoleId = authoritiesByRoleId;
+
+            long known = 0L;
+            for (Long roleId : roleIdsByName.values()) {
+                known |= 1L << roleId;
+            }
+            this.knownRoles = known;
+        }
+
+        private static Snapshot of(List<RoleCatalog.RoleEntry> roles) {
+            Map<String, GrantedAuthority> interned = new HashMap<>();
+            Map<String, Long> roleIdsByName = new HashMap<>();
+            GrantedAuthority[][] authoritiesByRoleId = new GrantedAuthority[MAX_ROLE_ID + 1][];
+
+            for (RoleCatalog.RoleEntry role : roles) {
+                if (role.id() == null || role.id() < 0 || role.id() > MAX_ROLE_ID) {
+                    continue;
+                }
+
+                // El catálogo ya incluye el rol seguido de sus autoridades ordenadas
+                List<GrantedAuthority> expanded = new ArrayList<>();
+                role.expandedAuthorities().forEach(name -> expanded.add(
+                        interned.computeIfAbsent(name, SimpleGrantedAuthority::new)));
+
+                roleIdsByName.put(role.name(), role.id());
+                authoritiesByRoleId[role.id().intValue()] = expanded.toArray(GrantedAuthority[]::new);
+            }
+            return new Snapshot(roles, Map.copyOf(roleIdsByName), authoritiesByRoleId);
+        }
+
+        private long roleMask(Collection<? extends GrantedAuthority> authorities) {
+            long mask = 0L;
+            for (GrantedAuthority authority : authorities) {
+                Long roleId = roleIdsByName.get(authority.getAuthority());
+                if (roleId != null) {
+                    mask |= 1L << roleId;
+                }
+            }
+            return mask;
+        }
+
+        private List<GrantedAuthority> resolve(long mask) {
+            if ((mask & ~knownRoles) != 0) {
+                throw new IllegalArgumentException(
+                        "El token contiene roles desconocidos");
+            }
+
+            List<GrantedAuthority> authorities = authoritiesByMask.get(mask);
+            if (authorities == null) {
+                authorities = authoritiesByMask.computeIfAbsent(mask, this::expand);
+            }
+            return authorities;
+        }
+
+        private List<GrantedAuthority> expand(long mask) {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            for (int roleId = 0; roleId <= MAX_ROLE_ID; roleId++) {
+                if ((mask & (1L << roleId)) != 0) {
+                    Collections.addAll(authorities, authoritiesByRoleId[roleId]);
+                }
+            }
+            return List.copyOf(authorities);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import static com.sportsclubmanager.backend.auth.security.JwtConfig.AUTHORITIES_CLAIM;
+import static com.sportsclubmanager.backend.auth.security.JwtConfig.ROLES_CLAIM;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Codifica y decodifica las autoridades almacenadas en las reclamaciones de
+ * los tokens JWT.
+ * El formato compacto guarda en la reclamación {@code roles} una máscara de
+ * bits con los IDs de los roles del usuario. El formato anterior, que guarda
+ * en {@code authorities} una cadena JSON con todas las autoridades, se sigue
+ * aceptando al validar tokens y se utiliza al emitirlos cuando las
+ * autoridades no pueden representarse con la máscara.
+ */
+@Component
+public class JwtAuthoritiesCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Lector JSON reutilizable para deserializar las autoridades del formato
+     * anterior utilizando una unión personalizada.
+     */
+    private static final ObjectReader LEGACY_AUTHORITIES_READER = new ObjectMapper()
+            .addMixIn(
+                    SimpleGrantedAuthority.class,
+                    SimpleGrantedAuthorityJsonCreator.class)
+            .readerFor(SimpleGrantedAuthority[].class);
+
+    private final GrantedAuthorityRegistry registry;
+
+    public JwtAuthoritiesCodec(GrantedAuthorityRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Agrega las autoridades a las reclamaciones de un token en construcción.
+     *
+     * @param claims      las reclamaciones del token
+     * @param authorities las autoridades del usuario autenticado
+     * @throws JsonProcessingException si las autoridades no pueden serializarse
+     *                                 en el formato anterior
+     */
+    public void write(
+            ClaimsBuilder claims,
+            Collection<? extends GrantedAuthority> authorities)
+            throws JsonProcessingException {
+        long mask = registry.encode(authorities);
+
+        if (mask >= 0) {
+            claims.add(ROLES_CLAIM, mask);
+        } else {
+            claims.add(
+                    AUTHORITIES_CLAIM,
+                    OBJECT_MAPPER.writeValueAsString(authorities));
+        }
+    }
+
+    /**
+     * Obtiene las autoridades de las reclamaciones de un token ya verificado.
+     *
+     * @param claims las reclamaciones del token
+     * @return las autoridades del usuario
+     * @throws IOException si las autoridades del formato anterior no tienen un
+     *                     formato JSON válido
+     */
+    public Collection<? extends GrantedAuthority> read(Claims claims)
+            throws IOException {
+        Object roles = claims.get(ROLES_CLAIM);
+
+        if (roles instanceof Number mask) {
+            return registry.decode(mask.longValue());
+        }
+
+        Object authorityClaims = claims.get(AUTHORITIES_CLAIM);
+
+        // Deserializa la cadena JSON de reclamaciones de autoridad en una colección de
+        // objetos GrantedAuthority utilizando un Jackson ObjectMapper con una unión
+        // personalizada
+        return Arrays.asList(
+                LEGACY_AUTHORITIES_READER.<SimpleGrantedAuthority[]>readValue(
+                        authorityClaims.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Calcula la máscara de roles de las autoridades leídas de un token, para
+     * guardarla junto a la autenticación.
+     *
+     * @param authorities las autoridades del usuario
+     * @return la máscara con los roles registrados presentes
+     */
+    public long roleMask(Collection<? extends GrantedAuthority> authorities) {
+        return registry.roleMask(authorities);
+    }
+}
@@ -1,8 +1,5 @@
 package com.sportsclubmanager.backend.auth.security;
 
-import io.jsonwebtoken.Jwts;
-import javax.crypto.SecretKey;
-
 /**
  * Clase de configuración para el manejo de JSON Web Tokens (JWT).
  * Contiene constantes utilizadas en la autenticación y autorización mediante
@@ -10,12 +7,6 @@ import javax.crypto.SecretKey;
  */
 public class JwtConfig {
 
-    /**
-     * Clave secreta utilizada para firmar los tokens JWT.
-     * Se genera usando el algoritmo HS256.
-     */
-    public static final SecretKey SECRET_KEY = Jwts.SIG.HS256.key().build();
-
     /**
      * Prefijo estándar que se agrega al token JWT en los encabezados de
      * autorización.
@@ -27,6 +18,18 @@ public class JwtConfig {
      */
     public static final String AUTHORIZATION_HEADER = "Authorization";
 
+    /**
+     * Reclamación que contiene la máscara de bits con los IDs de los roles del
+     * usuario.
+     */
+    public static final String ROLES_CLAIM = "roles";
+
+    /**
+     * Reclamación que contiene las autoridades del usuario como una cadena JSON.
+     * Se conserva para aceptar los tokens emitidos con el formato anterior.
+     */
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
     /**
      * Tipo de contenido utilizado en las respuestas HTTP.
      */
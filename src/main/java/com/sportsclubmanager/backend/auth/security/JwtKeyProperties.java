@@ -0,0 +1,39 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de las claves de firma de los tokens JWT.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.jwt.keys")
+public class JwtKeyProperties {
+
+    /**
+     * Tiempo durante el cual una clave se usa para firmar antes de crear una
+     * nueva.
+     */
+    private Duration rotationPeriod = Duration.ofDays(7);
+
+    /**
+     * Tiempo adicional durante el cual una clave reemplazada se sigue aceptando
+     * para verificar. Debe ser mayor que la duración de los tokens.
+     */
+    private Duration overlap = Duration.ofHours(2);
+
+    /**
+     * Intervalo con el que cada nodo vuelve a leer las claves de la base de
+     * datos y comprueba si debe rotarlas.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    /**
+     * Intervalo mínimo entre dos recargas provocadas por tokens con un
+     * {@code kid} desconocido.
+     */
+    private Duration unknownKidReloadInterval = Duration.ofSeconds(10);
+}
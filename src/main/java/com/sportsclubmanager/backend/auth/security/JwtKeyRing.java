@@ -0,0 +1,195 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import com.sportsclubmanager.backend.auth.model.JwtSigningKey;
+import com.sportsclubmanager.backend.auth.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Conjunto de claves de firma de los tokens JWT compartido por todos los nodos
+ * a través de la tabla {@code jwt_signing_keys}.
+ * Los tokens se firman con la clave más reciente y se verifican con la clave
+ * indicada por el {@code kid} de su encabezado, por lo que cualquier nodo puede
+ * validar los tokens emitidos por otro, incluso después de un reinicio.
+ * Las claves se rotan periódicamente y las reemplazadas se siguen aceptando
+ * durante un periodo de solapamiento.
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final int SECRET_LENGTH = 32;
+
+    private final JwtSigningKeyRepository signingKeyRepository;
+    private final JwtKeyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final AtomicLong lastUnknownKidReload;
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+
+    public JwtKeyRing(
+            JwtSigningKeyRepository signingKeyRepository,
+            JwtKeyProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lastUnknownKidReload = new AtomicLong(
+                System.nanoTime() - properties.getUnknownKidReloadInterval().toNanos());
+    }
+
+    /**
+     * Clave con la que se firman los nuevos tokens.
+     *
+     * @param kid identificador de la clave
+     * @param key clave secreta HS256
+     */
+    public record SigningKey(String kid, SecretKey key) {
+    }
+
+    @PostConstruct
+    public void initialize() {
+        rotate();
+    }
+
+    /**
+     * Obtiene la clave con la que se deben firmar los nuevos tokens.
+     *
+     * @return la clave de firma actual
+     * @throws IllegalStateException si no hay ninguna clave vigente
+     */
+    public SigningKey currentSigningKey() {
+        SigningKey signingKey = keySet.signingKey();
+        if (signingKey == null) {
+            throw new IllegalStateException("No hay claves de firma vigentes");
+        }
+        return signingKey;
+    }
+
+    /**
+     * Localiza la clave de verificación indicada por el {@code kid} del token.
+     * Si el {@code kid} no se conoce se vuelven a leer las claves, como mucho
+     * una vez por intervalo configurado, por si otro nodo acaba de rotarlas.
+     *
+     * @param header el encabezado del token
+     * @return la clave de verificación
+     * @throws SignatureException si el token no tiene {@code kid} o la clave no
+     *                            existe o ha expirado
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new SignatureException("El token no indica la clave de firma");
+        }
+
+        Key key = keySet.verificationKeys().get(kid);
+        if (key == null && shouldReloadForUnknownKid()) {
+            reload();
+            key = keySet.verificationKeys().get(kid);
+        }
+        if (key == null) {
+            throw new SignatureException("Clave de firma desconocida: " + kid);
+        }
+        return key;
+    }
+
+    @Override
+    protected Key doLocate(Header header) {
+        throw new SignatureException("El token debe estar firmado");
+    }
+
+    /**
+     * Crea una nueva clave si la más reciente ya cumplió su periodo de rotación,
+     * elimina las expiradas y vuelve a leer el conjunto de claves.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.security.jwt.keys.refresh-interval:PT1M}",
+            initialDelayString = "${app.security.jwt.keys.refresh-interval:PT1M}")
+    public void rotate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Instant now = Instant.now();
+            List<JwtSigningKey> keys = signingKeyRepository
+                    .findByExpiresAtAfterOrderByCreatedAtDesc(now);
+
+            boolean rotationDue = keys.isEmpty() || keys.get(0)
+                    .getCreatedAt()
+                    .plus(properties.getRotationPeriod())
+                    .isBefore(now);
+
+            if (rotationDue) {
+                byte[] secret = new byte[SECRET_LENGTH];
+                secureRandom.nextBytes(secret);
+
+                JwtSigningKey signingKey = new JwtSigningKey(
+                        UUID.randomUUID().toString(),
+                        secret,
+                        now,
+                        now.plus(properties.getRotationPeriod())
+                                .plus(properties.getOverlap()));
+                signingKeyRepository.save(signingKey);
+                log.info("Se creó la clave de firma JWT {}", signingKey.getKid());
+            }
+
+            signingKeyRepository.deleteExpired(now);
+        });
+        reload();
+    }
+
+    /**
+     * Vuelve a leer las claves vigentes de la base de datos.
+     */
+    public void reload() {
+        List<JwtSigningKey> keys = signingKeyRepository
+                .findByExpiresAtAfterOrderByCreatedAtDesc(Instant.now());
+
+        Map<String, SecretKey> verificationKeys = new HashMap<>();
+        for (JwtSigningKey key : keys) {
+            verificationKeys.put(key.getKid(), Keys.hmacShaKeyFor(key.getSecret()));
+        }
+
+        SigningKey signingKey = keys.isEmpty()
+                ? null
+                : new SigningKey(
+                        keys.get(0).getKid(),
+                        verificationKeys.get(keys.get(0).getKid()));
+
+        keySet = new KeySet(Map.copyOf(verificationKeys), signingKey);
+    }
+
+    private boolean shouldReloadForUnknownKid() {
+        long now = System.nanoTime();
+        long last = lastUnknownKidReload.get();
+        return now - last >= properties.getUnknownKidReloadInterval().toNanos()
+                && lastUnknownKidReload.compareAndSet(last, now);
+    }
+
+    private record KeySet(
+            Map<String, SecretKey> verificationKeys,
+            SigningKey signingKey) {
+
+        private static final KeySet EMPTY = new KeySet(Map.of(), null);
+    }
+}
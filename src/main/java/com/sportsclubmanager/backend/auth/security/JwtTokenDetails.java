@@ -0,0 +1,22 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import java.time.Instant;
+
+/**
+ * Datos del token JWT que se guardan como detalles de la autenticación para
+ * poder comprobar su revocación sin volver a analizar el token.
+ *
+ * @param tokenId   el identificador del token (reclamación {@code jti}); puede
+ *                  ser nulo en los tokens emitidos con el formato anterior
+ * @param issuedAt  el instante de emisión (reclamación {@code iat})
+ * @param expiresAt el instante de expiración (reclamación {@code exp})
+ * @param roleMask  la máscara con los IDs de los roles del usuario, calculada
+ *                  una sola vez por token para las comprobaciones de
+ *                  autorización
+ */
+public record JwtTokenDetails(
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt,
+        long roleMask) {
+}
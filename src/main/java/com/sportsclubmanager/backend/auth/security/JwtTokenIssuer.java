@@ -0,0 +1,71 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.Jwts;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite los tokens de acceso JWT firmados con la clave de firma actual.
+ */
+@Component
+public class JwtTokenIssuer {
+
+    private final JwtAuthoritiesCodec authoritiesCodec;
+    private final JwtKeyRing keyRing;
+    private final JwtTokenProperties properties;
+
+    public JwtTokenIssuer(
+            JwtAuthoritiesCodec authoritiesCodec,
+            JwtKeyRing keyRing,
+            JwtTokenProperties properties) {
+        this.authoritiesCodec = authoritiesCodec;
+        this.keyRing = keyRing;
+        this.properties = properties;
+    }
+
+    /**
+     * Emite un token de acceso para el usuario con sus autoridades.
+     *
+     * @param username    el nombre de usuario
+     * @param authorities las autoridades del usuario
+     * @return el token de acceso firmado
+     */
+    public String issueAccessToken(
+            String username,
+            Collection<? extends GrantedAuthority> authorities) {
+        ClaimsBuilder claimsBuilder = Jwts.claims().add("username", username);
+        try {
+            authoritiesCodec.write(claimsBuilder, authorities);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudieron serializar las autoridades del token", e);
+        }
+
+        JwtKeyRing.SigningKey signingKey = keyRing.currentSigningKey();
+        Instant now = Instant.now();
+
+        return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claims(claimsBuilder.build())
+                .expiration(Date.from(now.plus(properties.getAccessTokenTtl())))
+                .issuedAt(Date.from(now))
+                .signWith(signingKey.key())
+                .compact();
+    }
+
+    /**
+     * Obtiene la duración de los tokens de acceso en segundos.
+     *
+     * @return la duración en segundos
+     */
+    public long getAccessTokenTtlSeconds() {
+        return properties.getAccessTokenTtl().toSeconds();
+    }
+}
@@ -0,0 +1,27 @@
+package com.sportsclubmanager.backend.auth.security;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la duración de los tokens emitidos.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.jwt")
+public class JwtTokenProperties {
+
+    /**
+     * Duración de los tokens de acceso. Debe ser menor que el solapamiento de
+     * las claves de firma.
+     */
+    private Duration accessTokenTtl = Duration.ofHours(1);
+
+    /**
+     * Duración de los tokens de actualización. Cada uso emite uno nuevo con la
+     * duración completa.
+     */
+    private Duration refreshTokenTtl = Duration.ofDays(30);
+}
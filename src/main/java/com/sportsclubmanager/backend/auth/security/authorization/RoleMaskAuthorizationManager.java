@@ -0,0 +1,171 @@
+package com.sportsclubmanager.backend.auth.security.authorization;
+
+import com.sportsclubmanager.backend.auth.security.GrantedAuthorityRegistry;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Gestor de autorización para {@link PreAuthorize} que resuelve las
+ * expresiones {@code hasRole(...)} y {@code hasAnyRole(...)} sin evaluar SpEL.
+ * La primera vez que se invoca un método, su expresión se compila a una
+ * máscara con los IDs de los roles permitidos; la decisión es entonces un AND
+ * con la máscara de roles del usuario, que se calcula una sola vez por token.
+ * Las expresiones con otra forma se delegan en el gestor estándar.
+ */
+public final class RoleMaskAuthorizationManager
+        implements AuthorizationManager<MethodInvocation> {
+
+    private static final Pattern ROLE_EXPRESSION = Pattern.compile(
+            "^\\s*has(?:Any)?Role\\((.*)\\)\\s*$");
+    private static final Pattern ROLE_ARGUMENT = Pattern.compile(
+            "^\\s*'([A-Za-z0-9_]+)'\\s*$");
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Supplier<RoleCatalog> roleCatalog;
+    private final Supplier<GrantedAuthorityRegistry> authorityRegistry;
+    private final AuthorizationManager<MethodInvocation> fallback;
+
+    private volatile CompiledRules rules = new CompiledRules(null);
+
+    /**
+     * @param roleCatalog       el catálogo de roles, resuelto en la primera
+     *                          autorización
+     * @param authorityRegistry el registro que calcula las máscaras de roles,
+     *                          resuelto en la primera autorización
+     * @param fallback          el gestor que evalúa las expresiones que no
+     *                          pueden compilarse
+     */
+    public RoleMaskAuthorizationManager(
+            Supplier<RoleCatalog> roleCatalog,
+            Supplier<GrantedAuthorityRegistry> authorityRegistry,
+            AuthorizationManager<MethodInvocation> fallback) {
+        this.roleCatalog = roleCatalog;
+        this.authorityRegistry = authorityRegistry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public AuthorizationResult authorize(
+            Supplier<Authentication> authentication,
+            MethodInvocation invocation) {
+        Rule rule = rule(invocation);
+
+        if (rule == Rule.FALLBACK) {
+            return fallback.authorize(authentication, invocation);
+        }
+
+        Authentication current = authentication.get();
+        return new AuthorizationDecision(
+                current != null && (roleMask(current) & rule.requiredRoles()) != 0);
+    }
+
+    /**
+     * @deprecated usar {@link #authorize(Supplier, MethodInvocation)}
+     */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(
+            Supplier<Authentication> authentication,
+            MethodInvocation invocation) {
+        AuthorizationResult result = authorize(authentication, invocation);
+        if (result == null || result instanceof AuthorizationDecision) {
+            return (AuthorizationDecision) result;
+        }
+        return new AuthorizationDecision(result.isGranted());
+    }
+
+    private long roleMask(Authentication authentication) {
+        if (authentication.getDetails() instanceof JwtTokenDetails details) {
+            return details.roleMask();
+        }
+        return authorityRegistry.get().roleMask(authentication.getAuthorities());
+    }
+
+    private Rule rule(MethodInvocation invocation) {
+        // Las reglas se descartan si el catálogo se volvió a cargar
+        List<RoleCatalog.RoleEntry> roles = roleCatalog.get().roles();
+        CompiledRules current = rules;
+        if (current.source() != roles) {
+            current = new CompiledRules(roles);
+            rules = current;
+        }
+
+        Method method = invocation.getMethod();
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : null;
+
+        return current.byMethod().computeIfAbsent(
+                new MethodClassKey(method, targetClass),
+                key -> compile(method, targetClass));
+    }
+
+    private Rule compile(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+        PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(
+                specificMethod,
+                PreAuthorize.class);
+        if (preAuthorize == null) {
+            preAuthorize = AnnotatedElementUtils.findMergedAnnotation(
+                    specificMethod.getDeclaringClass(),
+                    PreAuthorize.class);
+        }
+        if (preAuthorize == null) {
+            return Rule.FALLBACK;
+        }
+
+        Matcher expression = ROLE_EXPRESSION.matcher(preAuthorize.value());
+        if (!expression.matches()) {
+            return Rule.FALLBACK;
+        }
+
+        long requiredRoles = 0L;
+        for (String argument : expression.group(1).split(",")) {
+            Matcher role = ROLE_ARGUMENT.matcher(argument);
+            if (!role.matches()) {
+                return Rule.FALLBACK;
+            }
+
+            Long roleId = authorityRegistry.get().roleId(ROLE_PREFIX + role.group(1));
+            if (roleId == null) {
+                // Un rol desconocido solo puede comprobarse contra las autoridades
+                return Rule.FALLBACK;
+            }
+            requiredRoles |= 1L << roleId;
+        }
+        return new Rule(requiredRoles);
+    }
+
+    /**
+     * Roles permitidos por la expresión de un método.
+     */
+    private record Rule(long requiredRoles) {
+
+        private static final Rule FALLBACK = new Rule(0L);
+    }
+
+    private record CompiledRules(
+            List<RoleCatalog.RoleEntry> source,
+            Map<MethodClassKey, Rule> byMethod) {
+
+        private CompiledRules(List<RoleCatalog.RoleEntry> source) {
+            this(source, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.sportsclubmanager.backend.auth.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sportsclubmanager.backend.user.event.RolesChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caché acotada de tokens JWT ya verificados.
+ * Asocia el token recibido con los datos inmutables de sus reclamaciones, de
+ * modo que las solicitudes repetidas con el mismo token no vuelvan a verificar
+ * la firma ni a deserializar las autoridades. Cada solicitud construye su
+ * propia autenticación a partir de ellos.
+ * Ninguna entrada permanece en la caché más allá de la expiración del token.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtTokenCache(
+            JwtTokenCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry(properties.getMaximumTtl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.tokens");
+    }
+
+    /**
+     * Obtiene los datos de un token previamente verificado.
+     *
+     * @param token el token JWT sin el prefijo
+     * @return los datos del token en caché, o null si el token no está en la
+     *         caché
+     */
+    public VerifiedToken get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    /**
+     * Almacena los datos de un token verificado hasta su expiración.
+     *
+     * @param token    el token JWT sin el prefijo
+     * @param verified los datos construidos a partir del token; si no tienen
+     *                 expiración (reclamación {@code exp}) el token no se
+     *                 almacena
+     */
+    public void put(String token, VerifiedToken verified) {
+        Instant expiresAt = verified.details().expiresAt();
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        cache.put(token, verified);
+    }
+
+    /**
+     * Elimina todas las entradas de la caché.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Vacía la caché cuando cambian los roles, ya que las autoridades de las
+     * autenticaciones almacenadas dependen de ellos.
+     *
+     * @param event el evento de cambio de roles
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Calcula el tiempo de vida de cada entrada como el menor valor entre el
+     * tiempo restante hasta la expiración del token y el máximo configurado.
+     */
+    private static final class TokenExpiry
+            implements Expiry<String, VerifiedToken> {
+
+        private final long maximumTtlNanos;
+
+        private TokenExpiry(Duration maximumTtl) {
+            this.maximumTtlNanos = maximumTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(
+                String token,
+                VerifiedToken verified,
+                long currentTime) {
+            long remaining = Duration.between(Instant.now(), verified.details().expiresAt())
+                    .toNanos();
+            return Math.max(0, Math.min(remaining, maximumTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String token,
+                VerifiedToken verified,
+                long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                String token,
+                VerifiedToken verified,
+                long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
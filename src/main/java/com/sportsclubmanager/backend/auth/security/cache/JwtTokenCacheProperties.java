@@ -0,0 +1,26 @@
+package com.sportsclubmanager.backend.auth.security.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la caché de tokens JWT verificados.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.jwt.token-cache")
+public class JwtTokenCacheProperties {
+
+    /**
+     * Número máximo de tokens que se mantienen en la caché.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Tiempo máximo que un token permanece en la caché, aunque su expiración
+     * sea posterior.
+     */
+    private Duration maximumTtl = Duration.ofMinutes(15);
+}
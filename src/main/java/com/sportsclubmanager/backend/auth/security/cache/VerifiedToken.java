@@ -0,0 +1,41 @@
+package com.sportsclubmanager.backend.auth.security.cache;
+
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import java.util.List;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Datos inmutables de un token JWT ya verificado.
+ * Es lo que se guarda en la caché de tokens: a diferencia de la autenticación,
+ * que es mutable y acaba en el SecurityContext de cada solicitud, puede
+ * compartirse entre hilos sin riesgo.
+ *
+ * @param username    el usuario del token (reclamación {@code sub})
+ * @param authorities las autoridades del usuario
+ * @param details     los datos del token
+ */
+public record VerifiedToken(
+        String username,
+        List<GrantedAuthority> authorities,
+        JwtTokenDetails details) {
+
+    public VerifiedToken {
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Construye una autenticación nueva para la solicitud actual.
+     *
+     * @return la autenticación con el usuario, sus autoridades y los datos del
+     *         token como detalles
+     */
+    public UsernamePasswordAuthenticationToken toAuthentication() {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                username,
+                null,
+                authorities);
+        authentication.setDetails(details);
+        return authentication;
+    }
+}
@@ -3,25 +3,25 @@ package com.sportsclubmanager.backend.auth.security.filter;
 import static com.sportsclubmanager.backend.auth.security.JwtConfig.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.auth.dto.TokenResponse;
+import com.sportsclubmanager.backend.auth.exception.PasswordHashingRejectedException;
+import com.sportsclubmanager.backend.auth.service.RefreshTokenService;
 import com.sportsclubmanager.backend.user.model.User;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
@@ -36,16 +36,20 @@ public class JwtAuthenticationFilter
             JwtAuthenticationFilter.class);
 
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Constructor que recibe el AuthenticationManager necesario para el proceso de
      * autenticación.
      *
      * @param authenticationManager El gestor de autenticación a utilizar
+     * @param refreshTokenService   El servicio que emite los tokens de la sesión
      */
     public JwtAuthenticationFilter(
-            AuthenticationManager authenticationManager) {
+            AuthenticationManager authenticationManager,
+            RefreshTokenService refreshTokenService) {
         this.authenticationManager = authenticationManager;
+        this.refreshTokenService = refreshTokenService;
     }
 
     /**
@@ -79,11 +83,17 @@ public class JwtAuthenticationFilter
 
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(username,
                 password);
-        return authenticationManager.authenticate(authenticationToken);
+
+        try {
+            return authenticationManager.authenticate(authenticationToken);
+        } catch (PasswordHashingRejectedException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
     }
 
     /**
-     * Maneja la autenticación exitosa generando un token JWT.
+     * Maneja la autenticación exitosa generando un token JWT y un token de
+     * actualización.
      * El token incluye el nombre de usuario y sus autoridades.
      *
      * @param request    La solicitud HTTP
@@ -99,29 +109,10 @@ public class JwtAuthenticationFilter
             HttpServletResponse response,
             FilterChain chain,
             Authentication authResult) throws IOException, ServletException {
-        org.springframework.security.core.userdetails.User user = (org.springframework.security.core.userdetails.User) authResult
-                .getPrincipal();
-
-        String username = user.getUsername();
-        Collection<? extends GrantedAuthority> authorities = user.getAuthorities();
-
-        Claims claims = Jwts.claims()
-                .add(
-                        "authorities",
-                        new ObjectMapper().writeValueAsString(authorities))
-                .add("username", username)
-                .build();
-
-        String token = Jwts.builder()
-                .subject(username)
-                .claims(claims)
-                .expiration(new Date(System.currentTimeMillis() + 3600000)) // 1 hora
-                .issuedAt(new Date())
-                .signWith(SECRET_KEY)
-                .compact();
+        UserDetails user = (UserDetails) authResult.getPrincipal();
 
-        Map<String, String> body = new HashMap<>();
-        body.put("access_token", token);
+        TokenResponse body = refreshTokenService.login(user);
+        String token = body.getAccessToken();
 
         response.addHeader(AUTHORIZATION_HEADER, PREFIX_TOKEN + token);
         response.getWriter().write(new ObjectMapper().writeValueAsString(body));
@@ -147,8 +138,15 @@ public class JwtAuthenticationFilter
         body.put("mensaje", "Login fallido");
         body.put("error", failed.getMessage());
 
+        // El rechazo por saturación del cifrado no es un error de credenciales
+        if (failed.getCause() instanceof PasswordHashingRejectedException) {
+            response.setHeader("Retry-After", "1");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } else {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        }
+
         response.getWriter().write(new ObjectMapper().writeValueAsString(body));
         response.setContentType(CONTENT_TYPE);
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     }
 }
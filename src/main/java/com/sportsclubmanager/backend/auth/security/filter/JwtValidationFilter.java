@@ -3,22 +3,29 @@ package com.sportsclubmanager.backend.auth.security.filter;
 import static com.sportsclubmanager.backend.auth.security.JwtConfig.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sportsclubmanager.backend.auth.security.SimpleGrantedAuthorityJsonCreator;
+import com.sportsclubmanager.backend.auth.security.JwtAuthoritiesCodec;
+import com.sportsclubmanager.backend.auth.security.JwtKeyRing;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.cache.JwtTokenCache;
+import com.sportsclubmanager.backend.auth.security.cache.VerifiedToken;
+import com.sportsclubmanager.backend.auth.security.revocation.TokenRevocationStore;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
@@ -29,13 +36,32 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
  */
 public class JwtValidationFilter extends BasicAuthenticationFilter {
 
+    private final JwtParser jwtParser;
+
+    private final JwtTokenCache tokenCache;
+    private final JwtAuthoritiesCodec authoritiesCodec;
+    private final TokenRevocationStore revocationStore;
+
     /**
      * Constructor que recibe el AuthenticationManager necesario para la validación.
      *
      * @param authenticationManager El gestor de autenticación a utilizar
+     * @param tokenCache            La caché de tokens ya verificados
+     * @param authoritiesCodec      El decodificador de las autoridades del token
+     * @param keyRing               Las claves de verificación indexadas por kid
+     * @param revocationStore       El registro de tokens revocados
      */
-    public JwtValidationFilter(AuthenticationManager authenticationManager) {
+    public JwtValidationFilter(
+            AuthenticationManager authenticationManager,
+            JwtTokenCache tokenCache,
+            JwtAuthoritiesCodec authoritiesCodec,
+            JwtKeyRing keyRing,
+            TokenRevocationStore revocationStore) {
         super(authenticationManager);
+        this.jwtParser = Jwts.parser().keyLocator(keyRing).build();
+        this.tokenCache = tokenCache;
+        this.authoritiesCodec = authoritiesCodec;
+        this.revocationStore = revocationStore;
     }
 
     /**
@@ -63,33 +89,22 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
         String token = header.replace(PREFIX_TOKEN, "");
 
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(SECRET_KEY)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            String username = claims.getSubject();
-            Object authorityClaims = claims.get("authorities");
-
-            // Deserializa la cadena JSON de reclamaciones de autoridad en una colección de
-            // objetos GrantedAuthority utilizando un Jackson ObjectMapper con una unión
-            // personalizada
-            Collection<? extends GrantedAuthority> authorities = Arrays.asList(
-                    new ObjectMapper()
-                            .addMixIn(
-                                    SimpleGrantedAuthority.class,
-                                    SimpleGrantedAuthorityJsonCreator.class)
-                            .readValue(
-                                    authorityClaims.toString().getBytes(),
-                                    SimpleGrantedAuthority[].class));
-
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                    username,
-                    null,
-                    authorities);
+            VerifiedToken verified = tokenCache.get(token);
+
+            if (verified == null) {
+                Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+                verified = toVerifiedToken(claims);
+                tokenCache.put(token, verified);
+            }
+
+            // Se comprueba también con los tokens en caché, que pudieron
+            // revocarse después de almacenarse
+            if (revocationStore.isRevoked(verified.username(), verified.details())) {
+                throw new JwtException("El token ha sido revocado");
+            }
 
             SecurityContextHolder.getContext()
-                    .setAuthentication(authenticationToken);
+                    .setAuthentication(verified.toAuthentication());
             chain.doFilter(request, response);
         } catch (Exception e) {
             Map<String, String> body = new HashMap<>();
@@ -102,4 +117,28 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         }
     }
+
+    /**
+     * Extrae los datos de un token ya verificado a partir de sus reclamaciones.
+     *
+     * @param claims las reclamaciones del token
+     * @return el nombre de usuario, sus autoridades y los datos del token
+     * @throws IOException si las autoridades no tienen un formato válido
+     */
+    private VerifiedToken toVerifiedToken(Claims claims) throws IOException {
+        Collection<? extends GrantedAuthority> authorities = authoritiesCodec.read(claims);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                List.copyOf(authorities),
+                new JwtTokenDetails(
+                        claims.getId(),
+                        toInstant(claims.getIssuedAt()),
+                        toInstant(claims.getExpiration()),
+                        authoritiesCodec.roleMask(authorities)));
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
 }
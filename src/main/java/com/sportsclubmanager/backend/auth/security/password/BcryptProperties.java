@@ -0,0 +1,38 @@
+package com.sportsclubmanager.backend.auth.security.password;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del coste de BCrypt.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.password.bcrypt")
+public class BcryptProperties {
+
+    /**
+     * Tiempo objetivo para cifrar o verificar una contraseña. Al iniciar se
+     * elige el mayor coste cuyo tiempo estimado no supera este valor.
+     */
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    /**
+     * Coste mínimo permitido, aunque supere el tiempo objetivo.
+     */
+    private int minStrength = 10;
+
+    /**
+     * Coste máximo permitido.
+     */
+    private int maxStrength = 14;
+
+    /**
+     * Coste fijo. Si es mayor que 0 no se realiza la calibración; es útil para
+     * que todos los nodos de un despliegue con hardware distinto usen el mismo
+     * coste.
+     */
+    private int strength = 0;
+}
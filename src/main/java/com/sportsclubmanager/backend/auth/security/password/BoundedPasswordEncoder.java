@@ -0,0 +1,138 @@
+package com.sportsclubmanager.backend.auth.security.password;
+
+import com.sportsclubmanager.backend.auth.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} que ejecuta el cifrado y la verificación de
+ * contraseñas en un grupo de hilos dedicado, con el tamaño del número de
+ * procesadores y una cola acotada.
+ * Así el trabajo de BCrypt no puede ocupar todos los hilos del servidor: cuando
+ * la cola está llena la operación se rechaza de inmediato con
+ * {@link PasswordHashingRejectedException}, que se responde con un estado 503.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            PasswordHashingProperties properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder(METRIC_PREFIX)
+                .description("Tiempo de cifrado y verificación de contraseñas")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX)
+                .description("Tiempo de cifrado y verificación de contraseñas")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Operaciones rechazadas por tener la cola llena")
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("Operaciones en espera de un hilo de cifrado")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operaciones de cifrado en ejecución")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(
+                matchesTimer,
+                () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Ejecuta una operación en el grupo de hilos dedicado y espera su resultado.
+     *
+     * @param timer el temporizador que registra la duración de la operación
+     * @param task  la operación a ejecutar
+     * @param <T>  el tipo del resultado
+     * @return el resultado de la operación
+     * @throws PasswordHashingRejectedException si la cola de operaciones está
+     *                                          llena
+     */
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException(
+                    "El servicio de cifrado de contraseñas está saturado, intente de nuevo más tarde",
+                    e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Se interrumpió el cifrado de la contraseña",
+                    e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(
+                    "Error al cifrar la contraseña",
+                    e.getCause());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sportsclubmanager.backend.auth.security.password;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Codificador BCrypt cuyo coste se elige al iniciar la aplicación midiendo el
+ * tiempo de cifrado en el hardware actual.
+ * Como {@link BCryptPasswordEncoder}, solo vuelve a cifrar las contraseñas con
+ * un coste menor que el calibrado: un nodo más lento o una nueva calibración
+ * no rebajan el coste de las contraseñas almacenadas, y los nodos calibrados
+ * con costes distintos no cifran de nuevo la misma contraseña en cada inicio
+ * de sesión.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(
+            CalibratedBCryptPasswordEncoder.class);
+
+    /**
+     * Coste con el que se mide el tiempo de cifrado. Cada unidad adicional de
+     * coste duplica el tiempo.
+     */
+    private static final int SAMPLE_STRENGTH = 8;
+    private static final int SAMPLES = 5;
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Crea un codificador con el coste configurado o, si no hay uno fijo, con el
+     * coste calibrado según el tiempo objetivo.
+     *
+     * @param properties las propiedades de configuración de BCrypt
+     * @return el codificador creado
+     */
+    public static CalibratedBCryptPasswordEncoder create(
+            BcryptProperties properties) {
+        if (properties.getStrength() > 0) {
+            return new CalibratedBCryptPasswordEncoder(properties.getStrength());
+        }
+
+        int strength = calibrate(
+                properties.getTargetLatency(),
+                properties.getMinStrength(),
+                properties.getMaxStrength());
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Calcula el mayor coste cuyo tiempo estimado de cifrado no supera el
+     * tiempo objetivo.
+     *
+     * @param targetLatency el tiempo objetivo
+     * @param minStrength   el coste mínimo permitido
+     * @param maxStrength   el coste máximo permitido
+     * @return el coste elegido
+     */
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        String salt = BCrypt.gensalt(SAMPLE_STRENGTH);
+        long[] samples = new long[SAMPLES];
+
+        // La primera medición incluye la carga de clases y no se tiene en cuenta
+        BCrypt.hashpw("calibracion", salt);
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibracion", salt);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long sampleNanos = samples[SAMPLES / 2];
+
+        int strength = minStrength;
+        while (strength < maxStrength
+                && estimate(sampleNanos, strength + 1) <= targetLatency.toNanos()) {
+            strength++;
+        }
+
+        log.info(
+                "Coste de BCrypt calibrado en {} (~{} ms por contraseña, objetivo {} ms)",
+                strength,
+                estimate(sampleNanos, strength) / 1_000_000,
+                targetLatency.toMillis());
+        return strength;
+    }
+
+    private static long estimate(long sampleNanos, int strength) {
+        return sampleNanos << (strength - SAMPLE_STRENGTH);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sportsclubmanager.backend.auth.security.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del ejecutor dedicado al cifrado y la
+ * verificación de contraseñas.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.password.hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Número de hilos del ejecutor. Si es 0 se utiliza el número de
+     * procesadores disponibles.
+     */
+    private int threads = 0;
+
+    /**
+     * Número máximo de operaciones en espera. Las operaciones que no caben en
+     * la cola se rechazan inmediatamente.
+     */
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,33 @@
+package com.sportsclubmanager.backend.auth.security.revocation;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la revocación de tokens.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.jwt.revocation")
+public class TokenRevocationProperties {
+
+    /**
+     * Número de revocaciones vigentes para el que se dimensiona el filtro de
+     * Bloom. Si se supera, el filtro se redimensiona en la siguiente purga.
+     */
+    private int expectedInsertions = 100_000;
+
+    /**
+     * Probabilidad de falsos positivos del filtro, que se confirman contra la
+     * base de datos.
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * Intervalo con el que cada nodo incorpora las revocaciones registradas por
+     * los demás nodos.
+     */
+    private Duration syncInterval = Duration.ofSeconds(5);
+}
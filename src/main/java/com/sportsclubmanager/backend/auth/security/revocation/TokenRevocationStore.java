@@ -0,0 +1,181 @@
+package com.sportsclubmanager.backend.auth.security.revocation;
+
+import com.sportsclubmanager.backend.auth.model.RevokedToken;
+import com.sportsclubmanager.backend.auth.repository.RevokedTokenRepository;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.JwtTokenProperties;
+import com.sportsclubmanager.backend.user.event.UserAccessRevokedEvent;
+import com.sportsclubmanager.backend.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registro de tokens de acceso revocados.
+ * Las revocaciones se guardan en la tabla {@code revoked_tokens} y sus claves
+ * se añaden a un filtro de Bloom en memoria. En el caso habitual (token no
+ * revocado) la comprobación solo consulta el filtro; únicamente los posibles
+ * positivos se confirman contra la base de datos.
+ * Cada nodo incorpora periódicamente las revocaciones registradas por los
+ * demás, y el filtro se reconstruye al purgar las entradas expiradas.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String USER_PREFIX = "sub:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationProperties properties;
+    private final JwtTokenProperties tokenProperties;
+
+    private volatile BloomFilter filter;
+    private volatile Instant lastSync;
+
+    public TokenRevocationStore(
+            RevokedTokenRepository revokedTokenRepository,
+            UserRepository userRepository,
+            TokenRevocationProperties properties,
+            JwtTokenProperties tokenProperties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.tokenProperties = tokenProperties;
+    }
+
+    /**
+     * Comprueba si un token está revocado, ya sea individualmente o porque se
+     * revocaron todos los tokens de su usuario después de emitirlo.
+     *
+     * @param username el usuario del token
+     * @param details  los datos del token
+     * @return true si el token está revocado
+     */
+    public boolean isRevoked(String username, JwtTokenDetails details) {
+        BloomFilter current = filter;
+        String tokenKey = details.tokenId() != null ? TOKEN_PREFIX + details.tokenId() : null;
+        String userKey = USER_PREFIX + username;
+
+        boolean tokenCandidate = tokenKey != null && current.mightContain(tokenKey);
+        boolean userCandidate = current.mightContain(userKey);
+
+        if (!tokenCandidate && !userCandidate) {
+            return false;
+        }
+
+        if (tokenCandidate && revokedTokenRepository.existsById(tokenKey)) {
+            return true;
+        }
+
+        if (userCandidate) {
+            Optional<RevokedToken> revocation = revokedTokenRepository.findById(userKey);
+            return revocation.isPresent()
+                    && (details.issuedAt() == null
+                            || !details.issuedAt().isAfter(
+                                    revocation.get().getRevokedAt().truncatedTo(ChronoUnit.SECONDS)));
+        }
+        return false;
+    }
+
+    /**
+     * Revoca un único token hasta su expiración.
+     *
+     * @param details los datos del token
+     */
+    @Transactional
+    public void revokeToken(JwtTokenDetails details) {
+        if (details.tokenId() == null || details.expiresAt() == null) {
+            return;
+        }
+        save(TOKEN_PREFIX + details.tokenId(), details.expiresAt());
+    }
+
+    /**
+     * Revoca todos los tokens del usuario emitidos hasta este momento. La
+     * entrada dura lo mismo que un token de acceso.
+     *
+     * @param username el nombre de usuario
+     */
+    @Transactional
+    public void revokeUser(String username) {
+        save(
+                USER_PREFIX + username,
+                Instant.now().plus(tokenProperties.getAccessTokenTtl()));
+    }
+
+    /**
+     * Revoca los tokens de un usuario suspendido o eliminado. Se ejecuta dentro
+     * de la transacción que modifica la cuenta.
+     *
+     * @param event el evento de pérdida de acceso
+     */
+    @EventListener
+    @Transactional
+    public void onUserAccessRevoked(UserAccessRevokedEvent event) {
+        userRepository.findUsernameById(event.userId()).ifPresent(this::revokeUser);
+    }
+
+    /**
+     * Incorpora al filtro las revocaciones registradas por otros nodos desde la
+     * última sincronización.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.security.jwt.revocation.sync-interval:PT5S}",
+            initialDelayString = "${app.security.jwt.revocation.sync-interval:PT5S}")
+    public void sync() {
+        // Se solapa un intervalo para no perder revocaciones por desfases de reloj
+        Instant since = lastSync.minus(properties.getSyncInterval());
+        Instant now = Instant.now();
+
+        BloomFilter current = filter;
+        revokedTokenRepository.findKeysRevokedSince(since).forEach(current::put);
+        lastSync = now;
+    }
+
+    /**
+     * Elimina las revocaciones de tokens ya expirados y reconstruye el filtro
+     * con las vigentes.
+     */
+    @Scheduled(cron = "${app.security.jwt.revocation.purge-cron:0 */15 * * * *}")
+    @Transactional
+    public void purge() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        log.info("Se eliminaron {} revocaciones de tokens expiradas", deleted);
+        rebuild();
+    }
+
+    /**
+     * Construye un filtro nuevo con las revocaciones vigentes.
+     */
+    @PostConstruct
+    public void rebuild() {
+        Instant now = Instant.now();
+        List<String> keys = revokedTokenRepository.findActiveKeys(now);
+
+        BloomFilter rebuilt = new BloomFilter(
+                Math.max(properties.getExpectedInsertions(), 2L * keys.size()),
+                properties.getFalsePositiveProbability());
+        keys.forEach(rebuilt::put);
+
+        filter = rebuilt;
+        lastSync = now;
+    }
+
+    private void save(String key, Instant expiresAt) {
+        revokedTokenRepository.save(new RevokedToken(key, Instant.now(), expiresAt));
+        // Si la transacción se revierte, la clave solo provoca una confirmación
+        // innecesaria contra la base de datos
+        filter.put(key);
+    }
+}
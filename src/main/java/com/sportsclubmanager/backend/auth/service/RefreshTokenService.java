@@ -0,0 +1,206 @@
+package com.sportsclubmanager.backend.auth.service;
+
+import com.sportsclubmanager.backend.auth.dto.TokenResponse;
+import com.sportsclubmanager.backend.auth.exception.InvalidRefreshTokenException;
+import com.sportsclubmanager.backend.auth.model.RefreshToken;
+import com.sportsclubmanager.backend.auth.repository.RefreshTokenRepository;
+import com.sportsclubmanager.backend.auth.security.JwtTokenIssuer;
+import com.sportsclubmanager.backend.auth.security.JwtTokenProperties;
+import com.sportsclubmanager.backend.user.event.UserAccessRevokedEvent;
+import com.sportsclubmanager.backend.user.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio que emite y rota los tokens de actualización.
+ * Los tokens son valores aleatorios de los que solo se guarda el hash SHA-256,
+ * por lo que comprobarlos es una búsqueda por índice sin BCrypt.
+ * Cada token solo puede usarse una vez; si se vuelve a presentar un token ya
+ * usado se revoca toda su familia, ya que indica que fue robado.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_LENGTH = 32;
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDetailsService userDetailsService;
+    private final JwtTokenIssuer tokenIssuer;
+    private final JwtTokenProperties properties;
+    private final UserRepository userRepository;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserDetailsService userDetailsService,
+            JwtTokenIssuer tokenIssuer,
+            JwtTokenProperties properties,
+            UserRepository userRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userDetailsService = userDetailsService;
+        this.tokenIssuer = tokenIssuer;
+        this.properties = properties;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Emite el token de acceso y un token de actualización de una nueva familia
+     * para un usuario que acaba de iniciar sesión.
+     *
+     * @param user el usuario autenticado
+     * @return los tokens emitidos
+     */
+    @Transactional
+    public TokenResponse login(UserDetails user) {
+        String refreshToken = create(
+                user.getUsername(),
+                UUID.randomUUID().toString(),
+                Instant.now());
+
+        return toTokenResponse(user, refreshToken);
+    }
+
+    /**
+     * Intercambia un token de actualización por un nuevo token de acceso y un
+     * nuevo token de actualización de la misma familia.
+     *
+     * @param refreshToken el token de actualización presentado por el cliente
+     * @return los nuevos tokens
+     * @throws InvalidRefreshTokenException si el token no existe, ha expirado, ya
+     *                                      fue utilizado o la cuenta no está
+     *                                      habilitada
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new InvalidRefreshTokenException("El token de actualización es obligatorio");
+        }
+
+        RefreshToken stored = refreshTokenRepository
+                .findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException(
+                        "El token de actualización no es válido"));
+
+        Instant now = Instant.now();
+
+        if (!stored.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("El token de actualización ha expirado");
+        }
+
+        if (stored.getUsedAt() != null
+                || refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            refreshTokenRepository.deleteByFamily(stored.getFamilyId());
+            log.warn(
+                    "Se reutilizó un token de actualización del usuario {}. Se revocó la sesión.",
+                    stored.getUsername());
+            throw new InvalidRefreshTokenException("El token de actualización ya fue utilizado");
+        }
+
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(stored.getUsername());
+            accountStatusChecker.check(user);
+        } catch (AuthenticationException e) {
+            refreshTokenRepository.deleteByFamily(stored.getFamilyId());
+            throw new InvalidRefreshTokenException(e.getMessage());
+        }
+
+        String rotated = create(user.getUsername(), stored.getFamilyId(), now);
+        return toTokenResponse(user, rotated);
+    }
+
+    /**
+     * Revoca la sesión a la que pertenece un token de actualización. Los tokens
+     * desconocidos se ignoran.
+     *
+     * @param refreshToken el token de actualización presentado por el cliente
+     */
+    @Transactional
+    public void logout(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository
+                .findByTokenHash(hash(refreshToken))
+                .ifPresent(stored -> refreshTokenRepository.deleteByFamily(stored.getFamilyId()));
+    }
+
+    /**
+     * Elimina los tokens de actualización de un usuario suspendido o eliminado.
+     * Se ejecuta dentro de la transacción que modifica la cuenta.
+     *
+     * @param event el evento de pérdida de acceso
+     */
+    @EventListener
+    @Transactional
+    public void onUserAccessRevoked(UserAccessRevokedEvent event) {
+        userRepository
+                .findUsernameById(event.userId())
+                .ifPresent(refreshTokenRepository::deleteByUsername);
+    }
+
+    /**
+     * Elimina periódicamente los tokens de actualización expirados.
+     */
+    @Scheduled(cron = "${app.security.jwt.refresh-token-purge-cron:0 0 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.info("Se eliminaron {} tokens de actualización expirados", deleted);
+    }
+
+    private TokenResponse toTokenResponse(UserDetails user, String refreshToken) {
+        return new TokenResponse(
+                tokenIssuer.issueAccessToken(user.getUsername(), user.getAuthorities()),
+                refreshToken,
+                TOKEN_TYPE,
+                tokenIssuer.getAccessTokenTtlSeconds());
+    }
+
+    private String create(String username, String familyId, Instant now) {
+        byte[] bytes = new byte[TOKEN_LENGTH];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setUsername(username);
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plus(properties.getRefreshTokenTtl()));
+        refreshTokenRepository.save(refreshToken);
+
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+}
@@ -1,18 +1,30 @@
 package com.sportsclubmanager.backend.club.controller;
 
 import com.sportsclubmanager.backend.club.dto.ClubResponse;
+import com.sportsclubmanager.backend.club.dto.ClubSummary;
 import com.sportsclubmanager.backend.club.dto.ClubUpdateRequest;
 import com.sportsclubmanager.backend.club.mapper.ClubMapper;
 import com.sportsclubmanager.backend.club.model.Club;
 import com.sportsclubmanager.backend.club.service.ClubService;
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/clubs")
@@ -22,11 +34,15 @@ public class ClubController {
 
     private final ClubMapper clubMapper;
 
+    private final StreamingExporter streamingExporter;
+
     public ClubController(
             @Qualifier("clubServiceImpl") ClubService clubService,
-            ClubMapper clubMapper) {
+            ClubMapper clubMapper,
+            StreamingExporter streamingExporter) {
         this.clubService = clubService;
         this.clubMapper = clubMapper;
+        this.streamingExporter = streamingExporter;
     }
 
     @PostMapping("/club-administrator/{clubAdminId}")
@@ -39,11 +55,13 @@ public class ClubController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<ClubResponse> getById(@PathVariable Long id) {
-        return clubService
-                .findById(id)
-                .map(club -> ResponseEntity.ok(clubMapper.toClubResponse(club)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<ClubResponse> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                clubService.findEntityTag(id),
+                () -> clubService.findById(id).map(clubMapper::toClubResponse));
     }
 
     @GetMapping("/name/{name}")
@@ -58,42 +76,66 @@ public class ClubController {
     @GetMapping
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<List<ClubResponse>> getAll() {
-        return ResponseEntity.ok(
-                clubService
-                        .findAll()
-                        .stream()
-                        .map(clubMapper::toClubResponse)
-                        .toList());
+        return ResponseEntity.ok(clubService.findAllResponses());
     }
 
     @GetMapping("/page/{page}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Page<ClubResponse>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                clubService
-                        .findAll(PageRequest.of(page, 5))
-                        .map(clubMapper::toClubResponse));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                clubService.findPageEntityTag(pageable),
+                () -> clubService.findAllResponses(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<CursorPage<ClubResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                clubService.findPageEntityTag(pageRequest),
+                () -> clubService.findAllResponses(pageRequest));
+    }
+
+    @GetMapping(value = "/export", produces = { ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE })
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExporter.export(
+                accept,
+                "clubs",
+                ClubSummary.EXPORT_COLUMNS,
+                clubService::streamAllSummaries);
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<ClubResponse> update(
             @PathVariable Long id,
-            @RequestBody ClubUpdateRequest clubUpdateRequest) {
+            @RequestBody ClubUpdateRequest clubUpdateRequest,
+            WebRequest request) {
         return clubService
-                .update(id, clubUpdateRequest)
+                .update(id, clubUpdateRequest, IfMatch.from(request))
                 .map(club -> ResponseEntity.ok(clubMapper.toClubResponse(club)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<Club> clubOptional = clubService.findById(id);
 
         if (clubOptional.isPresent()) {
-            clubService.deleteById(id);
+            clubService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
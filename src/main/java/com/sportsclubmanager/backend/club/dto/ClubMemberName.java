@@ -0,0 +1,21 @@
+package com.sportsclubmanager.backend.club.dto;
+
+/**
+ * Proyección del nombre de un miembro (entrenador o jugador) junto con el ID
+ * del club al que pertenece.
+ */
+public interface ClubMemberName {
+
+    String COACH = "COACH";
+
+    String PLAYER = "PLAYER";
+
+    Long getClubId();
+
+    /**
+     * @return {@link #COACH} o {@link #PLAYER}
+     */
+    String getMemberType();
+
+    String getName();
+}
@@ -0,0 +1,28 @@
+package com.sportsclubmanager.backend.club.dto;
+
+import com.sportsclubmanager.backend.shared.export.ExportColumn;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Proyección de un club con el nombre de su administrador, obtenida en una
+ * única consulta sin cargar las entidades asociadas.
+ */
+public record ClubSummary(
+        Long id,
+        String name,
+        String address,
+        Long phoneNumber,
+        boolean enabled,
+        LocalDateTime creationDate,
+        String clubAdministratorName) {
+
+    public static final List<ExportColumn<ClubSummary>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", ClubSummary::id),
+            new ExportColumn<>("name", ClubSummary::name),
+            new ExportColumn<>("address", ClubSummary::address),
+            new ExportColumn<>("phoneNumber", ClubSummary::phoneNumber),
+            new ExportColumn<>("enabled", ClubSummary::enabled),
+            new ExportColumn<>("creationDate", ClubSummary::creationDate),
+            new ExportColumn<>("clubAdministratorName", ClubSummary::clubAdministratorName));
+}
@@ -1,6 +1,7 @@
 package com.sportsclubmanager.backend.club.mapper;
 
 import com.sportsclubmanager.backend.club.dto.ClubResponse;
+import com.sportsclubmanager.backend.club.dto.ClubSummary;
 import com.sportsclubmanager.backend.club.model.Club;
 import com.sportsclubmanager.backend.member.model.Coach;
 import com.sportsclubmanager.backend.member.model.Player;
@@ -25,6 +26,17 @@ public interface ClubMapper {
     @Mapping(source = "players", target = "playerNames", qualifiedByName = "mapPlayerNames")
     ClubResponse toClubResponse(Club club);
 
+    /**
+     * Mapea la proyección de un club a su respuesta. Los nombres de
+     * entrenadores y jugadores se asignan por separado.
+     *
+     * @param clubSummary la proyección del club
+     * @return la respuesta del club sin nombres de miembros
+     */
+    @Mapping(target = "coachNames", ignore = true)
+    @Mapping(target = "playerNames", ignore = true)
+    ClubResponse toClubResponse(ClubSummary clubSummary);
+
     /**
      * Mapea un conjunto de entrenadores a sus nombres.
      *
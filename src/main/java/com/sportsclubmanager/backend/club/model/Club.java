@@ -13,9 +13,13 @@ import java.util.Set;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clubs")
 @Table(name = "clubs")
 @EqualsAndHashCode(exclude = { "clubAdministrator", "coaches", "players" })
 @ToString(exclude = { "clubAdministrator", "coaches", "players" })
@@ -43,6 +47,14 @@ public class Club implements Serializable {
     @Column(name = "creation_date")
     private LocalDateTime creationDate;
 
+    /**
+     * Se incrementa en cada modificación de la fila. Detecta las
+     * actualizaciones concurrentes y forma parte del ETag de las respuestas.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @JsonIgnoreProperties(value = { "club" })
     @OneToOne(mappedBy = "club")
     private ClubAdministrator clubAdministrator;
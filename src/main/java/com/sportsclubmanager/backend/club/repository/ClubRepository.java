@@ -1,9 +1,134 @@
 package com.sportsclubmanager.backend.club.repository;
 
+import com.sportsclubmanager.backend.club.dto.ClubMemberName;
+import com.sportsclubmanager.backend.club.dto.ClubSummary;
 import com.sportsclubmanager.backend.club.model.Club;
+import com.sportsclubmanager.backend.shared.etag.VersionStamp;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ClubRepository extends JpaRepository<Club, Long> {
     Optional<Club> findByName(String name);
+
+    @Query("""
+            select new com.sportsclubmanager.backend.club.dto.ClubSummary(
+                c.id, c.name, c.address, c.phoneNumber, c.enabled,
+                c.creationDate, a.name)
+            from Club c left join c.clubAdministrator a
+            """)
+    List<ClubSummary> findAllSummaries();
+
+    @Query(value = """
+            select new com.sportsclubmanager.backend.club.dto.ClubSummary(
+                c.id, c.name, c.address, c.phoneNumber, c.enabled,
+                c.creationDate, a.name)
+            from Club c left join c.clubAdministrator a
+            """, countQuery = "select count(c) from Club c")
+    Page<ClubSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Recorre todos los clubes ordenados por ID sin cargarlos en memoria. El
+     * flujo debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return el flujo de proyecciones de clubes
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query("""
+            select new com.sportsclubmanager.backend.club.dto.ClubSummary(
+                c.id, c.name, c.address, c.phoneNumber, c.enabled,
+                c.creationDate, a.name)
+            from Club c left join c.clubAdministrator a
+            order by c.id
+            """)
+    Stream<ClubSummary> streamAllSummaries();
+
+    /**
+     * Obtiene los clubes con ID mayor que el indicado, ordenados por ID, para
+     * la paginación por cursor.
+     *
+     * @param afterId el ID a partir del cual se leen los clubes (exclusivo)
+     * @param limit   el número máximo de clubes
+     * @return las proyecciones de los clubes
+     */
+    @Query("""
+            select new com.sportsclubmanager.backend.club.dto.ClubSummary(
+                c.id, c.name, c.address, c.phoneNumber, c.enabled,
+                c.creationDate, a.name)
+            from Club c left join c.clubAdministrator a
+            where c.id > :afterId
+            order by c.id
+            """)
+    List<ClubSummary> findSummariesAfter(
+            @Param("afterId") long afterId,
+            Limit limit);
+
+    /**
+     * Obtiene en una sola consulta los nombres de los entrenadores y jugadores
+     * de los clubes indicados.
+     *
+     * @param clubIds los IDs de los clubes
+     * @return los nombres de los miembros junto con el ID de su club
+     */
+    @Query(value = """
+            select c.club_id as clubId, 'COACH' as memberType, u.name as name
+            from coaches c join users u on u.id = c.id
+            where c.club_id in (:clubIds)
+            union all
+            select p.club_id, 'PLAYER', u.name
+            from players p join users u on u.id = p.id
+            where p.club_id in (:clubIds)
+            """, nativeQuery = true)
+    List<ClubMemberName> findMemberNamesByClubIds(
+            @Param("clubIds") Collection<Long> clubIds);
+
+    /**
+     * Obtiene los IDs de una página de clubes, en el orden indicado por la
+     * paginación, para calcular su ETag sin cargar los clubes.
+     *
+     * @param pageable la información de paginación
+     * @return la página de IDs
+     */
+    @Query(value = "select c.id from Club c", countQuery = "select count(c) from Club c")
+    Page<Long> findIds(Pageable pageable);
+
+    @Query("select c.id from Club c where c.id > :afterId order by c.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Obtiene las versiones de los clubes indicados y de sus miembros, cuyos
+     * nombres forman parte de las respuestas de los clubes.
+     *
+     * @param ids los IDs de los clubes
+     * @return las versiones de las filas
+     */
+    @Query(value = """
+            select 'CLUB' as kind, c.id as ownerId, c.id as id, c.version as version
+            from clubs c
+            where c.id in (:ids)
+            union all
+            select 'CLUB_ADMIN', a.club_id, u.id, u.version
+            from club_administrators a join users u on u.id = a.id
+            where a.club_id in (:ids)
+            union all
+            select 'COACH', k.club_id, u.id, u.version
+            from coaches k join users u on u.id = k.id
+            where k.club_id in (:ids)
+            union all
+            select 'PLAYER', p.club_id, u.id, u.version
+            from players p join users u on u.id = p.id
+            where p.club_id in (:ids)
+            """, nativeQuery = true)
+    List<VersionStamp> findVersionStamps(@Param("ids") Collection<Long> ids);
 }
@@ -1,9 +1,16 @@
 package com.sportsclubmanager.backend.club.service;
 
+import com.sportsclubmanager.backend.club.dto.ClubResponse;
+import com.sportsclubmanager.backend.club.dto.ClubSummary;
 import com.sportsclubmanager.backend.club.dto.ClubUpdateRequest;
 import com.sportsclubmanager.backend.club.model.Club;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.exception.PreconditionFailedException;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -25,7 +32,85 @@ public interface ClubService {
 
     Page<Club> findAll(Pageable pageable);
 
-    Optional<Club> update(Long id, ClubUpdateRequest clubUpdateRequest);
+    /**
+     * Obtiene todos los clubes como respuestas con un número fijo de consultas,
+     * independiente del número de clubes y de miembros.
+     *
+     * @return las respuestas de todos los clubes
+     */
+    List<ClubResponse> findAllResponses();
+
+    /**
+     * Obtiene una página de clubes como respuestas con un número fijo de
+     * consultas, independiente del tamaño de la página.
+     *
+     * @param pageable la información de paginación
+     * @return la página de respuestas de clubes
+     */
+    Page<ClubResponse> findAllResponses(Pageable pageable);
+
+    /**
+     * Obtiene una página de clubes por cursor, ordenada por ID y sin contar el
+     * total de clubes.
+     *
+     * @param request la solicitud de la página
+     * @return la página de respuestas de clubes
+     */
+    CursorPage<ClubResponse> findAllResponses(CursorPageRequest request);
+
+    /**
+     * Recorre todos los clubes ordenados por ID sin cargarlos en memoria. El
+     * flujo debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return el flujo de proyecciones de clubes
+     */
+    Stream<ClubSummary> streamAllSummaries();
+
+    /**
+     * Actualiza los datos de un club.
+     *
+     * @param id                el ID del club
+     * @param clubUpdateRequest los nuevos datos
+     * @param ifMatch           la precondición {@code If-Match}, que se comprueba
+     *                          en la misma transacción que la escritura
+     * @return el club actualizado, o vacío si no existe
+     * @throws PreconditionFailedException si el club cambió
+     */
+    Optional<Club> update(Long id, ClubUpdateRequest clubUpdateRequest, IfMatch ifMatch);
 
-    void deleteById(Long id);
+    /**
+     * Elimina un club.
+     *
+     * @param id      el ID del club
+     * @param ifMatch la precondición {@code If-Match}, que se comprueba en la
+     *                misma transacción que la eliminación
+     * @throws PreconditionFailedException si el club cambió
+     */
+    void deleteById(Long id, IfMatch ifMatch);
+
+    /**
+     * Calcula el ETag de la respuesta de un club a partir de las versiones de
+     * las filas con las que se construye, sin cargar la entidad.
+     *
+     * @param id el ID del club
+     * @return el ETag, o vacío si el club no existe
+     */
+    Optional<String> findEntityTag(Long id);
+
+    /**
+     * Calcula el ETag de una página de clubes sin cargar sus entidades.
+     *
+     * @param pageable la información de paginación
+     * @return el ETag de la página
+     */
+    String findPageEntityTag(Pageable pageable);
+
+    /**
+     * Calcula el ETag de una página de clubes por cursor sin cargar sus
+     * entidades.
+     *
+     * @param request la solicitud de la página
+     * @return el ETag de la página
+     */
+    String findPageEntityTag(CursorPageRequest request);
 }
@@ -1,16 +1,30 @@
 package com.sportsclubmanager.backend.club.service;
 
+import com.sportsclubmanager.backend.club.dto.ClubMemberName;
+import com.sportsclubmanager.backend.club.dto.ClubResponse;
+import com.sportsclubmanager.backend.club.dto.ClubSummary;
 import com.sportsclubmanager.backend.club.dto.ClubUpdateRequest;
 import com.sportsclubmanager.backend.club.exception.ClubDeletingException;
+import com.sportsclubmanager.backend.club.mapper.ClubMapper;
 import com.sportsclubmanager.backend.club.model.Club;
 import com.sportsclubmanager.backend.club.repository.ClubRepository;
 import com.sportsclubmanager.backend.member.model.ClubAdministrator;
 import com.sportsclubmanager.backend.member.service.ClubAdministratorService;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ClubServiceImpl implements ClubService {
@@ -19,11 +33,15 @@ public class ClubServiceImpl implements ClubService {
 
     private final ClubRepository clubRepository;
 
+    private final ClubMapper clubMapper;
+
     public ClubServiceImpl(
             ClubRepository clubRepository,
-            ClubAdministratorService clubAdministratorService) {
+            ClubAdministratorService clubAdministratorService,
+            ClubMapper clubMapper) {
         this.clubRepository = clubRepository;
         this.clubAdministratorService = clubAdministratorService;
+        this.clubMapper = clubMapper;
     }
 
     /**
@@ -87,10 +105,51 @@ public class ClubServiceImpl implements ClubService {
     }
 
     @Override
-    public Optional<Club> update(Long id, ClubUpdateRequest clubUpdateRequest) {
+    @Transactional(readOnly = true)
+    public List<ClubResponse> findAllResponses() {
+        return toResponses(clubRepository.findAllSummaries());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ClubResponse> findAllResponses(Pageable pageable) {
+        Page<ClubSummary> summaries = clubRepository.findAllSummaries(pageable);
+        return new PageImpl<>(
+                toResponses(summaries.getContent()),
+                pageable,
+                summaries.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ClubResponse> findAllResponses(CursorPageRequest request) {
+        CursorPage<ClubSummary> summaries = CursorPage.of(
+                clubRepository.findSummariesAfter(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                ClubSummary::id);
+        return new CursorPage<>(
+                toResponses(summaries.content()),
+                summaries.nextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<ClubSummary> streamAllSummaries() {
+        return clubRepository.streamAllSummaries();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Club> update(
+            Long id,
+            ClubUpdateRequest clubUpdateRequest,
+            IfMatch ifMatch) {
         Optional<Club> clubOptional = clubRepository.findById(id);
 
         if (clubOptional.isPresent()) {
+            ifMatch.check(() -> findEntityTag(id));
             Club clubUpdated = clubOptional.orElseThrow();
 
             clubUpdated.setName(clubUpdateRequest.getName());
@@ -101,17 +160,52 @@ public class ClubServiceImpl implements ClubService {
         return Optional.empty();
     }
 
+    /**
+     * Convierte las proyecciones de clubes en respuestas y les asigna los
+     * nombres de sus entrenadores y jugadores, obtenidos en una sola consulta
+     * para todos los clubes.
+     *
+     * @param summaries las proyecciones de los clubes
+     * @return las respuestas en el mismo orden que las proyecciones
+     */
+    private List<ClubResponse> toResponses(List<ClubSummary> summaries) {
+        Map<Long, ClubResponse> responsesById = new LinkedHashMap<>();
+        for (ClubSummary summary : summaries) {
+            ClubResponse response = clubMapper.toClubResponse(summary);
+            response.setCoachNames(new HashSet<>());
+            response.setPlayerNames(new HashSet<>());
+            responsesById.put(summary.id(), response);
+        }
+
+        if (!responsesById.isEmpty()) {
+            for (ClubMemberName member : clubRepository
+                    .findMemberNamesByClubIds(responsesById.keySet())) {
+                ClubResponse response = responsesById.get(member.getClubId());
+                if (ClubMemberName.COACH.equals(member.getMemberType())) {
+                    response.getCoachNames().add(member.getName());
+                } else {
+                    response.getPlayerNames().add(member.getName());
+                }
+            }
+        }
+        return List.copyOf(responsesById.values());
+    }
+
     /**
      * Elimina un club por su ID.
      *
-     * @param id El ID del club a eliminar.
+     * @param id      El ID del club a eliminar.
+     * @param ifMatch La precondición {@code If-Match}, que se comprueba en la
+     *                misma transacción que la eliminación.
      * @throws ClubDeletingException Si ocurre un error al desvincular las
      *                               relaciones del club.
      */
     @Override
-    public void deleteById(Long id) {
+    @Transactional
+    public void deleteById(Long id, IfMatch ifMatch) {
         Optional<Club> clubOptional = clubRepository.findById(id);
         if (clubOptional.isPresent()) {
+            ifMatch.check(() -> findEntityTag(id));
             Club clubToDelete = clubOptional.orElseThrow();
             try {
                 clubToDelete.getClubAdministrator().setClub(null);
@@ -125,4 +219,27 @@ public class ClubServiceImpl implements ClubService {
             clubRepository.deleteById(id);
         }
     }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(clubRepository.findVersionStamps(List.of(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = clubRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                clubRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                clubRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                clubRepository::findVersionStamps);
+    }
 }
@@ -0,0 +1,48 @@
+package com.sportsclubmanager.backend.event.controller;
+
+import com.sportsclubmanager.backend.event.dto.ArchivedEventResponse;
+import com.sportsclubmanager.backend.event.service.EventArchiveService;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/archived-events")
+public class ArchivedEventController {
+
+    private final EventArchiveService eventArchiveService;
+
+    public ArchivedEventController(EventArchiveService eventArchiveService) {
+        this.eventArchiveService = eventArchiveService;
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<ArchivedEventResponse> getById(@PathVariable Long id) {
+        return eventArchiveService
+                .findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<CursorPage<ArchivedEventResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(
+                eventArchiveService.findAll(CursorPageRequest.of(after, limit)));
+    }
+
+    @GetMapping("/{id}/players")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<List<Long>> getPlayerIds(@PathVariable Long id) {
+        return eventArchiveService
+                .findPlayerIds(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.sportsclubmanager.backend.event.controller;
+
+import com.sportsclubmanager.backend.event.dto.CalendarEventResponse;
+import com.sportsclubmanager.backend.event.model.EventType;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.service.EventCalendarService;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventCalendarController {
+
+    /**
+     * Roles que pueden ver los eventos privados en el calendario, los mismos
+     * que pueden consultar los torneos y entrenamientos.
+     */
+    private static final Set<String> PRIVATE_EVENT_ROLES = Set.of("ROLE_CLUB_ADMIN", "ROLE_ADMIN");
+
+    private final EventCalendarService eventCalendarService;
+
+    public EventCalendarController(EventCalendarService eventCalendarService) {
+        this.eventCalendarService = eventCalendarService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'COACH', 'PLAYER', 'ADMIN')")
+    public ResponseEntity<CursorPage<CalendarEventResponse>> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) EventVisibility visibility,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        boolean includePrivate = authentication.getAuthorities().stream()
+                .anyMatch(authority -> PRIVATE_EVENT_ROLES.contains(authority.getAuthority()));
+
+        return ResponseEntity.ok(eventCalendarService.findCalendar(
+                from, to, visibility, type, after, limit, includePrivate));
+    }
+}
@@ -1,21 +1,38 @@
 package com.sportsclubmanager.backend.event.controller;
 
+import com.sportsclubmanager.backend.event.dto.EventSummary;
 import com.sportsclubmanager.backend.event.dto.EventUpdateRequest;
 import com.sportsclubmanager.backend.event.model.Tournament;
 import com.sportsclubmanager.backend.event.service.EventService;
+import com.sportsclubmanager.backend.member.dto.EventRegistrationResponse;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.validation.ValidationService;
 import com.sportsclubmanager.backend.user.dto.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/tournament-events")
@@ -24,11 +41,19 @@ public class TournamentEventController {
     private final EventService<Tournament> tournamentEventService;
     private final ValidationService validationService;
 
+    private final StreamingExporter streamingExporter;
+
+    private final PlayerService playerService;
+
     public TournamentEventController(
             @Qualifier("tournamentEventService") EventService<Tournament> tournamentEventService,
-            ValidationService validationService) {
+            ValidationService validationService,
+            StreamingExporter streamingExporter,
+            PlayerService playerService) {
         this.tournamentEventService = tournamentEventService;
         this.validationService = validationService;
+        this.streamingExporter = streamingExporter;
+        this.playerService = playerService;
     }
 
     @PostMapping
@@ -48,11 +73,13 @@ public class TournamentEventController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Tournament> getById(@PathVariable Long id) {
-        return tournamentEventService
-                .findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Tournament> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                tournamentEventService.findEntityTag(id),
+                () -> tournamentEventService.findById(id));
     }
 
     @GetMapping
@@ -64,9 +91,37 @@ public class TournamentEventController {
     @GetMapping("/page/{page}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Page<Tournament>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                tournamentEventService.findAll(PageRequest.of(page, 5)));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                tournamentEventService.findPageEntityTag(pageable),
+                () -> tournamentEventService.findAll(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<CursorPage<Tournament>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                tournamentEventService.findPageEntityTag(pageRequest),
+                () -> tournamentEventService.findAll(pageRequest));
+    }
+
+    @GetMapping(value = "/export", produces = { ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE })
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExporter.export(
+                accept,
+                "tournament-events",
+                EventSummary.EXPORT_COLUMNS,
+                tournamentEventService::streamAllSummaries);
     }
 
     @PutMapping("/{id}")
@@ -74,13 +129,14 @@ public class TournamentEventController {
     public ResponseEntity<ApiResponse<Tournament>> update(
             @PathVariable Long id,
             @Valid @RequestBody EventUpdateRequest tournamentEventUpdateRequest,
-            BindingResult bindingResult) {
+            BindingResult bindingResult,
+            WebRequest request) {
         if (bindingResult.hasErrors()) {
             return validationService.validate(bindingResult);
         }
 
         return tournamentEventService
-                .update(id, tournamentEventUpdateRequest)
+                .update(id, tournamentEventUpdateRequest, IfMatch.from(request))
                 .map(tournamentUpdated -> {
                     ApiResponse<Tournament> apiResponse = new ApiResponse<>(
                             tournamentUpdated);
@@ -91,13 +147,30 @@ public class TournamentEventController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<Tournament> tournamentOptional = tournamentEventService.findById(id);
 
         if (tournamentOptional.isPresent()) {
-            tournamentEventService.deleteById(id);
+            tournamentEventService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
     }
+
+    @PostMapping("/{id}/players")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'COACH', 'ADMIN')")
+    public ResponseEntity<List<EventRegistrationResponse>> registerPlayers(
+            @PathVariable Long id,
+            @RequestBody
+            @NotEmpty
+            @Size(max = PlayerService.MAX_BATCH_REGISTRATIONS)
+            List<@NotNull Long> playerIds) {
+        return ResponseEntity.ok(
+                playerService.registerAllInTournamentEvent(id, playerIds)
+                        .stream()
+                        .map(EventRegistrationResponse::from)
+                        .toList());
+    }
 }
@@ -1,16 +1,33 @@
 package com.sportsclubmanager.backend.event.controller;
 
+import com.sportsclubmanager.backend.event.dto.EventSummary;
 import com.sportsclubmanager.backend.event.dto.EventUpdateRequest;
 import com.sportsclubmanager.backend.event.model.Training;
 import com.sportsclubmanager.backend.event.service.EventService;
+import com.sportsclubmanager.backend.member.dto.EventRegistrationResponse;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/training-events")
@@ -18,9 +35,17 @@ public class TrainingEventController {
 
     private final EventService<Training> trainingEventService;
 
+    private final StreamingExporter streamingExporter;
+
+    private final PlayerService playerService;
+
     public TrainingEventController(
-            @Qualifier("trainingEventService") EventService<Training> trainingEventService) {
+            @Qualifier("trainingEventService") EventService<Training> trainingEventService,
+            StreamingExporter streamingExporter,
+            PlayerService playerService) {
         this.trainingEventService = trainingEventService;
+        this.streamingExporter = streamingExporter;
+        this.playerService = playerService;
     }
 
     @PostMapping
@@ -31,11 +56,13 @@ public class TrainingEventController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Training> getById(@PathVariable Long id) {
-        return trainingEventService
-                .findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Training> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                trainingEventService.findEntityTag(id),
+                () -> trainingEventService.findById(id));
     }
 
     @GetMapping
@@ -47,31 +74,77 @@ public class TrainingEventController {
     @GetMapping("/page/{page}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Page<Training>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                trainingEventService.findAll(PageRequest.of(page, 5)));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                trainingEventService.findPageEntityTag(pageable),
+                () -> trainingEventService.findAll(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<CursorPage<Training>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                trainingEventService.findPageEntityTag(pageRequest),
+                () -> trainingEventService.findAll(pageRequest));
+    }
+
+    @GetMapping(value = "/export", produces = { ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE })
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExporter.export(
+                accept,
+                "training-events",
+                EventSummary.EXPORT_COLUMNS,
+                trainingEventService::streamAllSummaries);
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Training> update(
             @PathVariable Long id,
-            @RequestBody EventUpdateRequest trainingEventUpdateRequest) {
+            @RequestBody EventUpdateRequest trainingEventUpdateRequest,
+            WebRequest request) {
         return trainingEventService
-                .update(id, trainingEventUpdateRequest)
+                .update(id, trainingEventUpdateRequest, IfMatch.from(request))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<Training> trainingOptional = trainingEventService.findById(id);
 
         if (trainingOptional.isPresent()) {
-            trainingEventService.deleteById(id);
+            trainingEventService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
     }
+
+    @PostMapping("/{id}/players")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'COACH', 'ADMIN')")
+    public ResponseEntity<List<EventRegistrationResponse>> registerPlayers(
+            @PathVariable Long id,
+            @RequestBody
+            @NotEmpty
+            @Size(max = PlayerService.MAX_BATCH_REGISTRATIONS)
+            List<@NotNull Long> playerIds) {
+        return ResponseEntity.ok(
+                playerService.registerAllInTrainingEvent(id, playerIds)
+                        .stream()
+                        .map(EventRegistrationResponse::from)
+                        .toList());
+    }
 }
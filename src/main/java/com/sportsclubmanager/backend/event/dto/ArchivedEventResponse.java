@@ -0,0 +1,38 @@
+package com.sportsclubmanager.backend.event.dto;
+
+import com.sportsclubmanager.backend.event.model.ArchivedEvent;
+import com.sportsclubmanager.backend.event.model.EventType;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import java.time.LocalDateTime;
+
+/**
+ * Evento archivado sin sus participantes, que se consultan aparte.
+ */
+public record ArchivedEventResponse(
+        Long id,
+        EventType type,
+        String name,
+        String description,
+        String location,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        EventVisibility eventVisibility,
+        Integer maximumParticipants,
+        int participantCount,
+        LocalDateTime archivedAt) {
+
+    public static ArchivedEventResponse from(ArchivedEvent archivedEvent) {
+        return new ArchivedEventResponse(
+                archivedEvent.getId(),
+                archivedEvent.getType(),
+                archivedEvent.getName(),
+                archivedEvent.getDescription(),
+                archivedEvent.getLocation(),
+                archivedEvent.getStartDate(),
+                archivedEvent.getEndDate(),
+                archivedEvent.getEventVisibility(),
+                archivedEvent.getMaximumParticipants(),
+                archivedEvent.getParticipantCount(),
+                archivedEvent.getArchivedAt());
+    }
+}
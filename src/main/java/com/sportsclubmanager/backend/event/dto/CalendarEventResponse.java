@@ -0,0 +1,36 @@
+package com.sportsclubmanager.backend.event.dto;
+
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventType;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import java.time.LocalDateTime;
+
+/**
+ * Evento del calendario, sea torneo o entrenamiento, sin sus participantes.
+ */
+public record CalendarEventResponse(
+        Long id,
+        EventType type,
+        String name,
+        String description,
+        String location,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        EventVisibility eventVisibility,
+        Integer maximumParticipants,
+        int participantCount) {
+
+    public static CalendarEventResponse from(Event event) {
+        return new CalendarEventResponse(
+                event.getId(),
+                EventType.of(event),
+                event.getName(),
+                event.getDescription(),
+                event.getLocation(),
+                event.getStartDate(),
+                event.getEndDate(),
+                event.getEventVisibility(),
+                event.getMaximumParticipants(),
+                event.getParticipantCount());
+    }
+}
@@ -0,0 +1,64 @@
+package com.sportsclubmanager.backend.event.dto;
+
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.shared.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor del calendario de eventos. Codifica la fecha de inicio, la fecha de
+ * fin y el ID del último evento de la página anterior, que es el orden del
+ * índice {@code idx_events_start_date_end_date}; la página siguiente continúa
+ * desde esa posición del índice.
+ *
+ * @param startDate la fecha de inicio del último evento
+ * @param endDate   la fecha de fin del último evento
+ * @param id        el ID del último evento
+ */
+public record EventCalendarCursor(LocalDateTime startDate, LocalDateTime endDate, long id) {
+
+    private static final String CURSOR_PREFIX = "event:";
+    private static final String SEPARATOR = "|";
+
+    public static EventCalendarCursor of(Event event) {
+        return new EventCalendarCursor(event.getStartDate(), event.getEndDate(), event.getId());
+    }
+
+    public String encode() {
+        String value = CURSOR_PREFIX + startDate + SEPARATOR + endDate + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lee un cursor devuelto por una página anterior.
+     *
+     * @param cursor el cursor codificado
+     * @return el cursor
+     * @throws InvalidCursorException si el cursor no es válido
+     */
+    public static EventCalendarCursor decode(String cursor) {
+        try {
+            String value = new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            if (!value.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("El cursor no es válido");
+            }
+
+            String[] parts = value.substring(CURSOR_PREFIX.length()).split("\\|", -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("El cursor no es válido");
+            }
+            return new EventCalendarCursor(
+                    LocalDateTime.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("El cursor no es válido");
+        }
+    }
+}
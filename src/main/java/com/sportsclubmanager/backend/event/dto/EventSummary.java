@@ -0,0 +1,30 @@
+package com.sportsclubmanager.backend.event.dto;
+
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.shared.export.ExportColumn;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Proyección de los datos propios de un evento, sin sus participantes.
+ */
+public record EventSummary(
+        Long id,
+        String name,
+        String description,
+        String location,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        EventVisibility eventVisibility,
+        Integer maximumParticipants) {
+
+    public static final List<ExportColumn<EventSummary>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", EventSummary::id),
+            new ExportColumn<>("name", EventSummary::name),
+            new ExportColumn<>("description", EventSummary::description),
+            new ExportColumn<>("location", EventSummary::location),
+            new ExportColumn<>("startDate", EventSummary::startDate),
+            new ExportColumn<>("endDate", EventSummary::endDate),
+            new ExportColumn<>("eventVisibility", EventSummary::eventVisibility),
+            new ExportColumn<>("maximumParticipants", EventSummary::maximumParticipants));
+}
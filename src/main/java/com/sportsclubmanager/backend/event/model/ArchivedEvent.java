@@ -0,0 +1,78 @@
+package com.sportsclubmanager.backend.event.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Evento finalizado que se trasladó desde {@code events} a la tabla de
+ * archivo. Solo lo escribe el archivado, que lo copia con sentencias nativas,
+ * por lo que es de solo lectura.
+ */
+@Data
+@EqualsAndHashCode(exclude = { "playerIds" })
+@ToString(exclude = { "playerIds" })
+@Entity
+@Immutable
+@Table(name = "archived_events", indexes = @Index(name = "idx_archived_events_start_date", columnList = "start_date"))
+public class ArchivedEvent implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * El mismo ID que tenía el evento en {@code events}.
+     */
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType type;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false, length = 50)
+    private String location;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_visibility", nullable = false)
+    private EventVisibility eventVisibility;
+
+    @Column(name = "maximum_participants", nullable = false)
+    private Integer maximumParticipants;
+
+    /**
+     * Número de jugadores inscritos cuando se archivó el evento.
+     */
+    @Column(name = "participant_count", nullable = false)
+    private int participantCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @JsonIgnore
+    @ElementCollection
+    @CollectionTable(name = "archived_players_events", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "player_id", nullable = false)
+    @OrderBy
+    private List<Long> playerIds = new ArrayList<>();
+}
@@ -1,5 +1,6 @@
 package com.sportsclubmanager.backend.event.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.sportsclubmanager.backend.member.model.Player;
 import jakarta.persistence.*;
@@ -7,18 +8,24 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
 import lombok.ToString;
 
 @Data
 @EqualsAndHashCode(exclude = { "players" })
 @ToString(exclude = { "players" })
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_start_date_end_date", columnList = "start_date, end_date"),
+        @Index(name = "idx_events_duration_minutes", columnList = "duration_minutes")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class Event implements Serializable {
 
@@ -58,7 +65,40 @@ public abstract class Event implements Serializable {
     @Column(name = "maximum_participants", nullable = false)
     private Integer maximumParticipants;
 
+    /**
+     * Número de jugadores inscritos. Solo lo modifican las actualizaciones
+     * condicionales de {@code PlayerRepository}, por lo que no se escribe al
+     * actualizar el evento.
+     */
+    @Column(name = "participant_count", nullable = false, updatable = false)
+    private int participantCount;
+
+    /**
+     * Duración del evento en minutos, calculada a partir de las fechas al
+     * guardarlo. El calendario busca por ella los eventos largos que
+     * empezaron mucho antes del intervalo consultado.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "duration_minutes", nullable = false)
+    private long durationMinutes;
+
+    /**
+     * Se incrementa en cada modificación de la fila, incluidas las
+     * inscripciones. Detecta las actualizaciones concurrentes y forma parte del
+     * ETag de las respuestas.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @JsonIgnoreProperties(value = { "events", "club" })
     @ManyToMany(mappedBy = "events")
     private Set<Player> players = new HashSet<>();
+
+    @PrePersist
+    @PreUpdate
+    private void updateDuration() {
+        this.durationMinutes = Duration.between(startDate, endDate).toMinutes();
+    }
 }
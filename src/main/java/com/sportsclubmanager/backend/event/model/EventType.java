@@ -0,0 +1,23 @@
+package com.sportsclubmanager.backend.event.model;
+
+/**
+ * Tipos de evento, cada uno asociado a su entidad.
+ */
+public enum EventType {
+    TOURNAMENT(Tournament.class),
+    TRAINING(Training.class);
+
+    private final Class<? extends Event> entityClass;
+
+    EventType(Class<? extends Event> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public Class<? extends Event> getEntityClass() {
+        return entityClass;
+    }
+
+    public static EventType of(Event event) {
+        return event instanceof Tournament ? TOURNAMENT : TRAINING;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sportsclubmanager.backend.event.repository;
+
+import com.sportsclubmanager.backend.event.model.ArchivedEvent;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+    List<ArchivedEvent> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Bloquea y obtiene los eventos que terminaron antes de la fecha límite.
+     * Como un evento no termina antes de empezar, la condición sobre la fecha
+     * de inicio permite recorrer solo ese tramo del índice
+     * {@code idx_events_start_date_end_date}.
+     *
+     * @param cutoff la fecha límite
+     * @param limit  el número máximo de eventos
+     * @return los IDs de los eventos
+     */
+    @Query(value = """
+            select id from events
+            where start_date < :cutoff and end_date < :cutoff
+            order by start_date, end_date, id
+            limit :limit
+            for update
+            """, nativeQuery = true)
+    List<Long> lockFinishedEventIds(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("limit") int limit);
+
+    /**
+     * Copia los eventos al archivo junto con su tipo y su número de
+     * participantes.
+     *
+     * @param eventIds   los IDs de los eventos
+     * @param archivedAt la fecha de archivado
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_events"))
+    @Query(value = """
+            insert into archived_events (
+                id, type, name, description, location, start_date, end_date,
+                event_visibility, maximum_participants, participant_count, archived_at)
+            select e.id,
+                   case when t.id is not null then 'TOURNAMENT' else 'TRAINING' end,
+                   e.name, e.description, e.location, e.start_date, e.end_date,
+                   e.event_visibility, e.maximum_participants, e.participant_count,
+                   :archivedAt
+            from events e
+            left join tournaments t on t.id = e.id
+            where e.id in (:eventIds)
+            """, nativeQuery = true)
+    void copyEvents(
+            @Param("eventIds") Collection<Long> eventIds,
+            @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_players_events"))
+    @Query(value = """
+            insert into archived_players_events (event_id, player_id)
+            select event_id, player_id from players_events
+            where event_id in (:eventIds)
+            """, nativeQuery = true)
+    void copyRegistrations(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "players_events"))
+    @Query(value = "delete from players_events where event_id in (:eventIds)", nativeQuery = true)
+    void deleteRegistrations(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournaments"))
+    @Query(value = "delete from tournaments where id in (:eventIds)", nativeQuery = true)
+    void deleteTournaments(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trainings"))
+    @Query(value = "delete from trainings where id in (:eventIds)", nativeQuery = true)
+    void deleteTrainings(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events"))
+    @Query(value = "delete from events where id in (:eventIds)", nativeQuery = true)
+    void deleteEvents(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,84 @@
+package com.sportsclubmanager.backend.event.repository;
+
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventRepository extends JpaRepository<Event, Long> {
+
+    /**
+     * Busca los torneos y entrenamientos que se solapan con el intervalo
+     * {@code [from, to)}, en el orden del índice
+     * {@code idx_events_start_date_end_date}.
+     * <p>
+     * La fecha de inicio se acota entre {@code earliestStart} y {@code to}, de
+     * modo que la consulta recorre solo ese tramo del índice en lugar de todos
+     * los eventos anteriores a {@code to}. Si {@code afterId} no es nulo, la
+     * consulta continúa después del evento ({@code afterStart},
+     * {@code afterEnd}, {@code afterId}).
+     */
+    @Query("""
+            select e from Event e
+            where e.startDate >= :earliestStart
+              and e.startDate < :to
+              and e.endDate > :from
+              and e.eventVisibility in :visibilities
+              and type(e) in :types
+              and (:afterId is null
+                or e.startDate > :afterStart
+                or (e.startDate = :afterStart
+                  and (e.endDate > :afterEnd
+                    or (e.endDate = :afterEnd and e.id > :afterId))))
+            order by e.startDate, e.endDate, e.id
+            """)
+    List<Event> findCalendar(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("earliestStart") LocalDateTime earliestStart,
+            @Param("visibilities") Collection<EventVisibility> visibilities,
+            @Param("types") Collection<Class<? extends Event>> types,
+            @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterEnd") LocalDateTime afterEnd,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    /**
+     * Busca los eventos que empezaron antes de {@code earliestStart} y siguen
+     * en curso en {@code from}, que {@link #findCalendar} no recorre. Solo
+     * pueden ser eventos de al menos {@code minDurationMinutes} minutos, de
+     * modo que la consulta recorre por el índice
+     * {@code idx_events_duration_minutes} únicamente los eventos largos. El
+     * orden y la continuación después de un evento son los de
+     * {@link #findCalendar}.
+     */
+    @Query("""
+            select e from Event e
+            where e.durationMinutes >= :minDurationMinutes
+              and e.startDate < :earliestStart
+              and e.endDate > :from
+              and e.eventVisibility in :visibilities
+              and type(e) in :types
+              and (:afterId is null
+                or e.startDate > :afterStart
+                or (e.startDate = :afterStart
+                  and (e.endDate > :afterEnd
+                    or (e.endDate = :afterEnd and e.id > :afterId))))
+            order by e.startDate, e.endDate, e.id
+            """)
+    List<Event> findLongCalendar(
+            @Param("from") LocalDateTime from,
+            @Param("earliestStart") LocalDateTime earliestStart,
+            @Param("minDurationMinutes") long minDurationMinutes,
+            @Param("visibilities") Collection<EventVisibility> visibilities,
+            @Param("types") Collection<Class<? extends Event>> types,
+            @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterEnd") LocalDateTime afterEnd,
+            @Param("afterId") Long afterId,
+            Limit limit);
+}
@@ -1,7 +1,56 @@
 package com.sportsclubmanager.backend.event.repository;
 
+import com.sportsclubmanager.backend.event.dto.EventSummary;
 import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.shared.etag.VersionStamp;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+    List<Tournament> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query("""
+            select new com.sportsclubmanager.backend.event.dto.EventSummary(
+                e.id, e.name, e.description, e.location, e.startDate,
+                e.endDate, e.eventVisibility, e.maximumParticipants)
+            from Tournament e
+            order by e.id
+            """)
+    Stream<EventSummary> streamAllSummaries();
+
+    @Query(value = "select e.id from Tournament e", countQuery = "select count(e) from Tournament e")
+    Page<Long> findIds(Pageable pageable);
+
+    @Query("select e.id from Tournament e where e.id > :afterId order by e.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Obtiene las versiones de los eventos indicados y de sus jugadores
+     * inscritos, que forman parte de las respuestas de los eventos.
+     *
+     * @param ids los IDs de los eventos
+     * @return las versiones de las filas
+     */
+    @Query(value = """
+            select 'EVENT' as kind, e.id as ownerId, e.id as id, e.version as version
+            from tournaments t join events e on e.id = t.id
+            where t.id in (:ids)
+            union all
+            select 'USER', pe.event_id, u.id, u.version
+            from players_events pe join users u on u.id = pe.player_id
+            where pe.event_id in (:ids)
+            """, nativeQuery = true)
+    List<VersionStamp> findVersionStamps(@Param("ids") Collection<Long> ids);
 }
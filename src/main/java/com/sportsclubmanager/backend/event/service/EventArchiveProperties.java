@@ -0,0 +1,36 @@
+package com.sportsclubmanager.backend.event.service;
+
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propiedades de configuración del archivado de eventos finalizados.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.events.archive")
+public class EventArchiveProperties {
+
+    /**
+     * Si está activo, los eventos finalizados se trasladan periódicamente a las
+     * tablas de archivo.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tiempo que debe haber pasado desde el fin de un evento para archivarlo.
+     */
+    private Duration minimumAge = Duration.ofDays(365);
+
+    /**
+     * Número de eventos que se archivan en cada transacción. Los bloques
+     * pequeños mantienen cortos los bloqueos sobre {@code events}.
+     */
+    @Positive
+    private int chunkSize = 200;
+}
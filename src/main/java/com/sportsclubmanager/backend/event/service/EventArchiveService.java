@@ -0,0 +1,119 @@
+package com.sportsclubmanager.backend.event.service;
+
+import com.sportsclubmanager.backend.event.dto.ArchivedEventResponse;
+import com.sportsclubmanager.backend.event.model.ArchivedEvent;
+import com.sportsclubmanager.backend.event.repository.ArchivedEventRepository;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Traslada los eventos finalizados y sus inscripciones a las tablas de
+ * archivo para que {@code events} y {@code players_events} solo contengan los
+ * eventos vigentes, y permite consultar los eventos archivados.
+ */
+@Service
+public class EventArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventArchiveService.class);
+
+    private final ArchivedEventRepository archivedEventRepository;
+    private final EventArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public EventArchiveService(
+            ArchivedEventRepository archivedEventRepository,
+            EventArchiveProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.archivedEventRepository = archivedEventRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Archiva periódicamente los eventos que terminaron hace más del tiempo
+     * configurado.
+     */
+    @Scheduled(cron = "${app.events.archive.cron:0 30 3 * * *}")
+    public void archiveFinishedEvents() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int archived = archiveEventsFinishedBefore(
+                LocalDateTime.now().minus(properties.getMinimumAge()));
+        log.info("Se archivaron {} eventos finalizados", archived);
+    }
+
+    /**
+     * Archiva los eventos que terminaron antes de la fecha límite. Cada bloque
+     * se archiva en su propia transacción: los eventos se bloquean, se copian
+     * al archivo con sus inscripciones y se eliminan de las tablas de eventos.
+     *
+     * @param cutoff la fecha límite
+     * @return el número de eventos archivados
+     */
+    public int archiveEventsFinishedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            total += archived;
+        } while (archived == properties.getChunkSize());
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> eventIds = archivedEventRepository.lockFinishedEventIds(
+                cutoff,
+                properties.getChunkSize());
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        archivedEventRepository.copyEvents(eventIds, LocalDateTime.now());
+        archivedEventRepository.copyRegistrations(eventIds);
+        archivedEventRepository.deleteRegistrations(eventIds);
+        archivedEventRepository.deleteTournaments(eventIds);
+        archivedEventRepository.deleteTrainings(eventIds);
+        archivedEventRepository.deleteEvents(eventIds);
+        return eventIds.size();
+    }
+
+    public Optional<ArchivedEventResponse> findById(Long id) {
+        return archivedEventRepository.findById(id).map(ArchivedEventResponse::from);
+    }
+
+    public CursorPage<ArchivedEventResponse> findAll(CursorPageRequest request) {
+        return CursorPage.of(
+                archivedEventRepository.findByIdGreaterThanOrderByIdAsc(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                ArchivedEvent::getId)
+                .map(ArchivedEventResponse::from);
+    }
+
+    /**
+     * Obtiene los IDs de los jugadores que estaban inscritos en un evento
+     * archivado.
+     *
+     * @param id el ID del evento archivado
+     * @return los IDs de los jugadores ordenados, o vacío si el evento no está
+     *         archivado
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<Long>> findPlayerIds(Long id) {
+        return archivedEventRepository.findById(id)
+                .map(archivedEvent -> List.copyOf(archivedEvent.getPlayerIds()));
+    }
+}
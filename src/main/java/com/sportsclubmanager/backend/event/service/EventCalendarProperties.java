@@ -0,0 +1,25 @@
+package com.sportsclubmanager.backend.event.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del calendario de eventos.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.events.calendar")
+public class EventCalendarProperties {
+
+    /**
+     * Duración a partir de la cual un evento se considera largo. Acota por
+     * abajo la fecha de inicio de los eventos que se buscan por el índice de
+     * fechas: un evento que empezó antes solo puede solaparse con el intervalo
+     * si dura más, y se busca aparte entre los eventos largos. Debe superar la
+     * duración de casi todos los eventos para que esa segunda búsqueda sea
+     * pequeña.
+     */
+    private Duration maxEventDuration = Duration.ofDays(31);
+}
@@ -0,0 +1,144 @@
+package com.sportsclubmanager.backend.event.service;
+
+import com.sportsclubmanager.backend.event.dto.CalendarEventResponse;
+import com.sportsclubmanager.backend.event.dto.EventCalendarCursor;
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventType;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.repository.EventRepository;
+import com.sportsclubmanager.backend.shared.exception.InvalidDateRangeException;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio del calendario que reúne torneos y entrenamientos en una sola
+ * lista ordenada por fecha.
+ */
+@Service
+public class EventCalendarService {
+
+    private final EventRepository eventRepository;
+    private final EventCalendarProperties eventCalendarProperties;
+
+    public EventCalendarService(
+            EventRepository eventRepository,
+            EventCalendarProperties eventCalendarProperties) {
+        this.eventRepository = eventRepository;
+        this.eventCalendarProperties = eventCalendarProperties;
+    }
+
+    /**
+     * Obtiene por cursor los eventos que se solapan con el intervalo
+     * {@code [from, to)}, ordenados por fecha de inicio y de fin.
+     * <p>
+     * Los eventos que empezaron como mucho
+     * {@link EventCalendarProperties#getMaxEventDuration()} antes de
+     * {@code from} se buscan por el índice de fechas; los que empezaron antes
+     * solo pueden ser más largos que esa duración y se buscan por el índice de
+     * duración. Como todos estos empiezan antes que los primeros, la página se
+     * completa con unos y después con otros.
+     *
+     * @param from           inicio del intervalo (inclusivo)
+     * @param to             fin del intervalo (exclusivo)
+     * @param visibility     visibilidad de los eventos, o {@code null} para
+     *                       todas las permitidas
+     * @param type           tipo de los eventos, o {@code null} para todos
+     * @param after          el cursor devuelto por la página anterior, o
+     *                       {@code null} para la primera página
+     * @param limit          el número de eventos solicitado, o {@code null}
+     *                       para usar el valor por defecto
+     * @param includePrivate si el usuario puede ver los eventos privados
+     * @return página de eventos
+     * @throws InvalidDateRangeException si {@code from} no es anterior a
+     *                                   {@code to}
+     * @throws AccessDeniedException     si se solicitan eventos privados sin
+     *                                   poder verlos
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CalendarEventResponse> findCalendar(
+            LocalDateTime from,
+            LocalDateTime to,
+            EventVisibility visibility,
+            EventType type,
+            String after,
+            Integer limit,
+            boolean includePrivate) {
+        if (!from.isBefore(to)) {
+            throw new InvalidDateRangeException(
+                    "La fecha de inicio debe ser anterior a la fecha de fin");
+        }
+        if (visibility == EventVisibility.PRIVATE && !includePrivate) {
+            throw new AccessDeniedException("No tiene permiso para ver los eventos privados");
+        }
+
+        CursorPageRequest request = CursorPageRequest.of(null, limit);
+        EventCalendarCursor cursor = after == null || after.isBlank()
+                ? null
+                : EventCalendarCursor.decode(after);
+
+        Set<EventVisibility> visibilities;
+        if (visibility != null) {
+            visibilities = EnumSet.of(visibility);
+        } else if (includePrivate) {
+            visibilities = EnumSet.allOf(EventVisibility.class);
+        } else {
+            visibilities = EnumSet.of(EventVisibility.PUBLIC);
+        }
+        List<Class<? extends Event>> types = type == null
+                ? Arrays.stream(EventType.values())
+                        .<Class<? extends Event>>map(EventType::getEntityClass)
+                        .toList()
+                : List.of(type.getEntityClass());
+
+        Duration maxEventDuration = eventCalendarProperties.getMaxEventDuration();
+        LocalDateTime earliestStart = from.minus(maxEventDuration);
+        List<Event> rows = new ArrayList<>();
+
+        if (cursor == null || cursor.startDate().isBefore(earliestStart)) {
+            rows.addAll(eventRepository.findLongCalendar(
+                    from,
+                    earliestStart,
+                    maxEventDuration.toMinutes(),
+                    visibilities,
+                    types,
+                    cursor == null ? null : cursor.startDate(),
+                    cursor == null ? null : cursor.endDate(),
+                    cursor == null ? null : cursor.id(),
+                    request.fetchLimit()));
+        }
+
+        if (rows.size() <= request.limit()) {
+            boolean continuesInRange = cursor != null && !cursor.startDate().isBefore(earliestStart);
+            rows.addAll(eventRepository.findCalendar(
+                    from,
+                    to,
+                    continuesInRange ? cursor.startDate() : earliestStart,
+                    visibilities,
+                    types,
+                    continuesInRange ? cursor.startDate() : null,
+                    continuesInRange ? cursor.endDate() : null,
+                    continuesInRange ? cursor.id() : null,
+                    Limit.of(request.fetchLimit().max() - rows.size())));
+        }
+
+        if (rows.size() <= request.limit()) {
+            return new CursorPage<>(rows.stream().map(CalendarEventResponse::from).toList(), null);
+        }
+
+        List<Event> content = rows.subList(0, request.limit());
+        return new CursorPage<>(
+                content.stream().map(CalendarEventResponse::from).toList(),
+                EventCalendarCursor.of(content.get(content.size() - 1)).encode());
+    }
+}
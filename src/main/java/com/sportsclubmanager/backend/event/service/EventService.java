@@ -1,8 +1,14 @@
 package com.sportsclubmanager.backend.event.service;
 
+import com.sportsclubmanager.backend.event.dto.EventSummary;
 import com.sportsclubmanager.backend.event.dto.EventUpdateRequest;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.exception.PreconditionFailedException;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -43,19 +49,68 @@ public interface EventService<T> {
      */
     Page<T> findAll(Pageable pageable);
 
+    /**
+     * Obtiene eventos por cursor, ordenados por ID y sin contar el total de
+     * eventos.
+     *
+     * @param request solicitud de la página
+     * @return página de eventos
+     */
+    CursorPage<T> findAll(CursorPageRequest request);
+
+    /**
+     * Recorre todos los eventos ordenados por ID sin cargarlos en memoria. El
+     * flujo debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return flujo de proyecciones de eventos
+     */
+    Stream<EventSummary> streamAllSummaries();
+
     /**
      * Actualiza un evento existente.
      *
      * @param id                 identificador del evento a actualizar
      * @param eventUpdateRequest datos de actualización
+     * @param ifMatch            precondición {@code If-Match}, que se comprueba
+     *                           en la misma transacción que la escritura
      * @return evento actualizado envuelto en Optional
+     * @throws PreconditionFailedException si el evento cambió
      */
-    Optional<T> update(Long id, EventUpdateRequest eventUpdateRequest);
+    Optional<T> update(Long id, EventUpdateRequest eventUpdateRequest, IfMatch ifMatch);
 
     /**
      * Elimina un evento por su ID.
      *
-     * @param id identificador del evento a eliminar
+     * @param id      identificador del evento a eliminar
+     * @param ifMatch precondición {@code If-Match}, que se comprueba en la misma
+     *                transacción que la eliminación
+     * @throws PreconditionFailedException si el evento cambió
+     */
+    void deleteById(Long id, IfMatch ifMatch);
+
+    /**
+     * Calcula el ETag de la respuesta de un evento a partir de las versiones de
+     * las filas con las que se construye, sin cargar la entidad.
+     *
+     * @param id el ID del evento
+     * @return el ETag, o vacío si el evento no existe
+     */
+    Optional<String> findEntityTag(Long id);
+
+    /**
+     * Calcula el ETag de una página de eventos sin cargar sus entidades.
+     *
+     * @param pageable la información de paginación
+     * @return el ETag de la página
+     */
+    String findPageEntityTag(Pageable pageable);
+
+    /**
+     * Calcula el ETag de una página de eventos por cursor sin cargar sus
+     * entidades.
+     *
+     * @param request la solicitud de la página
+     * @return el ETag de la página
      */
-    void deleteById(Long id);
+    String findPageEntityTag(CursorPageRequest request);
 }
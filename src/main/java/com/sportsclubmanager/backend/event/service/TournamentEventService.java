@@ -1,13 +1,20 @@
 package com.sportsclubmanager.backend.event.service;
 
+import com.sportsclubmanager.backend.event.dto.EventSummary;
 import com.sportsclubmanager.backend.event.dto.EventUpdateRequest;
 import com.sportsclubmanager.backend.event.model.Tournament;
 import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TournamentEventService implements EventService<Tournament> {
@@ -39,13 +46,32 @@ public class TournamentEventService implements EventService<Tournament> {
     }
 
     @Override
+    public CursorPage<Tournament> findAll(CursorPageRequest request) {
+        return CursorPage.of(
+                tournamentRepository.findByIdGreaterThanOrderByIdAsc(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                Tournament::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<EventSummary> streamAllSummaries() {
+        return tournamentRepository.streamAllSummaries();
+    }
+
+    @Override
+    @Transactional
     public Optional<Tournament> update(
             Long id,
-            EventUpdateRequest eventUpdateRequest) {
+            EventUpdateRequest eventUpdateRequest,
+            IfMatch ifMatch) {
         Optional<Tournament> tournamentOptional = tournamentRepository.findById(
                 id);
 
         if (tournamentOptional.isPresent()) {
+            ifMatch.check(() -> findEntityTag(id));
             Tournament tournamentUpdated = tournamentOptional.orElseThrow();
 
             tournamentUpdated.setName(eventUpdateRequest.getName());
@@ -65,7 +91,32 @@ public class TournamentEventService implements EventService<Tournament> {
     }
 
     @Override
-    public void deleteById(Long id) {
+    @Transactional
+    public void deleteById(Long id, IfMatch ifMatch) {
+        ifMatch.check(() -> tournamentRepository.findById(id).flatMap(tournament -> findEntityTag(id)));
         tournamentRepository.deleteById(id);
     }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(tournamentRepository.findVersionStamps(List.of(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = tournamentRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                tournamentRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                tournamentRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                tournamentRepository::findVersionStamps);
+    }
 }
@@ -1,13 +1,20 @@
 package com.sportsclubmanager.backend.event.service;
 
+import com.sportsclubmanager.backend.event.dto.EventSummary;
 import com.sportsclubmanager.backend.event.dto.EventUpdateRequest;
 import com.sportsclubmanager.backend.event.model.Training;
 import com.sportsclubmanager.backend.event.repository.TrainingRepository;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TrainingEventService implements EventService<Training> {
@@ -39,12 +46,31 @@ public class TrainingEventService implements EventService<Training> {
     }
 
     @Override
+    public CursorPage<Training> findAll(CursorPageRequest request) {
+        return CursorPage.of(
+                trainingRepository.findByIdGreaterThanOrderByIdAsc(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                Training::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<EventSummary> streamAllSummaries() {
+        return trainingRepository.streamAllSummaries();
+    }
+
+    @Override
+    @Transactional
     public Optional<Training> update(
             Long id,
-            EventUpdateRequest eventUpdateRequest) {
+            EventUpdateRequest eventUpdateRequest,
+            IfMatch ifMatch) {
         Optional<Training> trainingOptional = trainingRepository.findById(id);
 
         if (trainingOptional.isPresent()) {
+            ifMatch.check(() -> findEntityTag(id));
             Training trainingUpdated = trainingOptional.orElseThrow();
 
             trainingUpdated.setName(eventUpdateRequest.getName());
@@ -63,7 +89,32 @@ public class TrainingEventService implements EventService<Training> {
     }
 
     @Override
-    public void deleteById(Long id) {
+    @Transactional
+    public void deleteById(Long id, IfMatch ifMatch) {
+        ifMatch.check(() -> trainingRepository.findById(id).flatMap(training -> findEntityTag(id)));
         trainingRepository.deleteById(id);
     }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(trainingRepository.findVersionStamps(List.of(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = trainingRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                trainingRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                trainingRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                trainingRepository::findVersionStamps);
+    }
 }
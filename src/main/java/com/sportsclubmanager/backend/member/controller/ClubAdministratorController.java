@@ -2,8 +2,13 @@ package com.sportsclubmanager.backend.member.controller;
 
 import com.sportsclubmanager.backend.member.model.ClubAdministrator;
 import com.sportsclubmanager.backend.member.service.ClubAdministratorService;
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.validation.ValidationService;
 import com.sportsclubmanager.backend.user.dto.ApiResponse;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
 import com.sportsclubmanager.backend.user.dto.UserResponse;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.mapper.UserMapper;
@@ -15,11 +20,14 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/club-administrators")
@@ -61,11 +69,13 @@ public class ClubAdministratorController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
-        return userService
-                .findById(id)
-                .map(clubAdministrator -> ResponseEntity.ok(userMapper.toUserResponse(clubAdministrator)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<UserResponse> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                userService.findEntityTag(id),
+                () -> userService.findById(id).map(userMapper::toUserResponse));
     }
 
     @GetMapping("/username/{username}")
@@ -81,22 +91,32 @@ public class ClubAdministratorController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserResponse>> getAll() {
-        return ResponseEntity.ok(
-                userService
-                        .findAll()
-                        .stream()
-                        .map(userMapper::toUserResponse)
-                        .toList());
+        return ResponseEntity.ok(userService.findAllResponses());
     }
 
     @GetMapping("/page/{page}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<UserResponse>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                userService
-                        .findAll(PageRequest.of(page, 5))
-                        .map(userMapper::toUserResponse));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                userService.findPageEntityTag(pageable),
+                () -> userService.findAllResponses(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<UserResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                userService.findPageEntityTag(pageRequest),
+                () -> userService.findAllResponses(pageRequest));
     }
 
     @PutMapping("/{id}")
@@ -104,7 +124,8 @@ public class ClubAdministratorController {
     public ResponseEntity<ApiResponse<UserResponse>> update(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateRequest userUpdateRequest,
-            BindingResult bindingResult) {
+            BindingResult bindingResult,
+            WebRequest request) {
         ResponseEntity<ApiResponse<UserResponse>> validationResult = validationService.handleValidation(
                 userUpdateRequest,
                 bindingResult);
@@ -112,7 +133,7 @@ public class ClubAdministratorController {
             return validationResult;
 
         return userService
-                .update(id, userUpdateRequest)
+                .update(id, userUpdateRequest, IfMatch.from(request))
                 .map(user -> {
                     UserResponse response = userMapper.toUserResponse(user);
                     ApiResponse<UserResponse> apiResponse = new ApiResponse<>(
@@ -122,14 +143,35 @@ public class ClubAdministratorController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping(value = "/{id}", consumes = UserPatchRequest.MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> patch(
+            @PathVariable Long id,
+            @Valid @RequestBody UserPatchRequest userPatchRequest,
+            BindingResult bindingResult,
+            WebRequest request) {
+        ResponseEntity<ApiResponse<Void>> validationResult = validationService.handlePatchValidation(
+                userPatchRequest,
+                bindingResult);
+        if (validationResult != null)
+            return validationResult;
+
+        if (userService.patch(id, userPatchRequest, IfMatch.from(request))) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<ClubAdministrator> clubAdminOptional = userService.findById(
                 id);
 
         if (clubAdminOptional.isPresent()) {
-            userService.deleteById(id);
+            userService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -139,10 +181,12 @@ public class ClubAdministratorController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> updateAffiliationStatus(
             @PathVariable Long id,
-            @RequestBody AffiliationStatus affiliationStatus) {
+            @RequestBody AffiliationStatus affiliationStatus,
+            WebRequest request) {
         boolean affiliationStatusUpdated = userService.updateAffiliationStatus(
                 id,
-                affiliationStatus);
+                affiliationStatus,
+                IfMatch.from(request));
         if (affiliationStatusUpdated) {
             return ResponseEntity.ok().build();
         }
@@ -1,8 +1,13 @@
 package com.sportsclubmanager.backend.member.controller;
 
 import com.sportsclubmanager.backend.member.model.Coach;
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.validation.ValidationService;
 import com.sportsclubmanager.backend.user.dto.ApiResponse;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
 import com.sportsclubmanager.backend.user.dto.UserResponse;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.mapper.UserMapper;
@@ -14,11 +19,14 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/coaches")
@@ -56,11 +64,13 @@ public class CoachController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
-        return coachService
-                .findById(id)
-                .map(coach -> ResponseEntity.ok(userMapper.toUserResponse(coach)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<UserResponse> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                coachService.findEntityTag(id),
+                () -> coachService.findById(id).map(userMapper::toUserResponse));
     }
 
     @GetMapping("/username/{username}")
@@ -76,22 +86,32 @@ public class CoachController {
     @GetMapping
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<List<UserResponse>> getAll() {
-        return ResponseEntity.ok(
-                coachService
-                        .findAll()
-                        .stream()
-                        .map(userMapper::toUserResponse)
-                        .toList());
+        return ResponseEntity.ok(coachService.findAllResponses());
     }
 
     @GetMapping("/page/{page}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Page<UserResponse>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                coachService
-                        .findAll(PageRequest.of(page, 5))
-                        .map(userMapper::toUserResponse));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                coachService.findPageEntityTag(pageable),
+                () -> coachService.findAllResponses(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<CursorPage<UserResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                coachService.findPageEntityTag(pageRequest),
+                () -> coachService.findAllResponses(pageRequest));
     }
 
     @PutMapping("/{id}")
@@ -99,7 +119,8 @@ public class CoachController {
     public ResponseEntity<ApiResponse<UserResponse>> update(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateRequest userUpdateRequest,
-            BindingResult bindingResult) {
+            BindingResult bindingResult,
+            WebRequest request) {
         ResponseEntity<ApiResponse<UserResponse>> validationResult = validationService.handleValidation(
                 userUpdateRequest,
                 bindingResult);
@@ -107,7 +128,7 @@ public class CoachController {
             return validationResult;
 
         return coachService
-                .update(id, userUpdateRequest)
+                .update(id, userUpdateRequest, IfMatch.from(request))
                 .map(user -> {
                     UserResponse response = userMapper.toUserResponse(user);
                     ApiResponse<UserResponse> apiResponse = new ApiResponse<>(
@@ -117,13 +138,34 @@ public class CoachController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping(value = "/{id}", consumes = UserPatchRequest.MEDIA_TYPE)
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'COACH', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> patch(
+            @PathVariable Long id,
+            @Valid @RequestBody UserPatchRequest userPatchRequest,
+            BindingResult bindingResult,
+            WebRequest request) {
+        ResponseEntity<ApiResponse<Void>> validationResult = validationService.handlePatchValidation(
+                userPatchRequest,
+                bindingResult);
+        if (validationResult != null)
+            return validationResult;
+
+        if (coachService.patch(id, userPatchRequest, IfMatch.from(request))) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<Coach> coachOptional = coachService.findById(id);
 
         if (coachOptional.isPresent()) {
-            coachService.deleteById(id);
+            coachService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -133,10 +175,12 @@ public class CoachController {
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Void> updateAffiliationStatus(
             @PathVariable Long id,
-            @RequestBody AffiliationStatus affiliationStatus) {
+            @RequestBody AffiliationStatus affiliationStatus,
+            WebRequest request) {
         boolean updated = coachService.updateAffiliationStatus(
                 id,
-                affiliationStatus);
+                affiliationStatus,
+                IfMatch.from(request));
         if (updated) {
             return ResponseEntity.ok().build();
         }
@@ -3,23 +3,41 @@ package com.sportsclubmanager.backend.member.controller;
 import com.sportsclubmanager.backend.member.mapper.PlayerMapper;
 import com.sportsclubmanager.backend.member.model.Player;
 import com.sportsclubmanager.backend.member.model.PlayerResponse;
+import com.sportsclubmanager.backend.member.service.EventRegistrationQueue;
+import com.sportsclubmanager.backend.member.service.PlayerImportService;
 import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import com.sportsclubmanager.backend.shared.importing.ImportReport;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.validation.ValidationService;
 import com.sportsclubmanager.backend.user.dto.ApiResponse;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
 import com.sportsclubmanager.backend.user.service.UserService;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/players")
@@ -31,15 +49,27 @@ public class PlayerController {
 
     private final PlayerMapper playerMapper;
 
+    private final StreamingExporter streamingExporter;
+
+    private final PlayerImportService playerImportService;
+
+    private final EventRegistrationQueue eventRegistrationQueue;
+
     public PlayerController(
             @Qualifier("playerService") UserService<Player> userService,
             @Qualifier("playerService") PlayerService playerService,
             ValidationService validationService,
-            PlayerMapper playerMapper) {
+            PlayerMapper playerMapper,
+            StreamingExporter streamingExporter,
+            PlayerImportService playerImportService,
+            EventRegistrationQueue eventRegistrationQueue) {
         this.userService = userService;
         this.playerService = playerService;
         this.validationService = validationService;
         this.playerMapper = playerMapper;
+        this.streamingExporter = streamingExporter;
+        this.playerImportService = playerImportService;
+        this.eventRegistrationQueue = eventRegistrationQueue;
     }
 
     @PostMapping
@@ -60,11 +90,13 @@ public class PlayerController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<PlayerResponse> getById(@PathVariable Long id) {
-        return userService
-                .findById(id)
-                .map(player -> ResponseEntity.ok(playerMapper.toPlayerResponse(player)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<PlayerResponse> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                userService.findEntityTag(id),
+                () -> userService.findById(id).map(playerMapper::toPlayerResponse));
     }
 
     @GetMapping("/username/{username}")
@@ -80,22 +112,57 @@ public class PlayerController {
     @GetMapping
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<List<PlayerResponse>> getAll() {
-        return ResponseEntity.ok(
-                userService
-                        .findAll()
-                        .stream()
-                        .map(playerMapper::toPlayerResponse)
-                        .toList());
+        return ResponseEntity.ok(playerService.findAllPlayerResponses());
     }
 
     @GetMapping("/page/{page}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Page<PlayerResponse>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                userService
-                        .findAll(PageRequest.of(page, 5))
-                        .map(playerMapper::toPlayerResponse));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                playerService.findPageEntityTag(pageable),
+                () -> playerService.findAllPlayerResponses(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<CursorPage<PlayerResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                playerService.findPageEntityTag(pageRequest),
+                () -> playerService.findAllPlayerResponses(pageRequest));
+    }
+
+    @GetMapping(value = "/export", produces = { ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE })
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExporter.export(
+                accept,
+                "players",
+                UserSummary.EXPORT_COLUMNS,
+                userService::streamAllSummaries);
+    }
+
+    /**
+     * Importa jugadores de forma masiva desde un archivo NDJSON o CSV enviado
+     * como cuerpo de la solicitud.
+     */
+    @PostMapping(value = "/import", consumes = { ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE })
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
+    public ResponseEntity<ImportReport> importPlayers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream inputStream) {
+        return ResponseEntity.ok(playerImportService.importPlayers(
+                ExportFormat.fromContentType(contentType),
+                inputStream));
     }
 
     @PutMapping("/{id}")
@@ -103,7 +170,8 @@ public class PlayerController {
     public ResponseEntity<ApiResponse<PlayerResponse>> update(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateRequest userUpdateRequest,
-            BindingResult bindingResult) {
+            BindingResult bindingResult,
+            WebRequest request) {
         ResponseEntity<ApiResponse<PlayerResponse>> validationResult = validationService.handlePlayerValidation(
                 userUpdateRequest,
                 bindingResult);
@@ -111,7 +179,7 @@ public class PlayerController {
             return validationResult;
 
         return userService
-                .update(id, userUpdateRequest)
+                .update(id, userUpdateRequest, IfMatch.from(request))
                 .map(user -> {
                     PlayerResponse response = playerMapper.toPlayerResponse(user);
                     ApiResponse<PlayerResponse> apiResponse = new ApiResponse<>(
@@ -121,13 +189,34 @@ public class PlayerController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping(value = "/{id}", consumes = UserPatchRequest.MEDIA_TYPE)
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'COACH', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> patch(
+            @PathVariable Long id,
+            @Valid @RequestBody UserPatchRequest userPatchRequest,
+            BindingResult bindingResult,
+            WebRequest request) {
+        ResponseEntity<ApiResponse<Void>> validationResult = validationService.handlePatchValidation(
+                userPatchRequest,
+                bindingResult);
+        if (validationResult != null)
+            return validationResult;
+
+        if (userService.patch(id, userPatchRequest, IfMatch.from(request))) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<Player> playerOptional = userService.findById(id);
 
         if (playerOptional.isPresent()) {
-            userService.deleteById(id);
+            userService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -137,10 +226,12 @@ public class PlayerController {
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'ADMIN')")
     public ResponseEntity<Void> updateAffiliationStatus(
             @PathVariable Long id,
-            @RequestBody AffiliationStatus affiliationStatus) {
+            @RequestBody AffiliationStatus affiliationStatus,
+            WebRequest request) {
         boolean updated = userService.updateAffiliationStatus(
                 id,
-                affiliationStatus);
+                affiliationStatus,
+                IfMatch.from(request));
         if (updated) {
             return ResponseEntity.ok().build();
         }
@@ -149,37 +240,37 @@ public class PlayerController {
 
     @PatchMapping("/{playerId}/register-in-tournament-event/{tournamentEventId}")
     @PreAuthorize("hasAnyRole('PLAYER', 'ADMIN')")
-    public ResponseEntity<String> registerInEvent(
+    public CompletableFuture<ResponseEntity<String>> registerInEvent(
             @PathVariable Long playerId,
             @PathVariable Long tournamentEventId) {
-        boolean registered = playerService.registerInTournamentEvent(
-                playerId,
-                tournamentEventId);
-
-        if (registered) {
-            return ResponseEntity.ok().build();
-        }
+        return eventRegistrationQueue
+                .registerInTournamentEvent(playerId, tournamentEventId)
+                .thenApply(registered -> {
+                    if (registered) {
+                        return ResponseEntity.ok().<String>build();
+                    }
 
-        return ResponseEntity.badRequest()
-                .body(
-                        "An error occurred while registering the player in the tournament event");
+                    return ResponseEntity.badRequest()
+                            .body(
+                                    "An error occurred while registering the player in the tournament event");
+                });
     }
 
     @PatchMapping("/{playerId}/register-in-training-event/{trainingEventId}")
     @PreAuthorize("hasAnyRole('PLAYER', 'ADMIN')")
-    public ResponseEntity<String> registerInTrainingEvent(
+    public CompletableFuture<ResponseEntity<String>> registerInTrainingEvent(
             @PathVariable Long playerId,
             @PathVariable Long trainingEventId) {
-        boolean registered = playerService.registerInTrainingEvent(
-                playerId,
-                trainingEventId);
-
-        if (registered) {
-            return ResponseEntity.ok().build();
-        }
+        return eventRegistrationQueue
+                .registerInTrainingEvent(playerId, trainingEventId)
+                .thenApply(registered -> {
+                    if (registered) {
+                        return ResponseEntity.ok().<String>build();
+                    }
 
-        return ResponseEntity.badRequest()
-                .body(
-                        "An error occurred while registering the player in the training event");
+                    return ResponseEntity.badRequest()
+                            .body(
+                                    "An error occurred while registering the player in the training event");
+                });
     }
 }
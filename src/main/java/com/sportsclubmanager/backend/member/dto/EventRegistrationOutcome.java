@@ -0,0 +1,15 @@
+package com.sportsclubmanager.backend.member.dto;
+
+/**
+ * Resultado de la inscripción de un jugador dentro de una inscripción por
+ * lotes.
+ *
+ * @param playerId el ID del jugador
+ * @param error    el motivo por el que no se inscribió, o null si se inscribió
+ */
+public record EventRegistrationOutcome(Long playerId, RuntimeException error) {
+
+    public boolean registered() {
+        return error == null;
+    }
+}
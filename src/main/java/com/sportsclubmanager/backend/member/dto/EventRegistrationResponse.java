@@ -0,0 +1,20 @@
+package com.sportsclubmanager.backend.member.dto;
+
+/**
+ * Resultado de la inscripción de un jugador que se devuelve en las
+ * inscripciones por lotes.
+ *
+ * @param playerId   el ID del jugador
+ * @param registered si el jugador quedó inscrito
+ * @param error      el motivo por el que no se inscribió, o null si se
+ *                   inscribió
+ */
+public record EventRegistrationResponse(Long playerId, boolean registered, String error) {
+
+    public static EventRegistrationResponse from(EventRegistrationOutcome outcome) {
+        return new EventRegistrationResponse(
+                outcome.playerId(),
+                outcome.registered(),
+                outcome.registered() ? null : outcome.error().getMessage());
+    }
+}
@@ -0,0 +1,15 @@
+package com.sportsclubmanager.backend.member.dto;
+
+/**
+ * Fila de una importación masiva de jugadores. La contraseña se recibe sin
+ * cifrar y se cifra antes de guardar al jugador.
+ */
+public record PlayerImportRow(
+        Long nationalId,
+        String name,
+        String lastName,
+        Long phoneNumber,
+        String email,
+        String username,
+        String password) {
+}
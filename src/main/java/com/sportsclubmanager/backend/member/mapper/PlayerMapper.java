@@ -2,10 +2,14 @@ package com.sportsclubmanager.backend.member.mapper;
 
 import com.sportsclubmanager.backend.member.model.Player;
 import com.sportsclubmanager.backend.member.model.PlayerResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
+import com.sportsclubmanager.backend.user.mapper.UserMapper;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = UserMapper.class)
 public interface PlayerMapper {
     @Mapping(source = "id", target = "id")
     @Mapping(source = "nationalId", target = "nationalId")
@@ -17,4 +21,18 @@ public interface PlayerMapper {
     @Mapping(source = "roles", target = "roles")
     @Mapping(source = "events", target = "events")
     PlayerResponse toPlayerResponse(Player player);
+
+    /**
+     * Mapea la proyección de un jugador a su respuesta. Los eventos se asignan
+     * por separado.
+     *
+     * @param userSummary la proyección del jugador
+     * @param roleCatalog el catálogo de roles
+     * @return la respuesta del jugador sin eventos
+     */
+    @Mapping(source = "roleNames", target = "roles", qualifiedByName = "mapRoleNames")
+    @Mapping(target = "events", ignore = true)
+    PlayerResponse toPlayerResponse(
+            UserSummary userSummary,
+            @Context RoleCatalog roleCatalog);
 }
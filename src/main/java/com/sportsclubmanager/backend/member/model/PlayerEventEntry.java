@@ -0,0 +1,10 @@
+package com.sportsclubmanager.backend.member.model;
+
+import com.sportsclubmanager.backend.event.model.Event;
+
+/**
+ * Asociación entre un jugador y uno de los eventos en los que está inscrito,
+ * obtenida sin cargar la entidad del jugador.
+ */
+public record PlayerEventEntry(Long playerId, Event event) {
+}
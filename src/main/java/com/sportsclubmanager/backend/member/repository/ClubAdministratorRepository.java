@@ -1,10 +1,64 @@
 package com.sportsclubmanager.backend.member.repository;
 
 import com.sportsclubmanager.backend.member.model.ClubAdministrator;
+import com.sportsclubmanager.backend.user.repository.UserSummaryRepository;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ClubAdministratorRepository
-    extends JpaRepository<ClubAdministrator, Long> {
+    extends UserSummaryRepository<ClubAdministrator> {
     Optional<ClubAdministrator> findByUsername(String name);
+
+    /**
+     * Cambia el estado de afiliación de un administrador de club sin cargar la entidad ni sus
+     * roles.
+     *
+     * @param id              el ID del administrador de club
+     * @param status          el nombre del nuevo estado de afiliación
+     * @param expectedVersion la versión que debe tener la fila, o null para no
+     *                        comprobarla
+     * @return 1 si se actualizó, 0 si no existe o su versión cambió
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = UPDATE_AFFILIATION_STATUS
+            + "and exists (select 1 from club_administrators ca where ca.id = users.id)", nativeQuery = true)
+    int updateAffiliationStatus(
+            @Param("id") Long id,
+            @Param("status") String status,
+            @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Modifica los datos de perfil de un administrador de club sin cargar la entidad ni sus
+     * roles. Los valores nulos dejan la columna sin cambios. Se vacía el
+     * contexto de persistencia para que una lectura posterior vea los nuevos
+     * valores.
+     *
+     * @param id              el ID del administrador de club
+     * @param expectedVersion la versión que debe tener la fila, o null para no
+     *                        comprobarla
+     * @param name            el nuevo nombre
+     * @param lastName        el nuevo apellido
+     * @param phoneNumber     el nuevo número de teléfono
+     * @param email           el nuevo correo electrónico
+     * @param username        el nuevo nombre de usuario
+     * @return 1 si se actualizó, 0 si no existe o su versión cambió
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = UPDATE_PROFILE
+            + "and exists (select 1 from club_administrators ca where ca.id = users.id)", nativeQuery = true)
+    int updateProfile(
+            @Param("id") Long id,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("name") String name,
+            @Param("lastName") String lastName,
+            @Param("phoneNumber") Long phoneNumber,
+            @Param("email") String email,
+            @Param("username") String username);
 }
@@ -1,9 +1,260 @@
 package com.sportsclubmanager.backend.member.repository;
 
 import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.model.PlayerEventEntry;
+import com.sportsclubmanager.backend.shared.etag.VersionStamp;
+import com.sportsclubmanager.backend.user.repository.UserSummaryRepository;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends UserSummaryRepository<Player> {
     Optional<Player> findByUsername(String name);
+
+    /**
+     * Obtiene las versiones de los jugadores indicados y de los eventos en los
+     * que están inscritos, que forman parte de sus respuestas.
+     *
+     * @param ids los IDs de los jugadores
+     * @return las versiones de las filas
+     */
+    @Override
+    @Query(value = """
+            select 'USER' as kind, u.id as ownerId, u.id as id, u.version as version
+            from players p join users u on u.id = p.id
+            where p.id in (:ids)
+            union all
+            select 'EVENT', pe.player_id, e.id, e.version
+            from players_events pe join events e on e.id = pe.event_id
+            where pe.player_id in (:ids)
+            """, nativeQuery = true)
+    List<VersionStamp> findVersionStamps(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene en una sola consulta los eventos de los jugadores indicados.
+     *
+     * @param playerIds los IDs de los jugadores
+     * @return los eventos junto con el ID del jugador inscrito
+     */
+    @Query("""
+            select new com.sportsclubmanager.backend.member.model.PlayerEventEntry(p.id, e)
+            from Player p join p.events e
+            where p.id in :playerIds
+            """)
+    List<PlayerEventEntry> findEventsByPlayerIds(
+            @Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Cuenta las inscripciones del jugador en el evento consultando solo la
+     * clave primaria de {@code players_events}, sin cargar sus colecciones.
+     *
+     * @param playerId el ID del jugador
+     * @param eventId  el ID del evento
+     * @return 1 si el jugador ya está inscrito, 0 en caso contrario
+     */
+    @Query(value = """
+            select count(*)
+            from players_events
+            where player_id = :playerId and event_id = :eventId
+            """, nativeQuery = true)
+    long countEventRegistrations(
+            @Param("playerId") Long playerId,
+            @Param("eventId") Long eventId);
+
+    /**
+     * Obtiene, de los IDs indicados, los que pertenecen a jugadores existentes.
+     *
+     * @param playerIds los IDs de los jugadores
+     * @return los IDs de los jugadores existentes
+     */
+    @Query("select p.id from Player p where p.id in :playerIds")
+    List<Long> findExistingIds(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Obtiene, de los jugadores indicados, los que ya están inscritos en el
+     * evento. Es una lectura con bloqueo, por lo que ve las inscripciones
+     * confirmadas por otras transacciones aunque el nivel de aislamiento sea
+     * {@code REPEATABLE READ}. Debe ejecutarse después de
+     * {@link #lockFreeEventSeats(Long)}.
+     *
+     * @param eventId   el ID del evento
+     * @param playerIds los IDs de los jugadores
+     * @return los IDs de los jugadores inscritos
+     */
+    @Query(value = """
+            select player_id
+            from players_events
+            where event_id = :eventId and player_id in (:playerIds)
+            for update
+            """, nativeQuery = true)
+    List<Long> findRegisteredPlayerIds(
+            @Param("eventId") Long eventId,
+            @Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Bloquea la fila del evento hasta el final de la transacción y devuelve
+     * las plazas libres.
+     *
+     * @param eventId el ID del evento
+     * @return el número de plazas libres, o null si el evento no existe
+     */
+    @Query(value = """
+            select maximum_participants - participant_count
+            from events
+            where id = :eventId
+            for update
+            """, nativeQuery = true)
+    Integer lockFreeEventSeats(@Param("eventId") Long eventId);
+
+    /**
+     * Ocupa plazas del evento si todavía quedan suficientes libres. La
+     * comprobación y el incremento se hacen en la misma sentencia, por lo que
+     * dos inscripciones concurrentes no pueden ocupar la última plaza a la vez.
+     * También incrementa la versión del evento, porque cambian sus
+     * participantes.
+     *
+     * @param eventId el ID del evento
+     * @param seats   el número de plazas a ocupar
+     * @return 1 si se ocuparon las plazas, 0 si no quedan suficientes
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events"))
+    @Query(value = """
+            update events
+            set participant_count = participant_count + :seats, version = version + 1
+            where id = :eventId and participant_count + :seats <= maximum_participants
+            """, nativeQuery = true)
+    int reserveEventSeats(@Param("eventId") Long eventId, @Param("seats") int seats);
+
+    /**
+     * Inscribe al jugador en el evento sin cargar sus colecciones.
+     *
+     * @param playerId el ID del jugador
+     * @param eventId  el ID del evento
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "players_events"))
+    @Query(value = """
+            insert into players_events (player_id, event_id)
+            values (:playerId, :eventId)
+            """, nativeQuery = true)
+    void insertEventRegistration(
+            @Param("playerId") Long playerId,
+            @Param("eventId") Long eventId);
+
+    /**
+     * Inscribe a varios jugadores en el evento con una sola sentencia.
+     *
+     * @param eventId   el ID del evento
+     * @param playerIds los IDs de los jugadores
+     * @return el número de inscripciones creadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "players_events"))
+    @Query(value = """
+            insert into players_events (player_id, event_id)
+            select p.id, :eventId
+            from players p
+            where p.id in (:playerIds)
+            """, nativeQuery = true)
+    int insertEventRegistrations(
+            @Param("eventId") Long eventId,
+            @Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Libera las plazas que el jugador ocupa en sus eventos. Debe ejecutarse
+     * antes de eliminar sus inscripciones.
+     *
+     * @param playerId el ID del jugador
+     * @return el número de eventos actualizados
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events"))
+    @Query(value = """
+            update events
+            set participant_count = participant_count - 1, version = version + 1
+            where id in (select pe.event_id from players_events pe where pe.player_id = :playerId)
+            """, nativeQuery = true)
+    int releaseEventSeats(@Param("playerId") Long playerId);
+
+    /**
+     * Obtiene el ID del club del jugador sin cargar la entidad.
+     *
+     * @param playerId el ID del jugador
+     * @return el ID del club, o null si el jugador no tiene club o no existe
+     */
+    @Query(value = "select club_id from players where id = :playerId", nativeQuery = true)
+    Long findClubIdById(@Param("playerId") Long playerId);
+
+    /**
+     * Vincula el jugador al club solo si todavía no tiene uno.
+     *
+     * @param playerId el ID del jugador
+     * @param clubId   el ID del club
+     * @return 1 si se vinculó, 0 si el jugador no existe o ya tiene club
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "players"))
+    @Query(value = """
+            update players
+            set club_id = :clubId
+            where id = :playerId and club_id is null
+            """, nativeQuery = true)
+    int linkToClubIfUnassigned(
+            @Param("playerId") Long playerId,
+            @Param("clubId") Long clubId);
+
+    /**
+     * Cambia el estado de afiliación de un jugador sin cargar la entidad ni sus
+     * roles.
+     *
+     * @param id              el ID del jugador
+     * @param status          el nombre del nuevo estado de afiliación
+     * @param expectedVersion la versión que debe tener la fila, o null para no
+     *                        comprobarla
+     * @return 1 si se actualizó, 0 si no existe o su versión cambió
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = UPDATE_AFFILIATION_STATUS
+            + "and exists (select 1 from players p where p.id = users.id)", nativeQuery = true)
+    int updateAffiliationStatus(
+            @Param("id") Long id,
+            @Param("status") String status,
+            @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Modifica los datos de perfil de un jugador sin cargar la entidad ni sus
+     * roles. Los valores nulos dejan la columna sin cambios. Se vacía el
+     * contexto de persistencia para que una lectura posterior vea los nuevos
+     * valores.
+     *
+     * @param id              el ID del jugador
+     * @param expectedVersion la versión que debe tener la fila, o null para no
+     *                        comprobarla
+     * @param name            el nuevo nombre
+     * @param lastName        el nuevo apellido
+     * @param phoneNumber     el nuevo número de teléfono
+     * @param email           el nuevo correo electrónico
+     * @param username        el nuevo nombre de usuario
+     * @return 1 si se actualizó, 0 si no existe o su versión cambió
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = UPDATE_PROFILE
+            + "and exists (select 1 from players p where p.id = users.id)", nativeQuery = true)
+    int updateProfile(
+            @Param("id") Long id,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("name") String name,
+            @Param("lastName") String lastName,
+            @Param("phoneNumber") Long phoneNumber,
+            @Param("email") String email,
+            @Param("username") String username);
 }
@@ -1,21 +1,31 @@
 package com.sportsclubmanager.backend.member.service;
 
-import com.sportsclubmanager.backend.club.model.Club;
 import com.sportsclubmanager.backend.club.repository.ClubRepository;
 import com.sportsclubmanager.backend.member.exception.ClubAlreadyHasPlayerException;
 import com.sportsclubmanager.backend.member.exception.PlayerAlreadyHasClubException;
 import com.sportsclubmanager.backend.member.model.ClubAdministrator;
-import com.sportsclubmanager.backend.member.model.Player;
 import com.sportsclubmanager.backend.member.repository.ClubAdministratorRepository;
 import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
 import com.sportsclubmanager.backend.shared.exception.ResourceNotFoundException;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
+import com.sportsclubmanager.backend.user.event.UserAccessRevokedEvent;
+import com.sportsclubmanager.backend.user.event.UserAccountChangedEvent;
+import com.sportsclubmanager.backend.user.mapper.UserMapper;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
-import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
 import com.sportsclubmanager.backend.user.service.UserService;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -27,30 +37,36 @@ public class ClubAdministratorService
         implements UserService<ClubAdministrator> {
 
     private final ClubAdministratorRepository clubAdministratorRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
+    private final UserMapper userMapper;
     private final ClubRepository clubRepository;
     private final PlayerRepository playerRepository;
 
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ClubAdministratorService(
             ClubAdministratorRepository clubAdministratorRepository,
-            RoleRepository roleRepository,
+            RoleCatalog roleCatalog,
             ClubRepository clubRepository,
             PlayerRepository playerRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher,
+            UserMapper userMapper) {
         this.clubAdministratorRepository = clubAdministratorRepository;
-        this.roleRepository = roleRepository;
+        this.roleCatalog = roleCatalog;
         this.clubRepository = clubRepository;
         this.playerRepository = playerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userMapper = userMapper;
     }
 
     @Override
     @Transactional
     public ClubAdministrator save(ClubAdministrator clubAdministrator) {
         clubAdministrator.setRoles(
-                RoleAuthorityUtils.getRoles(clubAdministrator, roleRepository));
+                RoleAuthorityUtils.getRoles(clubAdministrator, roleCatalog));
         clubAdministrator.setPassword(
                 passwordEncoder.encode(clubAdministrator.getPassword()));
         return clubAdministratorRepository.save(clubAdministrator);
@@ -80,53 +96,136 @@ public class ClubAdministratorService
         return clubAdministratorRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponse> findAllResponses() {
+        return clubAdministratorRepository
+                .findAllSummaries()
+                .stream()
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> findAllResponses(Pageable pageable) {
+        return clubAdministratorRepository
+                .findAllSummaries(pageable)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findAllResponses(CursorPageRequest request) {
+        return CursorPage.of(
+                clubAdministratorRepository.findSummariesAfter(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                UserSummary::id)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<UserSummary> streamAllSummaries() {
+        return clubAdministratorRepository.streamAllSummaries();
+    }
+
     @Override
     @Transactional
     public Optional<ClubAdministrator> update(
             Long id,
-            UserUpdateRequest userUpdateRequest) {
-        Optional<ClubAdministrator> clubAdminOptional = clubAdministratorRepository.findById(id);
-
-        if (clubAdminOptional.isPresent()) {
-            ClubAdministrator clubAdminUpdated = clubAdminOptional.orElseThrow();
-
-            clubAdminUpdated.setName(userUpdateRequest.getName());
-            clubAdminUpdated.setLastName(userUpdateRequest.getLastName());
-            clubAdminUpdated.setPhoneNumber(userUpdateRequest.getPhoneNumber());
-            clubAdminUpdated.setEmail(userUpdateRequest.getEmail());
-            clubAdminUpdated.setUsername(userUpdateRequest.getUsername());
-            clubAdminUpdated.setRoles(
-                    RoleAuthorityUtils.getRoles(clubAdminUpdated, roleRepository));
-
-            return Optional.of(
-                    clubAdministratorRepository.save(clubAdminUpdated));
+            UserUpdateRequest userUpdateRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> clubAdministratorRepository.findVersionStamps(List.of(id)),
+                ClubAdministratorRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = clubAdministratorRepository.updateProfile(
+                id,
+                expectedVersion,
+                userUpdateRequest.getName(),
+                userUpdateRequest.getLastName(),
+                userUpdateRequest.getPhoneNumber(),
+                userUpdateRequest.getEmail(),
+                userUpdateRequest.getUsername());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> clubAdministratorRepository.existsById(id))) {
+            return Optional.empty();
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+
+        return clubAdministratorRepository.findById(id);
+    }
+
+    @Override
+    @Transactional
+    public boolean patch(
+            Long id,
+            UserPatchRequest userPatchRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> clubAdministratorRepository.findVersionStamps(List.of(id)),
+                ClubAdministratorRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = clubAdministratorRepository.updateProfile(
+                id,
+                expectedVersion,
+                userPatchRequest.name(),
+                userPatchRequest.lastName(),
+                userPatchRequest.phoneNumber(),
+                userPatchRequest.email(),
+                userPatchRequest.username());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> clubAdministratorRepository.existsById(id))) {
+            return false;
         }
-        return Optional.empty();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        return true;
     }
 
     @Override
     @Transactional
-    public void deleteById(Long id) {
+    public void deleteById(Long id, IfMatch ifMatch) {
+        ifMatch.check(() -> clubAdministratorRepository.findById(id).flatMap(user -> findEntityTag(id)));
+        eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         clubAdministratorRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
     }
 
     @Override
+    @Transactional
     public boolean updateAffiliationStatus(
             Long id,
-            AffiliationStatus affiliationStatus) {
-        Optional<ClubAdministrator> clubAdminOptional = clubAdministratorRepository.findById(id);
-
-        if (clubAdminOptional.isPresent()) {
-            ClubAdministrator clubAdmin = clubAdminOptional.orElseThrow();
-            clubAdmin.setAffiliationStatus(affiliationStatus);
-            clubAdministratorRepository.save(clubAdmin);
-            return true;
+            AffiliationStatus affiliationStatus,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> clubAdministratorRepository.findVersionStamps(List.of(id)),
+                ClubAdministratorRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = clubAdministratorRepository.updateAffiliationStatus(
+                id,
+                affiliationStatus.name(),
+                expectedVersion);
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> clubAdministratorRepository.existsById(id))) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        if (affiliationStatus == AffiliationStatus.SUSPENDED) {
+            eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         }
-        return false;
+        return true;
     }
 
     /**
-     * Vincula un jugador a un club
+     * Vincula un jugador a un club. El vínculo se escribe con una actualización
+     * condicional de {@code players.club_id}, sin cargar los jugadores del
+     * club; el motivo del rechazo solo se consulta si la actualización falla.
      *
      * @param clubId   club al que el jugador se vinculará
      * @param playerId jugador a vincular
@@ -137,31 +236,53 @@ public class ClubAdministratorService
      * @throws PlayerAlreadyHasClubException si el jugador ya tiene algún club
      *                                       asociado
      */
+    @Transactional
     public void linkPlayerToClub(Long clubId, Long playerId) {
-        Club club = clubRepository
-                .findById(clubId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Club no encontrado con ID: " + clubId));
+        if (!clubRepository.existsById(clubId)) {
+            throw new ResourceNotFoundException(
+                    "Club no encontrado con ID: " + clubId);
+        }
 
-        Player player = playerRepository
-                .findById(playerId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Jugador no encontrado con ID: " + playerId));
+        if (playerRepository.linkToClubIfUnassigned(playerId, clubId) == 1) {
+            return;
+        }
 
-        if (club.getPlayers().contains(player)) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new ResourceNotFoundException(
+                    "Jugador no encontrado con ID: " + playerId);
+        }
+        if (clubId.equals(playerRepository.findClubIdById(playerId))) {
             throw new ClubAlreadyHasPlayerException(
                     "Club con ID: " +
                             clubId +
                             " ya tiene al jugador con ID: " +
                             playerId +
                             " asociado");
-        } else if (player.getClub() != null) {
-            throw new PlayerAlreadyHasClubException(
-                    "Jugador con ID: " + playerId + " ya tiene un club asociado");
         }
+        throw new PlayerAlreadyHasClubException(
+                "Jugador con ID: " + playerId + " ya tiene un club asociado");
+    }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(clubAdministratorRepository.findVersionStamps(List.of(id)));
+    }
 
-        club.getPlayers().add(player);
-        player.setClub(club);
-        clubRepository.save(club);
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = clubAdministratorRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                clubAdministratorRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                clubAdministratorRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                clubAdministratorRepository::findVersionStamps);
     }
 }
@@ -2,13 +2,25 @@ package com.sportsclubmanager.backend.member.service;
 
 import com.sportsclubmanager.backend.member.model.Coach;
 import com.sportsclubmanager.backend.member.repository.CoachRepository;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
+import com.sportsclubmanager.backend.user.event.UserAccessRevokedEvent;
+import com.sportsclubmanager.backend.user.event.UserAccountChangedEvent;
+import com.sportsclubmanager.backend.user.mapper.UserMapper;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
-import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
 import com.sportsclubmanager.backend.user.service.UserService;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,23 +31,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class CoachService implements UserService<Coach> {
 
     private final CoachRepository coachRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
+    private final UserMapper userMapper;
 
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CoachService(
             CoachRepository coachRepository,
-            RoleRepository roleRepository,
-            PasswordEncoder passwordEncoder) {
+            RoleCatalog roleCatalog,
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher,
+            UserMapper userMapper) {
         this.coachRepository = coachRepository;
-        this.roleRepository = roleRepository;
+        this.roleCatalog = roleCatalog;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userMapper = userMapper;
     }
 
     @Override
     @Transactional
     public Coach save(Coach coach) {
-        coach.setRoles(RoleAuthorityUtils.getRoles(coach, roleRepository));
+        coach.setRoles(RoleAuthorityUtils.getRoles(coach, roleCatalog));
         coach.setPassword(passwordEncoder.encode(coach.getPassword()));
         return coachRepository.save(coach);
     }
@@ -64,47 +82,152 @@ public class CoachService implements UserService<Coach> {
         return coachRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponse> findAllResponses() {
+        return coachRepository
+                .findAllSummaries()
+                .stream()
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> findAllResponses(Pageable pageable) {
+        return coachRepository
+                .findAllSummaries(pageable)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findAllResponses(CursorPageRequest request) {
+        return CursorPage.of(
+                coachRepository.findSummariesAfter(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                UserSummary::id)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<UserSummary> streamAllSummaries() {
+        return coachRepository.streamAllSummaries();
+    }
+
     @Override
     @Transactional
     public Optional<Coach> update(
             Long id,
-            UserUpdateRequest userUpdateRequest) {
-        Optional<Coach> coachOptional = coachRepository.findById(id);
-
-        if (coachOptional.isPresent()) {
-            Coach coachUpdated = coachOptional.orElseThrow();
+            UserUpdateRequest userUpdateRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> coachRepository.findVersionStamps(List.of(id)),
+                CoachRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = coachRepository.updateProfile(
+                id,
+                expectedVersion,
+                userUpdateRequest.getName(),
+                userUpdateRequest.getLastName(),
+                userUpdateRequest.getPhoneNumber(),
+                userUpdateRequest.getEmail(),
+                userUpdateRequest.getUsername());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> coachRepository.existsById(id))) {
+            return Optional.empty();
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
 
-            coachUpdated.setName(userUpdateRequest.getName());
-            coachUpdated.setLastName(userUpdateRequest.getLastName());
-            coachUpdated.setPhoneNumber(userUpdateRequest.getPhoneNumber());
-            coachUpdated.setEmail(userUpdateRequest.getEmail());
-            coachUpdated.setUsername(userUpdateRequest.getUsername());
-            coachUpdated.setRoles(
-                    RoleAuthorityUtils.getRoles(coachUpdated, roleRepository));
+        return coachRepository.findById(id);
+    }
 
-            return Optional.of(coachRepository.save(coachUpdated));
+    @Override
+    @Transactional
+    public boolean patch(
+            Long id,
+            UserPatchRequest userPatchRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> coachRepository.findVersionStamps(List.of(id)),
+                CoachRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = coachRepository.updateProfile(
+                id,
+                expectedVersion,
+                userPatchRequest.name(),
+                userPatchRequest.lastName(),
+                userPatchRequest.phoneNumber(),
+                userPatchRequest.email(),
+                userPatchRequest.username());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> coachRepository.existsById(id))) {
+            return false;
         }
-        return Optional.empty();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        return true;
     }
 
     @Override
     @Transactional
-    public void deleteById(Long id) {
+    public void deleteById(Long id, IfMatch ifMatch) {
+        ifMatch.check(() -> coachRepository.findById(id).flatMap(user -> findEntityTag(id)));
+        eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         coachRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
     }
 
     @Override
+    @Transactional
     public boolean updateAffiliationStatus(
             Long id,
-            AffiliationStatus affiliationStatus) {
-        Optional<Coach> coachOptional = coachRepository.findById(id);
-
-        if (coachOptional.isPresent()) {
-            Coach coach = coachOptional.orElseThrow();
-            coach.setAffiliationStatus(affiliationStatus);
-            coachRepository.save(coach);
-            return true;
+            AffiliationStatus affiliationStatus,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> coachRepository.findVersionStamps(List.of(id)),
+                CoachRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = coachRepository.updateAffiliationStatus(
+                id,
+                affiliationStatus.name(),
+                expectedVersion);
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> coachRepository.existsById(id))) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        if (affiliationStatus == AffiliationStatus.SUSPENDED) {
+            eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         }
-        return false;
+        return true;
+    }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(coachRepository.findVersionStamps(List.of(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = coachRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                coachRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                coachRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                coachRepository::findVersionStamps);
     }
 }
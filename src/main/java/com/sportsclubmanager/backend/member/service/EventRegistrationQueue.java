@@ -0,0 +1,198 @@
+package com.sportsclubmanager.backend.member.service;
+
+import com.sportsclubmanager.backend.member.dto.EventRegistrationOutcome;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cola de inscripciones a eventos para los picos de solicitudes al abrir un
+ * evento popular.
+ * <p>
+ * Las solicitudes de un mismo evento se acumulan durante una ventana corta y
+ * se admiten en orden de llegada con una sola actualización del contador de
+ * participantes y una sola inserción, de modo que las transacciones no
+ * compiten por la fila del evento. Cada solicitud recibe su resultado a través
+ * de un {@link CompletableFuture}. Si la cola está desactivada, las
+ * inscripciones se procesan al momento.
+ */
+@Component
+public class EventRegistrationQueue implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            EventRegistrationQueue.class);
+
+    private final PlayerService playerService;
+    private final EventRegistrationQueueProperties properties;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ConcurrentMap<PendingKey, PendingBatch> pending = new ConcurrentHashMap<>();
+
+    public EventRegistrationQueue(
+            PlayerService playerService,
+            EventRegistrationQueueProperties properties) {
+        this.playerService = playerService;
+        this.properties = properties;
+        this.scheduler = new ScheduledThreadPoolExecutor(
+                properties.getWorkers(),
+                new CustomizableThreadFactory("event-registration-"));
+        // Los cierres de ventana cancelados al llenarse un lote no se acumulan
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Solicita la inscripción de un jugador en un evento de torneo.
+     *
+     * @param playerId          el ID del jugador
+     * @param tournamentEventId el ID del evento de torneo
+     * @return el resultado de la inscripción; se completa con la misma
+     *         excepción que {@link PlayerService#registerInTournamentEvent}
+     *         si el jugador no se inscribe
+     */
+    public CompletableFuture<Boolean> registerInTournamentEvent(
+            Long playerId,
+            Long tournamentEventId) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(
+                    playerService.registerInTournamentEvent(playerId, tournamentEventId));
+        }
+        return enqueue(new PendingKey(EventKind.TOURNAMENT, tournamentEventId), playerId);
+    }
+
+    /**
+     * Solicita la inscripción de un jugador en un evento de entrenamiento.
+     *
+     * @param playerId        el ID del jugador
+     * @param trainingEventId el ID del evento de entrenamiento
+     * @return el resultado de la inscripción; se completa con la misma
+     *         excepción que {@link PlayerService#registerInTrainingEvent} si
+     *         el jugador no se inscribe
+     */
+    public CompletableFuture<Boolean> registerInTrainingEvent(
+            Long playerId,
+            Long trainingEventId) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(
+                    playerService.registerInTrainingEvent(playerId, trainingEventId));
+        }
+        return enqueue(new PendingKey(EventKind.TRAINING, trainingEventId), playerId);
+    }
+
+    private CompletableFuture<Boolean> enqueue(PendingKey key, Long playerId) {
+        PendingRegistration registration = new PendingRegistration(
+                playerId,
+                new CompletableFuture<>());
+        List<PendingBatch> full = new ArrayList<>(1);
+
+        pending.compute(key, (k, batch) -> {
+            if (batch == null) {
+                PendingBatch created = new PendingBatch(new ArrayList<>());
+                created.flush = scheduler.schedule(
+                        () -> flush(k, created),
+                        properties.getBatchWindow().toNanos(),
+                        TimeUnit.NANOSECONDS);
+                batch = created;
+            }
+            batch.registrations().add(registration);
+            if (batch.registrations().size() < properties.getMaxBatchSize()) {
+                return batch;
+            }
+            full.add(batch);
+            return null;
+        });
+
+        if (!full.isEmpty()) {
+            PendingBatch batch = full.get(0);
+            // El lote ya no está en la cola; su cierre de ventana no debe
+            // procesar el lote siguiente del mismo evento
+            batch.flush.cancel(false);
+            scheduler.execute(() -> process(key, batch.registrations()));
+        }
+        return registration.result();
+    }
+
+    private void flush(PendingKey key, PendingBatch batch) {
+        if (pending.remove(key, batch)) {
+            process(key, batch.registrations());
+        }
+    }
+
+    private void process(PendingKey key, List<PendingRegistration> batch) {
+        List<Long> playerIds = batch.stream()
+                .map(PendingRegistration::playerId)
+                .toList();
+
+        try {
+            List<EventRegistrationOutcome> outcomes = key.kind() == EventKind.TOURNAMENT
+                    ? playerService.registerAllInTournamentEvent(key.eventId(), playerIds)
+                    : playerService.registerAllInTrainingEvent(key.eventId(), playerIds);
+
+            for (int i = 0; i < batch.size(); i++) {
+                EventRegistrationOutcome outcome = outcomes.get(i);
+                if (outcome.registered()) {
+                    batch.get(i).result().complete(true);
+                } else {
+                    batch.get(i).result().completeExceptionally(outcome.error());
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn(
+                    "No se pudo procesar el lote de {} inscripciones al evento {}",
+                    batch.size(),
+                    key.eventId(),
+                    e);
+            batch.forEach(registration -> registration.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Procesa las solicitudes pendientes antes de detener los hilos.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Se cancelaron inscripciones a eventos pendientes al detener la cola");
+            scheduler.shutdownNow();
+        }
+    }
+
+    private enum EventKind {
+        TOURNAMENT,
+        TRAINING
+    }
+
+    private record PendingKey(EventKind kind, Long eventId) {
+    }
+
+    private record PendingRegistration(Long playerId, CompletableFuture<Boolean> result) {
+    }
+
+    /**
+     * Lote pendiente de un evento y el cierre programado de su ventana. Se
+     * compara por identidad para que el cierre de una ventana solo retire su
+     * propio lote.
+     */
+    private static final class PendingBatch {
+
+        private final List<PendingRegistration> registrations;
+        private ScheduledFuture<?> flush;
+
+        private PendingBatch(List<PendingRegistration> registrations) {
+            this.registrations = registrations;
+        }
+
+        private List<PendingRegistration> registrations() {
+            return registrations;
+        }
+    }
+}
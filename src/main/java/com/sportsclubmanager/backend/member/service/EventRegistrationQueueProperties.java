@@ -0,0 +1,38 @@
+package com.sportsclubmanager.backend.member.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la cola de inscripciones a eventos.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.members.registration-queue")
+public class EventRegistrationQueueProperties {
+
+    /**
+     * Si está activa, las inscripciones a un mismo evento se agrupan en lotes.
+     * Si no, cada inscripción se procesa en su propia transacción.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tiempo durante el que se acumulan las solicitudes de un evento antes de
+     * procesarlas como un lote.
+     */
+    private Duration batchWindow = Duration.ofMillis(5);
+
+    /**
+     * Número máximo de solicitudes por lote. Al alcanzarlo el lote se procesa
+     * sin esperar al final de la ventana.
+     */
+    private int maxBatchSize = 200;
+
+    /**
+     * Número de hilos que procesan los lotes.
+     */
+    private int workers = 2;
+}
@@ -0,0 +1,28 @@
+package com.sportsclubmanager.backend.member.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la importación masiva de jugadores.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.members.import")
+public class PlayerImportProperties {
+
+    /**
+     * Número de jugadores que se validan contra la base de datos y se guardan
+     * en cada transacción.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Número de contraseñas que se cifran en paralelo. Con 0, o con un valor
+     * mayor, se usa la mitad de los hilos del cifrado de contraseñas, para que
+     * una importación nunca ocupe todo el grupo que atiende los inicios de
+     * sesión.
+     */
+    private int hashingParallelism = 0;
+}
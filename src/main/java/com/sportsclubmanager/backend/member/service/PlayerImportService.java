@@ -0,0 +1,380 @@
+package com.sportsclubmanager.backend.member.service;
+
+import com.sportsclubmanager.backend.auth.exception.PasswordHashingRejectedException;
+import com.sportsclubmanager.backend.auth.security.password.PasswordHashingProperties;
+import com.sportsclubmanager.backend.member.dto.PlayerImportRow;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.importing.ImportError;
+import com.sportsclubmanager.backend.shared.importing.ImportReader;
+import com.sportsclubmanager.backend.shared.importing.ImportRecord;
+import com.sportsclubmanager.backend.shared.importing.ImportReport;
+import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
+import com.sportsclubmanager.backend.user.dto.UserUniqueKeys;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.UserRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Importa jugadores de forma masiva a partir de un archivo NDJSON o CSV.
+ * <p>
+ * El archivo se lee fila a fila y se procesa en bloques: cada bloque se valida
+ * contra la base de datos con una sola consulta, sus contraseñas se cifran en
+ * paralelo y los jugadores se guardan en una transacción propia mediante lotes
+ * JDBC. Las filas rechazadas se devuelven en el informe sin detener la
+ * importación.
+ * <p>
+ * El cifrado comparte el grupo de hilos acotado del {@link PasswordEncoder}
+ * con los inicios de sesión. Cada hilo de la importación espera a su cifrado
+ * antes de enviar el siguiente, así que nunca hay más cifrados en curso que
+ * hilos, y se usan como mucho la mitad de los hilos de ese grupo.
+ */
+@Service
+public class PlayerImportService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            PlayerImportService.class);
+
+    private final ImportReader importReader;
+    private final Validator validator;
+    private final UserRepository userRepository;
+    private final PlayerRepository playerRepository;
+    private final RoleCatalog roleCatalog;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PlayerImportProperties properties;
+    private final ExecutorService hashingExecutor;
+
+    public PlayerImportService(
+            ImportReader importReader,
+            Validator validator,
+            UserRepository userRepository,
+            PlayerRepository playerRepository,
+            RoleCatalog roleCatalog,
+            PasswordEncoder passwordEncoder,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            PlayerImportProperties properties,
+            PasswordHashingProperties passwordHashingProperties) {
+        this.importReader = importReader;
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.playerRepository = playerRepository;
+        this.roleCatalog = roleCatalog;
+        this.passwordEncoder = passwordEncoder;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        int hashingThreads = passwordHashingProperties.getThreads() > 0
+                ? passwordHashingProperties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        int maximumParallelism = Math.max(1, hashingThreads / 2);
+        int parallelism = properties.getHashingParallelism() > 0
+                ? Math.min(properties.getHashingParallelism(), maximumParallelism)
+                : maximumParallelism;
+        this.hashingExecutor = Executors.newFixedThreadPool(
+                parallelism,
+                new CustomizableThreadFactory("player-import-"));
+    }
+
+    /**
+     * Importa los jugadores de un archivo.
+     *
+     * @param format      el formato del archivo
+     * @param inputStream el contenido del archivo
+     * @return el informe de la importación
+     */
+    public ImportReport importPlayers(ExportFormat format, InputStream inputStream) {
+        Iterator<ImportRecord<PlayerImportRow>> records = importReader.read(
+                format,
+                inputStream,
+                PlayerImportRow.class);
+
+        ImportProgress progress = new ImportProgress();
+        List<PendingPlayer> chunk = new ArrayList<>(properties.getChunkSize());
+
+        while (records.hasNext()) {
+            ImportRecord<PlayerImportRow> importRecord = records.next();
+            progress.total++;
+
+            if (importRecord.error() != null) {
+                progress.reject(importRecord.row(), null, List.of(importRecord.error()));
+                continue;
+            }
+
+            Player player = toPlayer(importRecord.value());
+            List<String> messages = validate(player);
+            if (messages.isEmpty()) {
+                messages = progress.reserveKeys(player);
+            }
+
+            if (!messages.isEmpty()) {
+                progress.reject(importRecord.row(), player.getUsername(), messages);
+                continue;
+            }
+
+            chunk.add(new PendingPlayer(importRecord.row(), player));
+            if (chunk.size() >= properties.getChunkSize()) {
+                saveChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, progress);
+        }
+
+        logger.info(
+                "Importación de jugadores finalizada: {} filas, {} guardadas, {} rechazadas",
+                progress.total,
+                progress.imported,
+                progress.errors.size());
+
+        return new ImportReport(
+                progress.total,
+                progress.imported,
+                progress.errors.size(),
+                List.copyOf(progress.errors));
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdown();
+    }
+
+    private static Player toPlayer(PlayerImportRow row) {
+        Player player = new Player();
+        player.setNationalId(row.nationalId());
+        player.setName(row.name());
+        player.setLastName(row.lastName());
+        player.setPhoneNumber(row.phoneNumber());
+        player.setEmail(row.email());
+        player.setUsername(row.username());
+        player.setPassword(row.password());
+        return player;
+    }
+
+    private List<String> validate(Player player) {
+        List<String> messages = new ArrayList<>();
+        for (ConstraintViolation<Player> violation : validator.validate(player)) {
+            messages.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return messages;
+    }
+
+    /**
+     * Guarda un bloque de jugadores: descarta los que entran en conflicto con
+     * usuarios existentes, cifra las contraseñas en paralelo y guarda el resto
+     * en una transacción. Si otro alta ocupa una columna única entre la
+     * comprobación y el guardado, el bloque se repite jugador a jugador para
+     * rechazar solo las filas en conflicto.
+     */
+    private void saveChunk(List<PendingPlayer> chunk, ImportProgress progress) {
+        List<PendingPlayer> accepted = rejectExisting(chunk, progress);
+        accepted = hashPasswords(accepted, progress);
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        Set<Role> roles = RoleAuthorityUtils.getRoles(new Player(), roleCatalog);
+        List<Player> players = new ArrayList<>(accepted.size());
+        for (PendingPlayer pending : accepted) {
+            pending.player().setRoles(new HashSet<>(roles));
+            players.add(pending.player());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                playerRepository.saveAllAndFlush(players);
+                entityManager.clear();
+            });
+            progress.imported += players.size();
+        } catch (DataIntegrityViolationException e) {
+            logger.warn(
+                    "No se pudo guardar un bloque de {} jugadores, se guardan uno a uno: {}",
+                    players.size(),
+                    e.getMessage());
+            saveEach(accepted, progress);
+        }
+    }
+
+    private void saveEach(List<PendingPlayer> accepted, ImportProgress progress) {
+        for (PendingPlayer pending : accepted) {
+            Player player = pending.player();
+            // La transacción del bloque se deshizo después de asignar el ID y la
+            // versión; sin ellos el jugador vuelve a guardarse como nuevo.
+            player.setId(null);
+            player.setVersion(null);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    playerRepository.saveAndFlush(player);
+                    entityManager.clear();
+                });
+                progress.imported++;
+            } catch (DataIntegrityViolationException e) {
+                progress.reject(
+                        pending.row(),
+                        player.getUsername(),
+                        List.of("El jugador entra en conflicto con un usuario registrado durante la importación"));
+            }
+        }
+    }
+
+    private List<PendingPlayer> rejectExisting(
+            List<PendingPlayer> chunk,
+            ImportProgress progress) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<Long> nationalIds = new HashSet<>();
+        Set<Long> phoneNumbers = new HashSet<>();
+        for (PendingPlayer pending : chunk) {
+            usernames.add(pending.player().getUsername());
+            emails.add(pending.player().getEmail());
+            nationalIds.add(pending.player().getNationalId());
+            phoneNumbers.add(pending.player().getPhoneNumber());
+        }
+
+        List<UserUniqueKeys> existing = userRepository.findUniqueKeys(
+                usernames,
+                emails,
+                nationalIds,
+                phoneNumbers);
+        if (existing.isEmpty()) {
+            return chunk;
+        }
+
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        Set<Long> existingNationalIds = new HashSet<>();
+        Set<Long> existingPhoneNumbers = new HashSet<>();
+        for (UserUniqueKeys keys : existing) {
+            existingUsernames.add(keys.username());
+            existingEmails.add(keys.email());
+            existingNationalIds.add(keys.nationalId());
+            existingPhoneNumbers.add(keys.phoneNumber());
+        }
+
+        List<PendingPlayer> accepted = new ArrayList<>(chunk.size());
+        for (PendingPlayer pending : chunk) {
+            Player player = pending.player();
+            List<String> messages = new ArrayList<>();
+            if (existingUsernames.contains(player.getUsername())) {
+                messages.add("Ya existe un usuario con el nombre de usuario " + player.getUsername());
+            }
+            if (existingEmails.contains(player.getEmail())) {
+                messages.add("Ya existe un usuario con el correo electrónico " + player.getEmail());
+            }
+            if (existingNationalIds.contains(player.getNationalId())) {
+                messages.add("Ya existe un usuario con el documento de identidad " + player.getNationalId());
+            }
+            if (existingPhoneNumbers.contains(player.getPhoneNumber())) {
+                messages.add("Ya existe un usuario con el número de teléfono " + player.getPhoneNumber());
+            }
+
+            if (messages.isEmpty()) {
+                accepted.add(pending);
+            } else {
+                progress.reject(pending.row(), player.getUsername(), messages);
+            }
+        }
+        return accepted;
+    }
+
+    private List<PendingPlayer> hashPasswords(
+            List<PendingPlayer> chunk,
+            ImportProgress progress) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(chunk.size());
+        for (PendingPlayer pending : chunk) {
+            String rawPassword = pending.player().getPassword();
+            hashes.add(CompletableFuture.supplyAsync(
+                    () -> passwordEncoder.encode(rawPassword),
+                    hashingExecutor));
+        }
+
+        List<PendingPlayer> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingPlayer pending = chunk.get(i);
+            try {
+                pending.player().setPassword(hashes.get(i).join());
+                accepted.add(pending);
+            } catch (CompletionException e) {
+                String message = e.getCause() instanceof PasswordHashingRejectedException
+                        ? "El servicio de cifrado de contraseñas está saturado"
+                        : "No se pudo cifrar la contraseña";
+                progress.reject(pending.row(), pending.player().getUsername(), List.of(message));
+            }
+        }
+        return accepted;
+    }
+
+    private record PendingPlayer(long row, Player player) {
+    }
+
+    /**
+     * Estado de una importación en curso. Conserva las columnas únicas de las
+     * filas aceptadas para rechazar los duplicados dentro del mismo archivo.
+     */
+    private static final class ImportProgress {
+
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final Set<Long> nationalIds = new HashSet<>();
+        private final Set<Long> phoneNumbers = new HashSet<>();
+        private final List<ImportError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+
+        void reject(long row, String key, List<String> messages) {
+            errors.add(new ImportError(row, key, messages));
+        }
+
+        List<String> reserveKeys(Player player) {
+            List<String> messages = new ArrayList<>();
+            if (usernames.contains(player.getUsername())) {
+                messages.add("El nombre de usuario está repetido en el archivo");
+            }
+            if (emails.contains(player.getEmail())) {
+                messages.add("El correo electrónico está repetido en el archivo");
+            }
+            if (nationalIds.contains(player.getNationalId())) {
+                messages.add("El documento de identidad está repetido en el archivo");
+            }
+            if (phoneNumbers.contains(player.getPhoneNumber())) {
+                messages.add("El número de teléfono está repetido en el archivo");
+            }
+
+            if (messages.isEmpty()) {
+                usernames.add(player.getUsername());
+                emails.add(player.getEmail());
+                nationalIds.add(player.getNationalId());
+                phoneNumbers.add(player.getPhoneNumber());
+            }
+            return messages;
+        }
+    }
+}
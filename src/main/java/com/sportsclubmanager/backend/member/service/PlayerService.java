@@ -1,22 +1,45 @@
 package com.sportsclubmanager.backend.member.service;
 
-import com.sportsclubmanager.backend.event.model.Tournament;
-import com.sportsclubmanager.backend.event.model.Training;
 import com.sportsclubmanager.backend.event.repository.TournamentRepository;
 import com.sportsclubmanager.backend.event.repository.TrainingRepository;
+import com.sportsclubmanager.backend.member.dto.EventRegistrationOutcome;
 import com.sportsclubmanager.backend.member.exception.MaximumParticipantsException;
 import com.sportsclubmanager.backend.member.exception.PlayerAlreadyHasTournamentEventException;
 import com.sportsclubmanager.backend.member.exception.PlayerAlreadyHasTrainingEventException;
+import com.sportsclubmanager.backend.member.mapper.PlayerMapper;
 import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.model.PlayerEventEntry;
+import com.sportsclubmanager.backend.member.model.PlayerResponse;
 import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
+import com.sportsclubmanager.backend.user.event.UserAccessRevokedEvent;
+import com.sportsclubmanager.backend.user.event.UserAccountChangedEvent;
+import com.sportsclubmanager.backend.user.mapper.UserMapper;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
-import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
 import com.sportsclubmanager.backend.user.service.UserService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,30 +48,45 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PlayerService implements UserService<Player> {
 
+    /**
+     * Número máximo de jugadores que se inscriben en una sola solicitud por
+     * lotes.
+     */
+    public static final int MAX_BATCH_REGISTRATIONS = 500;
+
     private final PlayerRepository playerRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
+    private final UserMapper userMapper;
+    private final PlayerMapper playerMapper;
     private final TournamentRepository tournamentRepository;
     private final TrainingRepository trainingRepository;
 
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PlayerService(
             PlayerRepository playerRepository,
-            RoleRepository roleRepository,
+            RoleCatalog roleCatalog,
             TournamentRepository tournamentRepository,
             TrainingRepository trainingRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher,
+            UserMapper userMapper,
+            PlayerMapper playerMapper) {
         this.playerRepository = playerRepository;
-        this.roleRepository = roleRepository;
+        this.roleCatalog = roleCatalog;
         this.tournamentRepository = tournamentRepository;
         this.trainingRepository = trainingRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userMapper = userMapper;
+        this.playerMapper = playerMapper;
     }
 
     @Override
     @Transactional
     public Player save(Player player) {
-        player.setRoles(RoleAuthorityUtils.getRoles(player, roleRepository));
+        player.setRoles(RoleAuthorityUtils.getRoles(player, roleCatalog));
         player.setPassword(passwordEncoder.encode(player.getPassword()));
         return playerRepository.save(player);
     }
@@ -74,49 +112,184 @@ public class PlayerService implements UserService<Player> {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<UserResponse> findAllResponses() {
+        return playerRepository
+                .findAllSummaries()
+                .stream()
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> findAllResponses(Pageable pageable) {
+        return playerRepository
+                .findAllSummaries(pageable)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findAllResponses(CursorPageRequest request) {
+        return CursorPage.of(
+                playerRepository.findSummariesAfter(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                UserSummary::id)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<UserSummary> streamAllSummaries() {
+        return playerRepository.streamAllSummaries();
+    }
+
+    /**
+     * Obtiene todos los jugadores como respuestas con sus eventos, usando una
+     * consulta de proyección para los jugadores y otra para sus eventos.
+     *
+     * @return las respuestas de todos los jugadores
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerResponse> findAllPlayerResponses() {
+        return toPlayerResponses(playerRepository.findAllSummaries());
+    }
+
+    /**
+     * Obtiene una página de jugadores como respuestas con sus eventos, usando
+     * una consulta de proyección para los jugadores y otra para sus eventos.
+     *
+     * @param pageable la información de paginación
+     * @return la página de respuestas de jugadores
+     */
+    @Transactional(readOnly = true)
+    public Page<PlayerResponse> findAllPlayerResponses(Pageable pageable) {
+        Page<UserSummary> summaries = playerRepository.findAllSummaries(pageable);
+        return new PageImpl<>(
+                toPlayerResponses(summaries.getContent()),
+                pageable,
+                summaries.getTotalElements());
+    }
+
+    /**
+     * Obtiene una página de jugadores por cursor con sus eventos, ordenada por
+     * ID y sin contar el total de jugadores.
+     *
+     * @param request la solicitud de la página
+     * @return la página de respuestas de jugadores
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerResponse> findAllPlayerResponses(
+            CursorPageRequest request) {
+        CursorPage<UserSummary> summaries = CursorPage.of(
+                playerRepository.findSummariesAfter(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                UserSummary::id);
+        return new CursorPage<>(
+                toPlayerResponses(summaries.content()),
+                summaries.nextCursor());
+    }
+
+    @Override
+    @Transactional
     public Optional<Player> update(
             Long id,
-            UserUpdateRequest userUpdateRequest) {
-        Optional<Player> playerOptional = playerRepository.findById(id);
-
-        if (playerOptional.isPresent()) {
-            Player playerUpdated = playerOptional.orElseThrow();
+            UserUpdateRequest userUpdateRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> playerRepository.findVersionStamps(List.of(id)),
+                PlayerRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = playerRepository.updateProfile(
+                id,
+                expectedVersion,
+                userUpdateRequest.getName(),
+                userUpdateRequest.getLastName(),
+                userUpdateRequest.getPhoneNumber(),
+                userUpdateRequest.getEmail(),
+                userUpdateRequest.getUsername());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> playerRepository.existsById(id))) {
+            return Optional.empty();
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
 
-            playerUpdated.setName(userUpdateRequest.getName());
-            playerUpdated.setLastName(userUpdateRequest.getLastName());
-            playerUpdated.setPhoneNumber(userUpdateRequest.getPhoneNumber());
-            playerUpdated.setEmail(userUpdateRequest.getEmail());
-            playerUpdated.setUsername(userUpdateRequest.getUsername());
-            playerUpdated.setRoles(
-                    RoleAuthorityUtils.getRoles(playerUpdated, roleRepository));
+        return playerRepository.findById(id);
+    }
 
-            return Optional.of(playerRepository.save(playerUpdated));
+    @Override
+    @Transactional
+    public boolean patch(
+            Long id,
+            UserPatchRequest userPatchRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> playerRepository.findVersionStamps(List.of(id)),
+                PlayerRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = playerRepository.updateProfile(
+                id,
+                expectedVersion,
+                userPatchRequest.name(),
+                userPatchRequest.lastName(),
+                userPatchRequest.phoneNumber(),
+                userPatchRequest.email(),
+                userPatchRequest.username());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> playerRepository.existsById(id))) {
+            return false;
         }
-        return Optional.empty();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        return true;
     }
 
     @Override
-    public void deleteById(Long id) {
+    @Transactional
+    public void deleteById(Long id, IfMatch ifMatch) {
+        ifMatch.check(() -> playerRepository.findById(id).flatMap(user -> findEntityTag(id)));
+        eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
+        playerRepository.releaseEventSeats(id);
         playerRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
     }
 
     @Override
+    @Transactional
     public boolean updateAffiliationStatus(
             Long id,
-            AffiliationStatus affiliationStatus) {
-        Optional<Player> playerOptional = playerRepository.findById(id);
-
-        if (playerOptional.isPresent()) {
-            Player player = playerOptional.orElseThrow();
-            player.setAffiliationStatus(affiliationStatus);
-            playerRepository.save(player);
-            return true;
+            AffiliationStatus affiliationStatus,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> playerRepository.findVersionStamps(List.of(id)),
+                PlayerRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = playerRepository.updateAffiliationStatus(
+                id,
+                affiliationStatus.name(),
+                expectedVersion);
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> playerRepository.existsById(id))) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        if (affiliationStatus == AffiliationStatus.SUSPENDED) {
+            eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         }
-        return false;
+        return true;
     }
 
     /**
-     * Registra a un jugador en un evento de torneo.
+     * Registra a un jugador en un evento de torneo. La plaza se ocupa con una
+     * actualización condicional del contador de participantes, sin cargar la
+     * lista de inscritos.
      *
      * @param playerId          El ID del jugador a registrar
      * @param tournamentEventId El ID del evento de torneo
@@ -128,55 +301,49 @@ public class PlayerService implements UserService<Player> {
      * @throws MaximumParticipantsException             si el torneo alcanzó el
      *                                                  máximo de participantes
      */
+    @Transactional
     public boolean registerInTournamentEvent(
             Long playerId,
             Long tournamentEventId) {
-        Optional<Player> playerOptional = playerRepository.findById(playerId);
-        Optional<Tournament> tournamentOptional = tournamentRepository.findById(
-                tournamentEventId);
-
-        Player player;
-        Tournament tournament;
-
-        if (playerOptional.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Jugador con ID " + playerId + " no encontrado");
-        } else {
-            player = playerOptional.orElseThrow();
-        }
+        requirePlayer(playerId);
 
-        if (tournamentOptional.isEmpty()) {
+        if (!tournamentRepository.existsById(tournamentEventId)) {
             throw new IllegalArgumentException(
                     "Evento de torneo con ID " +
                             tournamentEventId +
                             " no encontrado");
-        } else {
-            tournament = tournamentOptional.orElseThrow();
         }
 
-        if (player.getEvents().contains(tournament)) {
-            throw new PlayerAlreadyHasTournamentEventException(
-                    "Jugador con ID: " +
-                            playerId +
-                            " ya tiene evento de torneo con ID: " +
-                            tournament.getId() +
-                            " asociado");
+        String alreadyRegistered = "Jugador con ID: " +
+                playerId +
+                " ya tiene evento de torneo con ID: " +
+                tournamentEventId +
+                " asociado";
+
+        if (playerRepository.countEventRegistrations(playerId, tournamentEventId) > 0) {
+            throw new PlayerAlreadyHasTournamentEventException(alreadyRegistered);
         }
-        if (tournament.getPlayers().size() >= tournament.getMaximumParticipants()) {
+        if (!reserveSeat(tournamentEventId)) {
             throw new MaximumParticipantsException(
                     "Los participantes no deben ser mayores que " +
-                            tournament.getMaximumParticipants());
+                            tournamentRepository.findById(tournamentEventId)
+                                    .orElseThrow()
+                                    .getMaximumParticipants());
         }
 
-        player.getEvents().add(tournament);
-        tournament.getPlayers().add(player);
-        playerRepository.save(player);
+        try {
+            playerRepository.insertEventRegistration(playerId, tournamentEventId);
+        } catch (DataIntegrityViolationException e) {
+            throw new PlayerAlreadyHasTournamentEventException(alreadyRegistered);
+        }
 
         return true;
     }
 
     /**
-     * Registra a un jugador en un evento de entrenamiento.
+     * Registra a un jugador en un evento de entrenamiento. La plaza se ocupa
+     * con una actualización condicional del contador de participantes, sin
+     * cargar la lista de inscritos.
      *
      * @param playerId        El ID del jugador a registrar
      * @param trainingEventId El ID del evento de entrenamiento
@@ -189,51 +356,232 @@ public class PlayerService implements UserService<Player> {
      * @throws MaximumParticipantsException           si el entrenamiento alcanzó
      *                                                el máximo de participantes
      */
+    @Transactional
     public boolean registerInTrainingEvent(
             Long playerId,
             Long trainingEventId) {
-        Optional<Player> playerOptional = playerRepository.findById(playerId);
-        Optional<Training> trainingOptional = trainingRepository.findById(
-                trainingEventId);
-
-        Player player;
-        Training training;
-
-        if (playerOptional.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Jugador con ID " + playerId + " no encontrado");
-        } else {
-            player = playerOptional.orElseThrow();
-        }
+        requirePlayer(playerId);
 
-        if (trainingOptional.isEmpty()) {
+        if (!trainingRepository.existsById(trainingEventId)) {
             throw new IllegalArgumentException(
                     "Evento de entrenamiento con ID " +
                             trainingEventId +
                             " no encontrado");
-        } else {
-            training = trainingOptional.orElseThrow();
         }
 
-        if (player.getEvents().contains(training)) {
-            throw new PlayerAlreadyHasTrainingEventException(
-                    "Jugador con ID: " +
-                            playerId +
-                            " ya tiene evento de entrenamiento con ID: " +
-                            training.getId() +
-                            " asociado");
-        }
+        String alreadyRegistered = "Jugador con ID: " +
+                playerId +
+                " ya tiene evento de entrenamiento con ID: " +
+                trainingEventId +
+                " asociado";
 
-        if (training.getPlayers().size() >= training.getMaximumParticipants()) {
+        if (playerRepository.countEventRegistrations(playerId, trainingEventId) > 0) {
+            throw new PlayerAlreadyHasTrainingEventException(alreadyRegistered);
+        }
+        if (!reserveSeat(trainingEventId)) {
             throw new MaximumParticipantsException(
                     "Los participantes no deben ser mayores que " +
-                            training.getMaximumParticipants());
+                            trainingRepository.findById(trainingEventId)
+                                    .orElseThrow()
+                                    .getMaximumParticipants());
         }
 
-        player.getEvents().add(training);
-        training.getPlayers().add(player);
-        playerRepository.save(player);
+        try {
+            playerRepository.insertEventRegistration(playerId, trainingEventId);
+        } catch (DataIntegrityViolationException e) {
+            throw new PlayerAlreadyHasTrainingEventException(alreadyRegistered);
+        }
 
         return true;
     }
+
+    /**
+     * Inscribe a varios jugadores en un evento de torneo con una sola
+     * actualización del contador de participantes y una sola inserción. Las
+     * plazas libres se asignan en el orden de la lista.
+     *
+     * @param tournamentEventId El ID del evento de torneo
+     * @param playerIds         Los IDs de los jugadores, en orden de llegada
+     * @return el resultado de cada jugador, en el mismo orden
+     * @throws IllegalArgumentException si el torneo no existe
+     */
+    @Transactional
+    public List<EventRegistrationOutcome> registerAllInTournamentEvent(
+            Long tournamentEventId,
+            List<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+
+        int maximumParticipants = tournamentRepository.findById(tournamentEventId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Evento de torneo con ID " +
+                                tournamentEventId +
+                                " no encontrado"))
+                .getMaximumParticipants();
+
+        return registerAllInEvent(
+                tournamentEventId,
+                maximumParticipants,
+                playerIds,
+                playerId -> new PlayerAlreadyHasTournamentEventException(
+                        "Jugador con ID: " +
+                                playerId +
+                                " ya tiene evento de torneo con ID: " +
+                                tournamentEventId +
+                                " asociado"));
+    }
+
+    /**
+     * Inscribe a varios jugadores en un evento de entrenamiento con una sola
+     * actualización del contador de participantes y una sola inserción. Las
+     * plazas libres se asignan en el orden de la lista.
+     *
+     * @param trainingEventId El ID del evento de entrenamiento
+     * @param playerIds       Los IDs de los jugadores, en orden de llegada
+     * @return el resultado de cada jugador, en el mismo orden
+     * @throws IllegalArgumentException si el entrenamiento no existe
+     */
+    @Transactional
+    public List<EventRegistrationOutcome> registerAllInTrainingEvent(
+            Long trainingEventId,
+            List<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+
+        int maximumParticipants = trainingRepository.findById(trainingEventId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Evento de entrenamiento con ID " +
+                                trainingEventId +
+                                " no encontrado"))
+                .getMaximumParticipants();
+
+        return registerAllInEvent(
+                trainingEventId,
+                maximumParticipants,
+                playerIds,
+                playerId -> new PlayerAlreadyHasTrainingEventException(
+                        "Jugador con ID: " +
+                                playerId +
+                                " ya tiene evento de entrenamiento con ID: " +
+                                trainingEventId +
+                                " asociado"));
+    }
+
+    /**
+     * Bloquea la fila del evento para conocer las plazas libres, descarta los
+     * jugadores inexistentes o ya inscritos y admite a los primeros jugadores
+     * hasta completarlas. Las inscripciones individuales ocupan su plaza
+     * actualizando la misma fila, por lo que, una vez tomado el bloqueo, la
+     * lectura con bloqueo de las inscripciones incluye todas las confirmadas y
+     * ninguna otra puede confirmarse hasta el final de la transacción.
+     */
+    private List<EventRegistrationOutcome> registerAllInEvent(
+            Long eventId,
+            int maximumParticipants,
+            List<Long> playerIds,
+            Function<Long, RuntimeException> alreadyRegistered) {
+        Integer freeSeats = playerRepository.lockFreeEventSeats(eventId);
+        int remainingSeats = freeSeats != null ? Math.max(freeSeats, 0) : 0;
+
+        Set<Long> distinctIds = new LinkedHashSet<>(playerIds);
+        Set<Long> existing = new HashSet<>(playerRepository.findExistingIds(distinctIds));
+        Set<Long> registered = new HashSet<>(
+                playerRepository.findRegisteredPlayerIds(eventId, distinctIds));
+
+        List<Long> admitted = new ArrayList<>();
+        List<EventRegistrationOutcome> outcomes = new ArrayList<>(playerIds.size());
+        for (Long playerId : playerIds) {
+            RuntimeException error = null;
+            if (!existing.contains(playerId)) {
+                error = new IllegalArgumentException(
+                        "Jugador con ID " + playerId + " no encontrado");
+            } else if (!registered.add(playerId)) {
+                error = alreadyRegistered.apply(playerId);
+            } else if (remainingSeats == 0) {
+                error = new MaximumParticipantsException(
+                        "Los participantes no deben ser mayores que " +
+                                maximumParticipants);
+            } else {
+                remainingSeats--;
+                admitted.add(playerId);
+            }
+            outcomes.add(new EventRegistrationOutcome(playerId, error));
+        }
+
+        if (!admitted.isEmpty()) {
+            playerRepository.reserveEventSeats(eventId, admitted.size());
+            playerRepository.insertEventRegistrations(eventId, admitted);
+        }
+
+        return outcomes;
+    }
+
+    private void requirePlayer(Long playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new IllegalArgumentException(
+                    "Jugador con ID " + playerId + " no encontrado");
+        }
+    }
+
+    /**
+     * Ocupa una plaza del evento. Si la inscripción falla después, la
+     * transacción se revierte y la plaza vuelve a quedar libre.
+     *
+     * @param eventId el ID del evento
+     * @return true si se ocupó una plaza, false si el evento está completo
+     */
+    private boolean reserveSeat(Long eventId) {
+        return playerRepository.reserveEventSeats(eventId, 1) == 1;
+    }
+
+    /**
+     * Convierte las proyecciones de jugadores en respuestas y les asigna los
+     * eventos en los que están inscritos, obtenidos en una sola consulta. Al
+     * ejecutarse en una transacción de solo lectura, los eventos no se someten a
+     * la comprobación de cambios.
+     *
+     * @param summaries las proyecciones de los jugadores
+     * @return las respuestas en el mismo orden que las proyecciones
+     */
+    private List<PlayerResponse> toPlayerResponses(List<UserSummary> summaries) {
+        Map<Long, PlayerResponse> responsesById = new LinkedHashMap<>();
+        for (UserSummary summary : summaries) {
+            PlayerResponse response = playerMapper.toPlayerResponse(summary, roleCatalog);
+            response.setEvents(new HashSet<>());
+            responsesById.put(summary.id(), response);
+        }
+
+        if (!responsesById.isEmpty()) {
+            for (PlayerEventEntry entry : playerRepository
+                    .findEventsByPlayerIds(responsesById.keySet())) {
+                responsesById.get(entry.playerId()).getEvents().add(entry.event());
+            }
+        }
+        return List.copyOf(responsesById.values());
+    }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(playerRepository.findVersionStamps(List.of(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = playerRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                playerRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                playerRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                playerRepository::findVersionStamps);
+    }
 }
@@ -0,0 +1,75 @@
+package com.sportsclubmanager.backend.shared.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configura la caché de segundo nivel de Hibernate sobre JCache con Caffeine
+ * como proveedor local. Las regiones se crean a partir de
+ * {@link SecondLevelCacheProperties} y Hibernate falla al iniciar si una
+ * entidad usa una región que no está configurada, en lugar de crear una sin
+ * límite de tamaño.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Gestor de cachés con una región por cada entrada configurada. Las
+     * estadísticas de cada región se publican como métricas {@code cache.*}
+     * con la etiqueta {@code cache} igual al nombre de la región.
+     * <p>
+     * El proveedor guarda sus gestores por URI y cargador de clases a nivel de
+     * JVM, así que cada contexto pide el suyo con una URI propia; de lo
+     * contrario un segundo contexto en la misma JVM recibiría el gestor del
+     * primero con las regiones ya creadas. El gestor se cierra, y el proveedor
+     * lo olvida, al cerrar el contexto.
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(
+            SecondLevelCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()),
+                cachingProvider.getDefaultClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+
+            Cache<Object, Object> cache = cacheManager.createCache(name, configuration);
+            JCacheMetrics.monitor(meterRegistry, cache, Tags.empty());
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
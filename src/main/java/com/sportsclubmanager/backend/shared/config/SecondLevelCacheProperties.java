@@ -0,0 +1,40 @@
+package com.sportsclubmanager.backend.shared.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de las regiones de la caché de segundo nivel
+ * de Hibernate. Cada región anotada con {@code @Cache} debe estar declarada
+ * aquí.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jpa.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Regiones de la caché indexadas por su nombre.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /**
+         * Número máximo de entradas que se mantienen en la región.
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * Tiempo máximo que una entrada permanece en la región desde que se
+         * escribió.
+         */
+        private Duration timeToLive = Duration.ofHours(1);
+    }
+}
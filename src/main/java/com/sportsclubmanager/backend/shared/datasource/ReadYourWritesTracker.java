@@ -0,0 +1,62 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Recuerda qué usuarios confirmaron una transacción de escritura recientemente
+ * para que sus lecturas siguientes se envíen al primario y no vean una réplica
+ * que todavía no recibió sus cambios.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = window.isZero() || window.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(window)
+                        .maximumSize(100_000)
+                        .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (recentWriters == null || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+
+        String principal = currentPrincipal();
+        if (principal != null) {
+            recentWriters.put(principal, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Indica si el usuario autenticado en el hilo actual escribió dentro de la
+     * ventana configurada.
+     *
+     * @return true si sus lecturas deben ir al primario
+     */
+    public boolean hasRecentWrite() {
+        if (recentWriters == null) {
+            return false;
+        }
+
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                ? authentication.getName()
+                : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * Réplica de lectura junto con el resultado de la última comprobación de su
+ * retraso. Una réplica no recibe lecturas hasta que la primera comprobación
+ * confirma que está al día.
+ */
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean available;
+    private volatile Long lagMillis;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * @return el retraso medido en la última comprobación, o null si no se
+     *         pudo medir
+     */
+    public Long getLagMillis() {
+        return lagMillis;
+    }
+
+    void update(boolean available, Long lagMillis) {
+        this.available = available;
+        this.lagMillis = lagMillis;
+    }
+}
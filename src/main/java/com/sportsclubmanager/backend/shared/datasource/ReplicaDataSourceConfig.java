@@ -0,0 +1,100 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Envía las transacciones de solo lectura a las réplicas y el resto al
+ * primario.
+ * <p>
+ * El origen de datos principal es un {@link LazyConnectionDataSourceProxy}: la
+ * conexión física se obtiene en la primera sentencia, cuando la transacción ya
+ * marcó la conexión como de solo lectura, y en ese caso se pide a
+ * {@link ReplicaRoutingDataSource}. Hibernate libera la conexión al terminar
+ * cada transacción para que una misma solicitud no reutilice una conexión de
+ * réplica en una transacción de escritura posterior.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean(destroyMethod = "close")
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaProperties properties,
+            ReadYourWritesTracker readYourWritesTracker) {
+        List<Replica> replicas = properties.getNodes().stream()
+                .map(node -> new Replica(
+                        node.getName(),
+                        DataSourceBuilder.create()
+                                .type(HikariDataSource.class)
+                                .url(node.getUrl())
+                                .username(node.getUsername())
+                                .password(node.getPassword())
+                                .build()))
+                .toList();
+        return new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource primaryDataSource,
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReplicaProperties properties) {
+        return new ReplicaLagMonitor(
+                primaryDataSource,
+                replicaRoutingDataSource.getReplicas(),
+                properties);
+    }
+
+    @Bean
+    ReplicaHealthIndicator replicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaHealthIndicator(replicaRoutingDataSource.getReplicas());
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Publica el estado de cada réplica según la última comprobación de su
+ * retraso. Una réplica cuyo retraso supera el máximo aparece como
+ * {@code OUT_OF_SERVICE} y una réplica cuyo retraso no se pudo medir, como
+ * {@code DOWN}. El indicador toma el peor estado de sus réplicas, aunque las
+ * lecturas de una réplica no disponible las atiende el primario.
+ */
+public class ReplicaHealthIndicator extends AbstractHealthIndicator {
+
+    private final List<Replica> replicas;
+
+    public ReplicaHealthIndicator(List<Replica> replicas) {
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        Status overall = Status.UP;
+        for (Replica replica : replicas) {
+            Status status = status(replica);
+            if (severity(status) > severity(overall)) {
+                overall = status;
+            }
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("status", status.getCode());
+            details.put("lagMillis", replica.getLagMillis());
+            builder.withDetail(replica.getName(), details);
+        }
+        builder.status(overall);
+    }
+
+    private static Status status(Replica replica) {
+        if (replica.isAvailable()) {
+            return Status.UP;
+        }
+        return replica.getLagMillis() != null ? Status.OUT_OF_SERVICE : Status.DOWN;
+    }
+
+    private static int severity(Status status) {
+        if (Status.DOWN.equals(status)) {
+            return 2;
+        }
+        return Status.OUT_OF_SERVICE.equals(status) ? 1 : 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Mide el retraso de las réplicas con una tabla de latidos: el primario guarda
+ * periódicamente la hora actual en {@code replication_heartbeat} y el retraso
+ * de cada réplica es la diferencia con el último latido que recibió. Las
+ * réplicas que superan el retraso máximo, o que no responden, dejan de recibir
+ * lecturas hasta la siguiente comprobación correcta.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            ReplicaLagMonitor.class);
+
+    private static final long HEARTBEAT_ID = 1;
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final ReplicaProperties properties;
+
+    public ReplicaLagMonitor(
+            DataSource primary,
+            List<Replica> replicas,
+            ReplicaProperties properties) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = List.copyOf(replicas);
+        this.properties = properties;
+    }
+
+    /**
+     * Escribe un latido en el primario y comprueba el retraso de cada réplica.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval:PT5S}")
+    public void check() {
+        try {
+            writeHeartbeat();
+        } catch (DataAccessException e) {
+            logger.warn("No se pudo escribir el latido de replicación: {}", e.getMessage());
+        }
+
+        replicas.forEach(this::checkReplica);
+    }
+
+    private void writeHeartbeat() {
+        long now = System.currentTimeMillis();
+        int updated = primary.update(
+                "update replication_heartbeat set beat_millis = ? where id = ?",
+                now,
+                HEARTBEAT_ID);
+        if (updated == 0) {
+            primary.update(
+                    "insert into replication_heartbeat (id, beat_millis) values (?, ?)",
+                    HEARTBEAT_ID,
+                    now);
+        }
+    }
+
+    private void checkReplica(Replica replica) {
+        boolean wasAvailable = replica.isAvailable();
+        try {
+            Long beatMillis = new JdbcTemplate(replica.getDataSource()).queryForObject(
+                    "select beat_millis from replication_heartbeat where id = ?",
+                    Long.class,
+                    HEARTBEAT_ID);
+            long lagMillis = Math.max(0, System.currentTimeMillis() - beatMillis);
+            boolean available = lagMillis <= properties.getMaxLag().toMillis();
+            replica.update(available, lagMillis);
+
+            if (wasAvailable && !available) {
+                logger.warn(
+                        "La réplica {} tiene {} ms de retraso y deja de recibir lecturas",
+                        replica.getName(),
+                        lagMillis);
+            } else if (!wasAvailable && available) {
+                logger.info("La réplica {} vuelve a recibir lecturas", replica.getName());
+            }
+        } catch (DataAccessException e) {
+            replica.update(false, null);
+            if (wasAvailable) {
+                logger.warn(
+                        "La réplica {} no responde y deja de recibir lecturas: {}",
+                        replica.getName(),
+                        e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de las réplicas de lectura de la base de datos.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaProperties {
+
+    /**
+     * Si está activo, las transacciones de solo lectura se envían a las
+     * réplicas y el resto al primario.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Réplicas de lectura disponibles.
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Tiempo durante el que las lecturas de un usuario que acaba de escribir se
+     * envían al primario para que vea sus propios cambios. Con 0 se desactiva.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Retraso máximo de una réplica antes de dejar de enviarle lecturas. Debe
+     * ser mayor que el intervalo de comprobación, ya que el latido más reciente
+     * puede no haberse replicado todavía.
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * Intervalo entre latidos escritos en el primario y comprobaciones del
+     * retraso de las réplicas.
+     */
+    private Duration checkInterval = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        /**
+         * Nombre de la réplica en los registros y en el estado de salud.
+         */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,70 @@
+package com.sportsclubmanager.backend.shared.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Origen de datos para las conexiones de solo lectura. Reparte las conexiones
+ * entre las réplicas disponibles de forma rotatoria y recurre al primario si
+ * ninguna está disponible o si el usuario actual acaba de escribir.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || readYourWritesTracker.hasRecentWrite()) {
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable()) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Cierra los grupos de conexiones de las réplicas. El primario se cierra
+     * por separado.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sportsclubmanager.backend.shared.etag;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Resuelve las lecturas condicionales con {@code If-None-Match}. El ETag se
+ * calcula antes de cargar el recurso, de modo que un {@code 304} solo cuesta la
+ * consulta de versiones. La precondición {@code If-Match} de las escrituras se
+ * comprueba en la transacción de la escritura con {@link IfMatch}.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Responde a la lectura de un recurso.
+     *
+     * @param request la solicitud
+     * @param eTag    el ETag actual, o vacío si el recurso no existe
+     * @param body    carga el cuerpo de la respuesta
+     * @param <T>     el tipo del cuerpo
+     * @return {@code 304} si el cliente tiene la versión actual, {@code 404}
+     *         si el recurso no existe o {@code 200} con el cuerpo y su ETag
+     */
+    public static <T> ResponseEntity<T> get(
+            WebRequest request,
+            Optional<String> eTag,
+            Supplier<Optional<T>> body) {
+        if (eTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
+
+        return body.get()
+                .map(value -> ResponseEntity.ok().eTag(eTag.get()).body(value))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Responde a la lectura de una página de recursos.
+     *
+     * @param request la solicitud
+     * @param eTag    el ETag actual de la página
+     * @param body    carga la página
+     * @param <T>     el tipo de la página
+     * @return {@code 304} si el cliente tiene la versión actual o {@code 200}
+     *         con la página y su ETag
+     */
+    public static <T> ResponseEntity<T> getPage(
+            WebRequest request,
+            String eTag,
+            Supplier<T> body) {
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+}
@@ -0,0 +1,77 @@
+package com.sportsclubmanager.backend.shared.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Calcula ETags fuertes a partir de las versiones de las filas con las que se
+ * construye una respuesta, sin cargar las entidades ni serializar el cuerpo.
+ * Toda modificación de esas filas incrementa su versión, y toda alta o baja de
+ * una fila relacionada cambia el conjunto de versiones, por lo que el ETag
+ * cambia siempre que cambia la respuesta.
+ */
+public final class EntityTags {
+
+    private static final Comparator<VersionStamp> ORDER = Comparator
+            .comparing(VersionStamp::getKind)
+            .thenComparing(VersionStamp::getOwnerId)
+            .thenComparing(VersionStamp::getId);
+
+    private EntityTags() {
+    }
+
+    /**
+     * Calcula el ETag de un recurso.
+     *
+     * @param stamps las versiones de las filas del recurso
+     * @return el ETag, o vacío si no hay filas porque el recurso no existe
+     */
+    public static Optional<String> of(List<? extends VersionStamp> stamps) {
+        return stamps.isEmpty() ? Optional.empty() : Optional.of(hash(stamps));
+    }
+
+    /**
+     * Calcula el ETag de una página de recursos.
+     *
+     * @param ids      los IDs de los recursos de la página
+     * @param stampsOf consulta las versiones de las filas de los recursos
+     * @param extra    otros valores de la página, como el total de elementos
+     * @return el ETag
+     */
+    public static String ofPage(
+            List<Long> ids,
+            Function<Collection<Long>, ? extends List<? extends VersionStamp>> stampsOf,
+            long... extra) {
+        return hash(ids.isEmpty() ? List.of() : stampsOf.apply(ids), extra);
+    }
+
+    private static String hash(List<? extends VersionStamp> stamps, long... extra) {
+        StringBuilder value = new StringBuilder();
+        stamps.stream().sorted(ORDER).forEach(stamp -> value
+                .append(stamp.getKind()).append(':')
+                .append(stamp.getOwnerId()).append(':')
+                .append(stamp.getId()).append(':')
+                .append(stamp.getVersion()).append(';'));
+        for (long e : extra) {
+            value.append('#').append(e);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.toString().getBytes(StandardCharsets.UTF_8));
+            return '"' + Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, 16)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+}
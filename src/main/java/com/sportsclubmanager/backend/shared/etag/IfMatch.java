@@ -0,0 +1,138 @@
+package com.sportsclubmanager.backend.shared.etag;
+
+import com.sportsclubmanager.backend.shared.exception.PreconditionFailedException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Precondición {@code If-Match} de una escritura.
+ * <p>
+ * Se comprueba dentro de la transacción de la escritura y después de leer la
+ * fila principal del recurso, de modo que la escritura depende de la misma
+ * versión con la que se calculó el ETag: si otra solicitud confirma un cambio
+ * después, la comprobación de versión de la escritura lo detecta. Las
+ * escrituras con una sola sentencia reciben esa versión con
+ * {@link #checkVersion} y solo se aplican si la fila sigue en ella.
+ */
+public final class IfMatch {
+
+    private static final IfMatch NONE = new IfMatch(false, List.of());
+
+    private final boolean present;
+    private final List<ETag> eTags;
+
+    private IfMatch(boolean present, List<ETag> eTags) {
+        this.present = present;
+        this.eTags = eTags;
+    }
+
+    /**
+     * @return la precondición de una solicitud sin {@code If-Match}, que se
+     *         cumple siempre
+     */
+    public static IfMatch none() {
+        return NONE;
+    }
+
+    /**
+     * Obtiene la precondición de una solicitud.
+     *
+     * @param request la solicitud
+     * @return la precondición con los ETags enviados en {@code If-Match}
+     */
+    public static IfMatch from(WebRequest request) {
+        String header = request.getHeader(HttpHeaders.IF_MATCH);
+        return header == null ? NONE : new IfMatch(true, ETag.parse(header));
+    }
+
+    /**
+     * @return true si la solicitud incluye {@code If-Match}
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Comprueba la precondición con el ETag actual del recurso, usando la
+     * comparación fuerte. El ETag solo se calcula si la solicitud incluye el
+     * encabezado. Si el recurso no existe no se comprueba nada y la escritura
+     * responde que no se encontró.
+     *
+     * @param currentETag calcula el ETag actual, o vacío si el recurso no existe
+     * @throws PreconditionFailedException si el ETag actual no coincide con
+     *                                     ninguno de los enviados
+     */
+    public void check(Supplier<Optional<String>> currentETag) {
+        if (!present) {
+            return;
+        }
+
+        currentETag.get().map(ETag::create).ifPresent(current -> {
+            if (eTags.stream().noneMatch(eTag -> eTag.isWildcard() || eTag.compare(current, true))) {
+                throw new PreconditionFailedException(
+                        "El ETag " + current.formattedTag() + " no coincide con If-Match");
+            }
+        });
+    }
+
+    /**
+     * Comprueba la precondición con las versiones actuales del recurso y
+     * devuelve la versión de su fila principal, para condicionar a ella una
+     * escritura de una sola sentencia. Las versiones solo se leen si la
+     * solicitud incluye el encabezado.
+     *
+     * @param currentStamps lee las versiones actuales de las filas del recurso
+     * @param kind          el tipo de la fila principal
+     * @param id            el ID del recurso
+     * @return la versión de la fila principal, o null si la solicitud no
+     *         incluye {@code If-Match} o el recurso no existe
+     * @throws PreconditionFailedException si el ETag actual no coincide con
+     *                                     ninguno de los enviados
+     */
+    public Long checkVersion(
+            Supplier<? extends List<? extends VersionStamp>> currentStamps,
+            String kind,
+            Long id) {
+        if (!present) {
+            return null;
+        }
+
+        List<? extends VersionStamp> stamps = currentStamps.get();
+        check(() -> EntityTags.of(stamps));
+        return stamps.stream()
+                .filter(stamp -> kind.equals(stamp.getKind())
+                        && id.equals(stamp.getOwnerId())
+                        && id.equals(stamp.getId()))
+                .map(VersionStamp::getVersion)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Interpreta el resultado de una escritura condicionada a la versión
+     * devuelta por {@link #checkVersion}.
+     *
+     * @param updated         el número de filas modificadas
+     * @param expectedVersion la versión esperada, o null si no se condicionó
+     * @param exists          comprueba si el recurso existe
+     * @return true si se modificó, false si el recurso no existe
+     * @throws PreconditionFailedException si el recurso existe pero otra
+     *                                     solicitud cambió su versión después
+     *                                     de la comprobación
+     */
+    public static boolean updated(int updated, Long expectedVersion, BooleanSupplier exists) {
+        if (updated > 0) {
+            return true;
+        }
+        if (expectedVersion != null && exists.getAsBoolean()) {
+            throw new PreconditionFailedException(
+                    "La versión " + expectedVersion + " cambió antes de aplicar la escritura");
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sportsclubmanager.backend.shared.etag;
+
+/**
+ * Versión de una de las filas con las que se construye una respuesta. Las
+ * filas relacionadas (los miembros de un club, los eventos de un jugador) se
+ * identifican por su tipo y por el ID del recurso al que pertenecen.
+ */
+public interface VersionStamp {
+
+    /**
+     * @return el tipo de la fila, por ejemplo {@code USER} o {@code EVENT}
+     */
+    String getKind();
+
+    /**
+     * @return el ID del recurso de la respuesta al que pertenece la fila
+     */
+    Long getOwnerId();
+
+    Long getId();
+
+    Long getVersion();
+}
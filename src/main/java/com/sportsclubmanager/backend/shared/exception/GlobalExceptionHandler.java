@@ -1,15 +1,23 @@
 package com.sportsclubmanager.backend.shared.exception;
 
+import com.sportsclubmanager.backend.auth.exception.InvalidRefreshTokenException;
+import com.sportsclubmanager.backend.auth.exception.PasswordHashingRejectedException;
 import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -59,6 +67,115 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Object> handlePasswordHashingRejectedException(
+            PasswordHashingRejectedException e) {
+        logger.warn("Se rechazó una operación de cifrado: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "El servicio no está disponible temporalmente.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Object> handleInvalidRefreshTokenException(
+            InvalidRefreshTokenException e) {
+        logger.warn("Se rechazó un token de actualización: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "No se pudo renovar la sesión.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.UNAUTHORIZED.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursorException(
+            InvalidCursorException e) {
+        logger.warn("Se recibió un cursor de paginación no válido: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "El cursor de paginación no es válido.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.BAD_REQUEST.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Object> handleHandlerMethodValidationException(
+            HandlerMethodValidationException e) {
+        List<String> violations = e.getAllErrors().stream()
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .toList();
+        logger.warn("Se recibió una solicitud con parámetros no válidos: {}", violations);
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "Los parámetros de la solicitud no son válidos.");
+        errorResponse.put(DETAILS_KEY, violations);
+        errorResponse.put(STATUS_KEY, HttpStatus.BAD_REQUEST.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<Object> handleInvalidDateRangeException(
+            InvalidDateRangeException e) {
+        logger.warn("Se recibió un intervalo de fechas no válido: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "El intervalo de fechas no es válido.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.BAD_REQUEST.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Object> handleAccessDeniedException(
+            AccessDeniedException e) {
+        logger.warn("Se denegó el acceso a un recurso: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "No tiene permiso para realizar esta operación.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.FORBIDDEN.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(
+            PreconditionFailedException e) {
+        logger.warn("No se cumplió la precondición de la solicitud: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "El recurso cambió desde que se obtuvo su ETag.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.PRECONDITION_FAILED.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleObjectOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException e) {
+        logger.warn("Se detectó una modificación concurrente: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put(MESSAGE_KEY, "El recurso fue modificado por otra solicitud.");
+        errorResponse.put(DETAILS_KEY, e.getMessage());
+        errorResponse.put(STATUS_KEY, HttpStatus.CONFLICT.value());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGeneralException(Exception e) {
         logger.error("Se produjo un error inesperado: {}", e.getMessage(), e);
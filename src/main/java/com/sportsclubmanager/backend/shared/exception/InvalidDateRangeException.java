@@ -0,0 +1,8 @@
+package com.sportsclubmanager.backend.shared.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
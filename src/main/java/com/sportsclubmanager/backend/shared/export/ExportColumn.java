@@ -0,0 +1,14 @@
+package com.sportsclubmanager.backend.shared.export;
+
+import java.util.function.Function;
+
+/**
+ * Columna de una exportación: el nombre con el que se escribe y la función que
+ * obtiene su valor de cada fila.
+ *
+ * @param name  el nombre de la columna
+ * @param value la función que obtiene el valor de la columna
+ * @param <T>   el tipo de las filas
+ */
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+}
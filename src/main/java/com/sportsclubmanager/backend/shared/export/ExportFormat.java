@@ -0,0 +1,110 @@
+package com.sportsclubmanager.backend.shared.export;
+
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos admitidos en las exportaciones e importaciones. El cliente los
+ * elige mediante la cabecera {@code Accept} o {@code Content-Type}.
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Obtiene el formato de un archivo recibido a partir de su cabecera
+     * {@code Content-Type}. Si no es CSV, se interpreta como NDJSON.
+     *
+     * @param contentType el valor de la cabecera {@code Content-Type}
+     * @return el formato del archivo
+     */
+    public static ExportFormat fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return NDJSON;
+        }
+
+        try {
+            return CSV.mediaType.isCompatibleWith(MediaType.parseMediaType(contentType))
+                    ? CSV
+                    : NDJSON;
+        } catch (InvalidMediaTypeException e) {
+            return NDJSON;
+        }
+    }
+
+    /**
+     * Elige el formato a partir de la cabecera {@code Accept}, respetando los
+     * valores de calidad ({@code q}) del cliente. La calidad de cada formato es
+     * la del tipo más específico que lo incluye; a igual calidad se prefiere el
+     * formato pedido con el tipo más específico. Si la cabecera no existe o no
+     * admite ningún formato, se usa NDJSON.
+     *
+     * @param accept el valor de la cabecera {@code Accept}
+     * @return el formato de exportación
+     */
+    public static ExportFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return NDJSON;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return NDJSON;
+        }
+
+        ExportFormat best = NDJSON;
+        double bestQuality = 0;
+        int bestSpecificity = -1;
+        for (ExportFormat format : values()) {
+            MediaType match = null;
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.includes(format.mediaType)
+                        && (match == null || specificity(mediaType) > specificity(match))) {
+                    match = mediaType;
+                }
+            }
+            if (match == null) {
+                continue;
+            }
+
+            double quality = match.getQualityValue();
+            int specificity = specificity(match);
+            if (quality > bestQuality
+                    || (quality == bestQuality && quality > 0 && specificity > bestSpecificity)) {
+                best = format;
+                bestQuality = quality;
+                bestSpecificity = specificity;
+            }
+        }
+        return best;
+    }
+
+    private static int specificity(MediaType mediaType) {
+        if (mediaType.isWildcardType()) {
+            return 0;
+        }
+        return mediaType.isWildcardSubtype() ? 1 : 2;
+    }
+}
@@ -0,0 +1,195 @@
+package com.sportsclubmanager.backend.shared.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Escribe exportaciones en NDJSON o CSV a medida que se leen las filas de la
+ * base de datos, sin cargarlas todas en memoria. La consulta se abre en una
+ * transacción de solo lectura dentro del hilo que escribe la respuesta y la
+ * salida se vacía cada {@value #FLUSH_INTERVAL} filas. En CSV, los textos que
+ * empiezan como una fórmula se neutralizan para evitar la inyección de
+ * fórmulas al abrir el archivo en una hoja de cálculo.
+ */
+@Component
+public class StreamingExporter {
+
+    /**
+     * Número de filas que el controlador JDBC obtiene en cada viaje a la base
+     * de datos al leer una exportación.
+     */
+    public static final String FETCH_SIZE = "500";
+
+    static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public StreamingExporter(
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Construye la respuesta de una exportación.
+     *
+     * @param accept   el valor de la cabecera {@code Accept} de la solicitud
+     * @param fileName el nombre del archivo sin extensión
+     * @param columns  las columnas que se escriben
+     * @param rows     proveedor del flujo de filas; se invoca dentro de la
+     *                 transacción y el flujo se cierra al terminar
+     * @param <T>      el tipo de las filas
+     * @return la respuesta con el cuerpo en streaming
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(
+            String accept,
+            String fileName,
+            List<ExportColumn<T>> columns,
+            Supplier<Stream<T>> rows) {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+
+        StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get()) {
+                if (format == ExportFormat.CSV) {
+                    writeCsv(outputStream, columns, stream.iterator());
+                } else {
+                    writeNdjson(outputStream, columns, stream.iterator());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(fileName + "." + format.getExtension())
+                                .build()
+                                .toString())
+                .body(body);
+    }
+
+    private <T> void writeNdjson(
+            OutputStream outputStream,
+            List<ExportColumn<T>> columns,
+            Iterator<T> rows) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            int count = 0;
+            while (rows.hasNext()) {
+                T row = rows.next();
+                generator.writeStartObject();
+                for (ExportColumn<T> column : columns) {
+                    generator.writeObjectField(column.name(), column.value().apply(row));
+                }
+                generator.writeEndObject();
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private <T> void writeCsv(
+            OutputStream outputStream,
+            List<ExportColumn<T>> columns,
+            Iterator<T> rows) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, columns.get(i).name());
+        }
+        writer.write("\r\n");
+
+        int count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value instanceof CharSequence text) {
+                    writeCsvValue(writer, neutralizeFormula(text.toString()));
+                } else if (value != null) {
+                    writeCsvValue(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Antepone un apóstrofo a los textos que una hoja de cálculo interpretaría
+     * como fórmula. Los números no se modifican, de modo que los negativos
+     * siguen siendo numéricos.
+     */
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    /**
+     * Escribe un valor CSV según RFC 4180: se encierra entre comillas si
+     * contiene separadores, comillas o saltos de línea.
+     */
+    private static void writeCsvValue(Writer writer, String value)
+            throws IOException {
+        boolean quote = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,14 @@
+package com.sportsclubmanager.backend.shared.importing;
+
+import java.util.List;
+
+/**
+ * Error de una fila de una importación.
+ *
+ * @param row      el número de la fila de datos, empezando en 1
+ * @param key      el identificador de la fila (por ejemplo, el nombre de
+ *                 usuario), o {@code null} si no se pudo leer
+ * @param messages los motivos por los que se rechazó la fila
+ */
+public record ImportError(long row, String key, List<String> messages) {
+}
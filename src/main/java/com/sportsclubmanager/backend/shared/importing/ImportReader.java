@@ -0,0 +1,243 @@
+package com.sportsclubmanager.backend.shared.importing;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lee archivos de importación en NDJSON o CSV fila a fila, sin cargarlos
+ * completos en memoria. Las filas que no se pueden interpretar se devuelven
+ * con su error para que la importación continúe con las siguientes.
+ * <p>
+ * En CSV la primera fila contiene los nombres de las columnas, que deben
+ * coincidir con las propiedades del tipo de destino.
+ */
+@Component
+public class ImportReader {
+
+    private final ObjectMapper objectMapper;
+
+    public ImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Lee las filas de un archivo de importación.
+     *
+     * @param format      el formato del archivo
+     * @param inputStream el contenido del archivo
+     * @param type        el tipo de las filas
+     * @param <T>         el tipo de las filas
+     * @return iterador sobre las filas; las lecturas fallan con
+     *         {@link UncheckedIOException} si no se puede leer la entrada
+     */
+    public <T> Iterator<ImportRecord<T>> read(
+            ExportFormat format,
+            InputStream inputStream,
+            Class<T> type) {
+        Reader reader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        return format == ExportFormat.CSV
+                ? new CsvIterator<>(reader, type)
+                : new NdjsonIterator<>(reader, type);
+    }
+
+    private <T> ImportRecord<T> convert(long row, Map<String, String> values, Class<T> type) {
+        try {
+            return new ImportRecord<>(row, objectMapper.convertValue(values, type), null);
+        } catch (IllegalArgumentException e) {
+            return new ImportRecord<>(row, null, "La fila no tiene el formato esperado");
+        }
+    }
+
+    private abstract static class RecordIterator<T> implements Iterator<ImportRecord<T>> {
+
+        private ImportRecord<T> next;
+        private boolean finished;
+
+        protected abstract ImportRecord<T> readNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = readNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public ImportRecord<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ImportRecord<T> current = next;
+            next = null;
+            return current;
+        }
+    }
+
+    /**
+     * Lee un objeto JSON por línea. Una línea mal formada no impide leer las
+     * siguientes.
+     */
+    private class NdjsonIterator<T> extends RecordIterator<T> {
+
+        private final BufferedReader reader;
+        private final Class<T> type;
+        private long row;
+
+        NdjsonIterator(Reader reader, Class<T> type) {
+            this.reader = (BufferedReader) reader;
+            this.type = type;
+        }
+
+        @Override
+        protected ImportRecord<T> readNext() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            row++;
+            try (JsonParser parser = objectMapper.createParser(line)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return new ImportRecord<>(row, null, "La fila no es un objeto JSON");
+                }
+                return new ImportRecord<>(row, objectMapper.readValue(parser, type), null);
+            } catch (JsonProcessingException e) {
+                return new ImportRecord<>(row, null, "La fila no tiene el formato esperado");
+            }
+        }
+    }
+
+    /**
+     * Lee CSV según RFC 4180: los valores entre comillas pueden contener
+     * separadores, comillas duplicadas y saltos de línea.
+     */
+    private class CsvIterator<T> extends RecordIterator<T> {
+
+        private final Reader reader;
+        private final Class<T> type;
+        private List<String> header;
+        private long row;
+        private boolean endOfInput;
+
+        CsvIterator(Reader reader, Class<T> type) {
+            this.reader = reader;
+            this.type = type;
+        }
+
+        @Override
+        protected ImportRecord<T> readNext() throws IOException {
+            if (header == null) {
+                header = readFields();
+                if (header == null) {
+                    return null;
+                }
+            }
+
+            List<String> fields;
+            do {
+                fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+            row++;
+            if (fields.size() != header.size()) {
+                return new ImportRecord<>(
+                        row,
+                        null,
+                        "La fila tiene " + fields.size() + " columnas y se esperaban " + header.size());
+            }
+
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = fields.get(i);
+                values.put(header.get(i), value.isEmpty() ? null : value);
+            }
+            return convert(row, values, type);
+        }
+
+        /**
+         * Lee los campos del siguiente registro.
+         *
+         * @return los campos, o {@code null} si no quedan registros
+         */
+        private List<String> readFields() throws IOException {
+            if (endOfInput) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+
+            if (c == -1) {
+                endOfInput = true;
+                if (!read) {
+                    return null;
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sportsclubmanager.backend.shared.importing;
+
+/**
+ * Fila leída de un archivo de importación. Si la fila no se pudo interpretar,
+ * {@code value} es {@code null} y {@code error} describe el problema.
+ *
+ * @param row   el número de la fila de datos, empezando en 1
+ * @param value el valor leído
+ * @param error el error de lectura, o {@code null}
+ * @param <T>   el tipo de las filas
+ */
+public record ImportRecord<T>(long row, T value, String error) {
+}
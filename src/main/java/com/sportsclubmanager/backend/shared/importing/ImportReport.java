@@ -0,0 +1,18 @@
+package com.sportsclubmanager.backend.shared.importing;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva.
+ *
+ * @param total    el número de filas leídas
+ * @param imported el número de filas guardadas
+ * @param failed   el número de filas rechazadas
+ * @param errors   los errores de las filas rechazadas
+ */
+public record ImportReport(
+        long total,
+        long imported,
+        long failed,
+        List<ImportError> errors) {
+}
@@ -0,0 +1,55 @@
+package com.sportsclubmanager.backend.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Página de resultados obtenida por cursor. No incluye el total de elementos
+ * para evitar un {@code count} en cada solicitud.
+ *
+ * @param content    los elementos de la página
+ * @param nextCursor el cursor de la página siguiente, o {@code null} si es la
+ *                   última
+ * @param <T>        el tipo de los elementos
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    /**
+     * Construye una página a partir de las filas consultadas con
+     * {@link CursorPageRequest#fetchLimit()}. La fila adicional, si existe,
+     * solo indica que hay una página siguiente y se descarta.
+     *
+     * @param rows    las filas consultadas, ordenadas por ID
+     * @param request la solicitud de la página
+     * @param idOf    función que obtiene el ID de una fila
+     * @param <T>     el tipo de las filas
+     * @return la página
+     */
+    public static <T> CursorPage<T> of(
+            List<T> rows,
+            CursorPageRequest request,
+            ToLongFunction<T> idOf) {
+        if (rows.size() <= request.limit()) {
+            return new CursorPage<>(List.copyOf(rows), null);
+        }
+
+        List<T> content = List.copyOf(rows.subList(0, request.limit()));
+        return new CursorPage<>(
+                content,
+                CursorPageRequest.encode(idOf.applyAsLong(content.get(content.size() - 1))));
+    }
+
+    /**
+     * Convierte los elementos de la página conservando el cursor.
+     *
+     * @param mapper la función de conversión
+     * @param <R>    el tipo de los elementos convertidos
+     * @return la página convertida
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(
+                content.stream().<R>map(mapper).toList(),
+                nextCursor);
+    }
+}
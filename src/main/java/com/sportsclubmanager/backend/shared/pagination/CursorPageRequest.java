@@ -0,0 +1,76 @@
+package com.sportsclubmanager.backend.shared.pagination;
+
+import com.sportsclubmanager.backend.shared.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Solicitud de una página por cursor. El cursor es opaco para el cliente y
+ * codifica el ID del último elemento de la página anterior, de modo que la
+ * consulta continúa desde ese ID por el índice de la clave primaria en lugar
+ * de saltar filas con {@code OFFSET}.
+ *
+ * @param afterId el ID a partir del cual se leen los elementos (exclusivo)
+ * @param limit   el número máximo de elementos de la página
+ */
+public record CursorPageRequest(long afterId, int limit) {
+
+    public static final int DEFAULT_LIMIT = 5;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    public CursorPageRequest {
+        if (afterId < 0) {
+            throw new InvalidCursorException("El cursor no es válido");
+        }
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Crea una solicitud a partir de los parámetros recibidos por la API.
+     *
+     * @param after el cursor devuelto por la página anterior, o {@code null}
+     *              para la primera página
+     * @param limit el número de elementos solicitado, o {@code null} para usar
+     *              el valor por defecto
+     * @return la solicitud de página
+     * @throws InvalidCursorException si el cursor no es válido
+     */
+    public static CursorPageRequest of(String after, Integer limit) {
+        return new CursorPageRequest(
+                after == null || after.isBlank() ? 0 : decode(after),
+                limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    /**
+     * Límite de filas que se consulta: uno más que el tamaño de la página para
+     * saber si existe una página siguiente sin ejecutar un {@code count}.
+     *
+     * @return el límite de la consulta
+     */
+    public Limit fetchLimit() {
+        return Limit.of(limit + 1);
+    }
+
+    static String encode(long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String cursor) {
+        try {
+            String value = new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            if (!value.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("El cursor no es válido");
+            }
+            return Long.parseLong(value.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("El cursor no es válido");
+        }
+    }
+}
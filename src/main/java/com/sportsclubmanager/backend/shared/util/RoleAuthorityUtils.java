@@ -8,7 +8,7 @@ import com.sportsclubmanager.backend.user.exception.RoleRetrievalException;
 import com.sportsclubmanager.backend.user.model.Authority;
 import com.sportsclubmanager.backend.user.model.Role;
 import com.sportsclubmanager.backend.user.model.User;
-import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
 import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -61,21 +61,21 @@ public class RoleAuthorityUtils {
      * @param user           El objeto de usuario (instancia de {@link User}) o la
      *                       solicitud de actualización de usuario (instancia de
      *                       {@link UserUpdateRequest}). No debe ser nulo.
-     * @param roleRepository El repositorio para acceder a la información de los
-     *                       roles. No debe ser nulo.
+     * @param roleCatalog    El catálogo en memoria de los roles. No debe ser
+     *                       nulo.
      * @return Un conjunto de objetos {@link Role} asociados al usuario o a la
      *         solicitud de actualización.
      * @throws RoleRetrievalException Si ocurre un error al recuperar los roles.
      */
     public static Set<Role> getRoles(
             Object user,
-            RoleRepository roleRepository) {
+            RoleCatalog roleCatalog) {
         Set<Role> roles = new HashSet<>();
 
         if (user instanceof User u) {
-            roles = getRolesFromUser(u, roleRepository);
+            roles = getRolesFromUser(u, roleCatalog);
         } else if (user instanceof UserUpdateRequest ur) {
-            roles = getRolesFromUserUpdateRequest(ur, roleRepository);
+            roles = getRolesFromUserUpdateRequest(ur, roleCatalog);
         }
         return roles;
     }
@@ -85,8 +85,8 @@ public class RoleAuthorityUtils {
      *
      * @param user           El objeto de usuario del cual se extraerán los roles.
      *                       No debe ser nulo.
-     * @param roleRepository El repositorio para acceder a la información de los
-     *                       roles. No debe ser nulo.
+     * @param roleCatalog    El catálogo en memoria de los roles. No debe ser
+     *                       nulo.
      * @return Un conjunto de objetos {@link Role} asociados al usuario.
      * @throws RoleRetrievalException Si ocurre un error al recuperar los roles
      *                                debido a la no existencia de un rol, un
@@ -94,28 +94,28 @@ public class RoleAuthorityUtils {
      */
     private static Set<Role> getRolesFromUser(
             User user,
-            RoleRepository roleRepository) {
+            RoleCatalog roleCatalog) {
         Set<Role> roles = new HashSet<>();
 
         try {
             Set<String> rolesAndAuthoritiesOfUser = user.getRolesAndAuthorities();
 
             if (rolesAndAuthoritiesOfUser.isEmpty()) {
-                roles.add(roleRepository.findByName(ROLE_USER).orElseThrow());
+                roles.add(roleCatalog.getRole(ROLE_USER).orElseThrow());
 
                 if (user instanceof ClubAdministrator) {
                     roles.add(
-                            roleRepository.findByName(ROLE_CLUB_ADMIN).orElseThrow());
+                            roleCatalog.getRole(ROLE_CLUB_ADMIN).orElseThrow());
                 } else if (user instanceof Coach) {
                     roles.add(
-                            roleRepository.findByName(ROLE_COACH).orElseThrow());
+                            roleCatalog.getRole(ROLE_COACH).orElseThrow());
                 } else if (user instanceof Player) {
                     roles.add(
-                            roleRepository.findByName(ROLE_PLAYER).orElseThrow());
+                            roleCatalog.getRole(ROLE_PLAYER).orElseThrow());
                 }
             } else {
                 for (String role : rolesAndAuthoritiesOfUser) {
-                    Optional<Role> roleOptional = roleRepository.findByName(
+                    Optional<Role> roleOptional = roleCatalog.getRole(
                             role);
                     roleOptional.ifPresent(roles::add);
                 }
@@ -137,8 +137,8 @@ public class RoleAuthorityUtils {
      *
      * @param userUpdateRequest La solicitud de actualización de usuario de la cual
      *                          se extraerán los roles. No debe ser nula.
-     * @param roleRepository    El repositorio para acceder a la información de los
-     *                          roles. No debe ser nulo.
+     * @param roleCatalog       El catálogo en memoria de los roles. No debe ser
+     *                          nulo.
      * @return Un conjunto de objetos {@link Role} especificados en la solicitud de
      *         actualización.
      * @throws RoleRetrievalException Si ocurre un error al recuperar los roles
@@ -149,7 +149,7 @@ public class RoleAuthorityUtils {
      */
     private static Set<Role> getRolesFromUserUpdateRequest(
             UserUpdateRequest userUpdateRequest,
-            RoleRepository roleRepository) {
+            RoleCatalog roleCatalog) {
         Set<Role> roles = new HashSet<>();
 
         try {
@@ -157,7 +157,7 @@ public class RoleAuthorityUtils {
 
             if (!rolesAndAuthoritiesOfUserUpdateRequest.isEmpty()) {
                 for (String role : rolesAndAuthoritiesOfUserUpdateRequest) {
-                    Optional<Role> roleOptional = roleRepository.findByName(
+                    Optional<Role> roleOptional = roleCatalog.getRole(
                             role);
                     roleOptional.ifPresent(roles::add);
                 }
@@ -2,6 +2,7 @@ package com.sportsclubmanager.backend.shared.validation;
 
 import com.sportsclubmanager.backend.member.model.PlayerResponse;
 import com.sportsclubmanager.backend.user.dto.ApiResponse;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
 import com.sportsclubmanager.backend.user.dto.UserResponse;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.model.User;
@@ -71,6 +72,32 @@ public class ValidationService {
         return null;
     }
 
+    /**
+     * Maneja la validación de un JSON merge patch sobre los datos de perfil de
+     * un usuario y sus resultados de validación.
+     *
+     * @param target        los campos a modificar
+     * @param bindingResult resultados de la validación
+     * @param <T>           tipo genérico para la respuesta
+     * @return ResponseEntity con estado HTTP 400 (Bad Request) si hay errores, o
+     *         null si es válido
+     */
+    public <T> ResponseEntity<ApiResponse<T>> handlePatchValidation(
+            UserPatchRequest target,
+            BindingResult bindingResult) {
+        Map<String, String> errors = validate(target);
+
+        if (!errors.isEmpty()) {
+            return validationError(errors);
+        }
+
+        if (bindingResult.hasErrors()) {
+            return validate(bindingResult);
+        }
+
+        return null;
+    }
+
     /**
      * Crea una respuesta de error de validación.
      *
@@ -124,8 +151,8 @@ public class ValidationService {
     /**
      * Valida los datos de un usuario.
      *
-     * @param user usuario a validar, debe ser de tipo <code>User</code> o
-     *             <code>UserUpdateRequest</code>
+     * @param user usuario a validar, debe ser de tipo <code>User</code>,
+     *             <code>UserUpdateRequest</code> o <code>UserPatchRequest</code>
      * @return mapa con los mensajes de validación si hay errores, o mapa vacío si
      *         es válido
      * @throws IllegalArgumentException si el tipo de usuario no es válido
@@ -140,6 +167,8 @@ public class ValidationService {
             phoneNumber = u.getPhoneNumber();
         } else if (user instanceof UserUpdateRequest ur) {
             phoneNumber = ur.getPhoneNumber();
+        } else if (user instanceof UserPatchRequest up) {
+            phoneNumber = up.phoneNumber();
         } else {
             throw new IllegalArgumentException("Tipo de usuario no válido");
         }
@@ -1,8 +1,16 @@
 package com.sportsclubmanager.backend.user.controller;
 
+import com.sportsclubmanager.backend.shared.etag.ConditionalRequests;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.validation.ValidationService;
 import com.sportsclubmanager.backend.user.dto.ApiResponse;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
 import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.mapper.UserMapper;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
@@ -14,11 +22,16 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/users")
@@ -29,13 +42,17 @@ public class UserController {
 
     private final UserMapper userMapper;
 
+    private final StreamingExporter streamingExporter;
+
     public UserController(
             @Qualifier("userServiceImpl") UserService<User> userService,
             ValidationService validationService,
-            UserMapper userMapper) {
+            UserMapper userMapper,
+            StreamingExporter streamingExporter) {
         this.userService = userService;
         this.validationService = validationService;
         this.userMapper = userMapper;
+        this.streamingExporter = streamingExporter;
     }
 
     @PostMapping
@@ -56,11 +73,13 @@ public class UserController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
-        return userService
-                .findById(id)
-                .map(user -> ResponseEntity.ok(userMapper.toUserResponse(user)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<UserResponse> getById(
+            @PathVariable Long id,
+            WebRequest request) {
+        return ConditionalRequests.get(
+                request,
+                userService.findEntityTag(id),
+                () -> userService.findById(id).map(userMapper::toUserResponse));
     }
 
     @GetMapping("/username/{username}")
@@ -76,22 +95,43 @@ public class UserController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserResponse>> getAll() {
-        return ResponseEntity.ok(
-                userService
-                        .findAll()
-                        .stream()
-                        .map(userMapper::toUserResponse)
-                        .toList());
+        return ResponseEntity.ok(userService.findAllResponses());
     }
 
     @GetMapping("/page/{page}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<UserResponse>> getAllPaginated(
-            @PathVariable Integer page) {
-        return ResponseEntity.ok(
-                userService
-                        .findAll(PageRequest.of(page, 5))
-                        .map(userMapper::toUserResponse));
+            @PathVariable Integer page,
+            WebRequest request) {
+        Pageable pageable = PageRequest.of(page, 5, Sort.by("id"));
+        return ConditionalRequests.getPage(
+                request,
+                userService.findPageEntityTag(pageable),
+                () -> userService.findAllResponses(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<UserResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(after, limit);
+        return ConditionalRequests.getPage(
+                request,
+                userService.findPageEntityTag(pageRequest),
+                () -> userService.findAllResponses(pageRequest));
+    }
+
+    @GetMapping(value = "/export", produces = { ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExporter.export(
+                accept,
+                "users",
+                UserSummary.EXPORT_COLUMNS,
+                userService::streamAllSummaries);
     }
 
     @PutMapping("/{id}")
@@ -99,7 +139,8 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserResponse>> update(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateRequest userUpdateRequest,
-            BindingResult bindingResult) {
+            BindingResult bindingResult,
+            WebRequest request) {
         ResponseEntity<ApiResponse<UserResponse>> validationResult = validationService.handleValidation(
                 userUpdateRequest,
                 bindingResult);
@@ -107,7 +148,7 @@ public class UserController {
             return validationResult;
 
         return userService
-                .update(id, userUpdateRequest)
+                .update(id, userUpdateRequest, IfMatch.from(request))
                 .map(user -> {
                     UserResponse response = userMapper.toUserResponse(user);
                     ApiResponse<UserResponse> apiResponse = new ApiResponse<>(
@@ -117,13 +158,34 @@ public class UserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping(value = "/{id}", consumes = UserPatchRequest.MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> patch(
+            @PathVariable Long id,
+            @Valid @RequestBody UserPatchRequest userPatchRequest,
+            BindingResult bindingResult,
+            WebRequest request) {
+        ResponseEntity<ApiResponse<Void>> validationResult = validationService.handlePatchValidation(
+                userPatchRequest,
+                bindingResult);
+        if (validationResult != null)
+            return validationResult;
+
+        if (userService.patch(id, userPatchRequest, IfMatch.from(request))) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            WebRequest request) {
         Optional<User> userOptional = userService.findById(id);
 
         if (userOptional.isPresent()) {
-            userService.deleteById(id);
+            userService.deleteById(id, IfMatch.from(request));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -133,10 +195,12 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> updateAffiliationStatus(
             @PathVariable Long id,
-            @RequestBody AffiliationStatus affiliationStatus) {
+            @RequestBody AffiliationStatus affiliationStatus,
+            WebRequest request) {
         boolean updated = userService.updateAffiliationStatus(
                 id,
-                affiliationStatus);
+                affiliationStatus,
+                IfMatch.from(request));
         if (updated) {
             return ResponseEntity.ok().build();
         }
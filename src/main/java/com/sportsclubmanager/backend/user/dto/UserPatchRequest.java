@@ -0,0 +1,20 @@
+package com.sportsclubmanager.backend.user.dto;
+
+import com.sportsclubmanager.backend.user.validation.annotation.NoSpecialCharacters;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Representa un JSON merge patch sobre los datos de perfil de un usuario. Los
+ * campos ausentes no se modifican; como todos son obligatorios y no pueden
+ * eliminarse, un valor nulo tampoco los modifica.
+ */
+public record UserPatchRequest(
+        @Size(min = 3, max = 20) String name,
+        @Size(min = 3, max = 20) String lastName,
+        Long phoneNumber,
+        @Email @Size(min = 16, max = 40) String email,
+        @NoSpecialCharacters @Size(min = 6, max = 20) String username) {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+}
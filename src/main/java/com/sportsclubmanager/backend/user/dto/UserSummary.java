@@ -0,0 +1,32 @@
+package com.sportsclubmanager.backend.user.dto;
+
+import com.sportsclubmanager.backend.shared.export.ExportColumn;
+import java.util.List;
+
+/**
+ * Proyección de los datos de un usuario que se devuelven en los listados, con
+ * los nombres de sus roles agregados en la misma consulta.
+ *
+ * @param roleNames nombres de los roles separados por comas, o {@code null} si
+ *                  el usuario no tiene roles
+ */
+public record UserSummary(
+        Long id,
+        Long nationalId,
+        String name,
+        String lastName,
+        Long phoneNumber,
+        String email,
+        String username,
+        String roleNames) {
+
+    public static final List<ExportColumn<UserSummary>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", UserSummary::id),
+            new ExportColumn<>("nationalId", UserSummary::nationalId),
+            new ExportColumn<>("name", UserSummary::name),
+            new ExportColumn<>("lastName", UserSummary::lastName),
+            new ExportColumn<>("phoneNumber", UserSummary::phoneNumber),
+            new ExportColumn<>("email", UserSummary::email),
+            new ExportColumn<>("username", UserSummary::username),
+            new ExportColumn<>("roles", UserSummary::roleNames));
+}
@@ -0,0 +1,11 @@
+package com.sportsclubmanager.backend.user.dto;
+
+/**
+ * Valores de las columnas únicas de un usuario.
+ */
+public record UserUniqueKeys(
+        String username,
+        String email,
+        Long nationalId,
+        Long phoneNumber) {
+}
@@ -0,0 +1,29 @@
+package com.sportsclubmanager.backend.user.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escucha los cambios de las entidades {@code Role} y {@code Authority} y
+ * publica un {@link RolesChangedEvent} para que las cachés que dependen de
+ * ellos se actualicen.
+ */
+@Component
+public class RoleChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RoleChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        eventPublisher.publishEvent(new RolesChangedEvent());
+    }
+}
@@ -0,0 +1,8 @@
+package com.sportsclubmanager.backend.user.event;
+
+/**
+ * Evento que se publica cuando se crea, modifica o elimina un rol o una
+ * autoridad.
+ */
+public record RolesChangedEvent() {
+}
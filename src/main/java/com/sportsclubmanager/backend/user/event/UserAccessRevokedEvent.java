@@ -0,0 +1,13 @@
+package com.sportsclubmanager.backend.user.event;
+
+/**
+ * Evento que se publica cuando un usuario pierde el acceso (suspensión o
+ * eliminación de la cuenta) y los tokens que ya tiene deben dejar de
+ * aceptarse.
+ * Se publica dentro de la transacción y antes de eliminar la cuenta, para que
+ * los oyentes aún puedan consultar el usuario.
+ *
+ * @param userId el ID del usuario
+ */
+public record UserAccessRevokedEvent(Long userId) {
+}
@@ -0,0 +1,11 @@
+package com.sportsclubmanager.backend.user.event;
+
+/**
+ * Evento que se publica cuando cambian los datos de una cuenta de usuario que
+ * afectan a su autenticación (datos de acceso, roles, estado de afiliación o
+ * eliminación de la cuenta).
+ *
+ * @param userId el ID del usuario modificado
+ */
+public record UserAccountChangedEvent(Long userId) {
+}
@@ -1,9 +1,19 @@
 package com.sportsclubmanager.backend.user.mapper;
 
 import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
+import com.sportsclubmanager.backend.user.model.Role;
 import com.sportsclubmanager.backend.user.model.User;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring")
 public interface UserMapper {
@@ -16,4 +26,38 @@ public interface UserMapper {
     @Mapping(source = "username", target = "username")
     @Mapping(source = "roles", target = "roles")
     UserResponse toUserResponse(User user);
+
+    /**
+     * Mapea la proyección de un usuario a su respuesta, resolviendo los roles
+     * desde el catálogo en memoria.
+     *
+     * @param userSummary la proyección del usuario
+     * @param roleCatalog el catálogo de roles
+     * @return la respuesta del usuario
+     */
+    @Mapping(source = "roleNames", target = "roles", qualifiedByName = "mapRoleNames")
+    UserResponse toUserResponse(
+            UserSummary userSummary,
+            @Context RoleCatalog roleCatalog);
+
+    /**
+     * Convierte una lista de nombres de roles separados por comas en roles del
+     * catálogo. Los nombres que no existen en el catálogo se ignoran.
+     *
+     * @param roleNames   los nombres de los roles separados por comas
+     * @param roleCatalog el catálogo de roles
+     * @return conjunto de roles
+     */
+    @Named("mapRoleNames")
+    default Set<Role> mapRoleNames(
+            String roleNames,
+            @Context RoleCatalog roleCatalog) {
+        if (roleNames == null || roleNames.isEmpty()) {
+            return new HashSet<>();
+        }
+        return Arrays.stream(roleNames.split(","))
+                .map(roleCatalog::getRole)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+    }
 }
@@ -1,5 +1,6 @@
 package com.sportsclubmanager.backend.user.model;
 
+import com.sportsclubmanager.backend.user.event.RoleChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import java.io.Serial;
@@ -8,11 +9,16 @@ import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authorities")
+@EntityListeners(RoleChangeListener.class)
 @Table(name = "authorities")
 public class Authority implements Serializable {
 
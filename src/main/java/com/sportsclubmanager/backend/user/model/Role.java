@@ -1,5 +1,6 @@
 package com.sportsclubmanager.backend.user.model;
 
+import com.sportsclubmanager.backend.user.event.RoleChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import java.io.Serial;
@@ -10,11 +11,16 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
+@EntityListeners(RoleChangeListener.class)
 @Table(name = "roles")
 public class Role implements Serializable {
 
@@ -30,6 +36,7 @@ public class Role implements Serializable {
     private String name;
 
     @EqualsAndHashCode.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-authorities")
     @ManyToMany(fetch = FetchType.EAGER, cascade = {
             CascadeType.DETACH,
             CascadeType.MERGE,
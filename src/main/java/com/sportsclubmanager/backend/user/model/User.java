@@ -27,8 +27,14 @@ public class User implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Los IDs se reservan en bloques desde la tabla {@code id_generators}. Con
+     * {@code IDENTITY} Hibernate tendría que ejecutar cada inserción por
+     * separado para conocer el ID, lo que impide agruparlas en lotes JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -86,10 +92,13 @@ public class User implements Serializable {
     @Transient
     private boolean admin;
 
+    /**
+     * Los roles se asignan desde el catálogo en memoria como instancias
+     * separadas, por lo que no se propaga la persistencia ni la fusión: solo se
+     * escriben las filas de {@code users_roles}.
+     */
     @ManyToMany(fetch = FetchType.EAGER, cascade = {
             CascadeType.DETACH,
-            CascadeType.MERGE,
-            CascadeType.PERSIST,
             CascadeType.REFRESH,
     })
     @JoinTable(name = "users_roles", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
@@ -99,6 +108,14 @@ public class User implements Serializable {
     @Column(name = "affiliation_status")
     private AffiliationStatus affiliationStatus;
 
+    /**
+     * Se incrementa en cada modificación de la fila. Detecta las
+     * actualizaciones concurrentes y forma parte del ETag de las respuestas.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     private void prePersist() {
         this.enabled = true;
@@ -1,9 +1,106 @@
 package com.sportsclubmanager.backend.user.repository;
 
+import com.sportsclubmanager.backend.user.dto.UserUniqueKeys;
 import com.sportsclubmanager.backend.user.model.User;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends UserSummaryRepository<User> {
     Optional<User> findByUsername(String name);
+
+    @Query("select u.username from User u where u.id = :id")
+    Optional<String> findUsernameById(Long id);
+
+    /**
+     * Obtiene las columnas únicas de los usuarios que ya usan alguno de los
+     * valores indicados.
+     *
+     * @param usernames    los nombres de usuario
+     * @param emails       los correos electrónicos
+     * @param nationalIds  los documentos de identidad
+     * @param phoneNumbers los números de teléfono
+     * @return las columnas únicas de los usuarios en conflicto
+     */
+    @Query("""
+            select new com.sportsclubmanager.backend.user.dto.UserUniqueKeys(
+                u.username, u.email, u.nationalId, u.phoneNumber)
+            from User u
+            where u.username in :usernames
+                or u.email in :emails
+                or u.nationalId in :nationalIds
+                or u.phoneNumber in :phoneNumbers
+            """)
+    List<UserUniqueKeys> findUniqueKeys(
+            @Param("usernames") Collection<String> usernames,
+            @Param("emails") Collection<String> emails,
+            @Param("nationalIds") Collection<Long> nationalIds,
+            @Param("phoneNumbers") Collection<Long> phoneNumbers);
+
+    /**
+     * Reemplaza la contraseña cifrada de un usuario sin cargar la entidad.
+     *
+     * @param username el nombre de usuario
+     * @param password la nueva contraseña cifrada
+     * @return el número de filas actualizadas
+     */
+    @Modifying
+    @Query(value = """
+            update users
+            set password = :password, version = version + 1
+            where username = :username
+            """, nativeQuery = true)
+    int updatePassword(String username, String password);
+
+    /**
+     * Cambia el estado de afiliación de un usuario sin cargar la entidad ni sus
+     * roles.
+     *
+     * @param id              el ID del usuario
+     * @param status          el nombre del nuevo estado de afiliación
+     * @param expectedVersion la versión que debe tener la fila, o null para no
+     *                        comprobarla
+     * @return 1 si se actualizó, 0 si no existe o su versión cambió
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = UPDATE_AFFILIATION_STATUS, nativeQuery = true)
+    int updateAffiliationStatus(
+            @Param("id") Long id,
+            @Param("status") String status,
+            @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Modifica los datos de perfil de un usuario sin cargar la entidad ni sus
+     * roles. Los valores nulos dejan la columna sin cambios. Se vacía el
+     * contexto de persistencia para que una lectura posterior vea los nuevos
+     * valores.
+     *
+     * @param id              el ID del usuario
+     * @param expectedVersion la versión que debe tener la fila, o null para no
+     *                        comprobarla
+     * @param name            el nuevo nombre
+     * @param lastName        el nuevo apellido
+     * @param phoneNumber     el nuevo número de teléfono
+     * @param email           el nuevo correo electrónico
+     * @param username        el nuevo nombre de usuario
+     * @return 1 si se actualizó, 0 si no existe o su versión cambió
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = UPDATE_PROFILE, nativeQuery = true)
+    int updateProfile(
+            @Param("id") Long id,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("name") String name,
+            @Param("lastName") String lastName,
+            @Param("phoneNumber") Long phoneNumber,
+            @Param("email") String email,
+            @Param("username") String username);
 }
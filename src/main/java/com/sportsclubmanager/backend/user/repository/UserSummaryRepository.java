@@ -0,0 +1,142 @@
+package com.sportsclubmanager.backend.user.repository;
+
+import com.sportsclubmanager.backend.shared.etag.VersionStamp;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
+import com.sportsclubmanager.backend.user.model.User;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Consultas de listado comunes a todos los tipos de usuario. Devuelven
+ * proyecciones en lugar de entidades, por lo que no se cargan los roles ni las
+ * autoridades ni se registra nada en el contexto de persistencia.
+ *
+ * @param <T> el tipo de la entidad de usuario
+ */
+@NoRepositoryBean
+public interface UserSummaryRepository<T extends User>
+        extends JpaRepository<T, Long> {
+
+    String SUMMARY_SELECT = """
+            select new com.sportsclubmanager.backend.user.dto.UserSummary(
+                u.id, u.nationalId, u.name, u.lastName, u.phoneNumber,
+                u.email, u.username, listagg(r.name, ','))
+            from #{#entityName} u left join u.roles r
+            """;
+
+    String SUMMARY_GROUP_BY = """
+            group by u.id, u.nationalId, u.name, u.lastName, u.phoneNumber,
+                u.email, u.username
+            """;
+
+    /**
+     * Tipo de la fila de usuario en {@link #findVersionStamps}.
+     */
+    String USER_STAMP_KIND = "USER";
+
+    /**
+     * Cambia el estado de afiliación de un usuario con una sola sentencia. Si
+     * {@code :expectedVersion} no es nulo, solo se actualiza la fila que sigue
+     * en esa versión. Cada tipo de usuario añade la condición que limita la
+     * actualización a sus filas.
+     */
+    String UPDATE_AFFILIATION_STATUS = """
+            update users
+            set affiliation_status = :status, version = version + 1
+            where id = :id and version = coalesce(:expectedVersion, version)
+            """;
+
+    /**
+     * Modifica los datos de perfil de un usuario con una sola sentencia. Los
+     * valores nulos dejan la columna sin cambios. Si {@code :expectedVersion}
+     * no es nulo, solo se actualiza la fila que sigue en esa versión. Cada tipo
+     * de usuario añade la condición que limita la actualización a sus filas.
+     */
+    String UPDATE_PROFILE = """
+            update users
+            set name = coalesce(:name, name),
+                last_name = coalesce(:lastName, last_name),
+                phone_number = coalesce(:phoneNumber, phone_number),
+                email = coalesce(:email, email),
+                username = coalesce(:username, username),
+                version = version + 1
+            where id = :id and version = coalesce(:expectedVersion, version)
+            """;
+
+    @Query(SUMMARY_SELECT + SUMMARY_GROUP_BY)
+    List<UserSummary> findAllSummaries();
+
+    @Query(value = SUMMARY_SELECT + SUMMARY_GROUP_BY, countQuery = "select count(u) from #{#entityName} u")
+    Page<UserSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Recorre todos los usuarios ordenados por ID sin cargarlos en memoria. El
+     * flujo debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return el flujo de proyecciones de usuarios
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query(SUMMARY_SELECT + SUMMARY_GROUP_BY + "order by u.id")
+    Stream<UserSummary> streamAllSummaries();
+
+    /**
+     * Obtiene los usuarios con ID mayor que el indicado, ordenados por ID. La
+     * consulta recorre el índice de la clave primaria, por lo que su coste no
+     * depende de la posición de la página.
+     *
+     * @param afterId el ID a partir del cual se leen los usuarios (exclusivo)
+     * @param limit   el número máximo de usuarios
+     * @return las proyecciones de los usuarios
+     */
+    @Query(SUMMARY_SELECT + "where u.id > :afterId " + SUMMARY_GROUP_BY + "order by u.id")
+    List<UserSummary> findSummariesAfter(
+            @Param("afterId") long afterId,
+            Limit limit);
+
+    /**
+     * Obtiene los IDs de una página de usuarios, en el orden indicado por la
+     * paginación, para calcular su ETag sin cargar los usuarios.
+     *
+     * @param pageable la información de paginación
+     * @return la página de IDs
+     */
+    @Query(value = "select u.id from #{#entityName} u", countQuery = "select count(u) from #{#entityName} u")
+    Page<Long> findIds(Pageable pageable);
+
+    /**
+     * Obtiene los IDs de los usuarios con ID mayor que el indicado, ordenados
+     * por ID, para calcular el ETag de una página por cursor.
+     *
+     * @param afterId el ID a partir del cual se leen los usuarios (exclusivo)
+     * @param limit   el número máximo de usuarios
+     * @return los IDs de los usuarios
+     */
+    @Query("select u.id from #{#entityName} u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Obtiene las versiones de las filas con las que se construyen las
+     * respuestas de los usuarios indicados.
+     *
+     * @param ids los IDs de los usuarios
+     * @return las versiones de las filas
+     */
+    @Query("""
+            select 'USER' as kind, u.id as ownerId, u.id as id, u.version as version
+            from #{#entityName} u
+            where u.id in :ids
+            """)
+    List<VersionStamp> findVersionStamps(@Param("ids") Collection<Long> ids);
+}
@@ -1,66 +1,186 @@
 package com.sportsclubmanager.backend.user.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sportsclubmanager.backend.user.event.RolesChangedEvent;
+import com.sportsclubmanager.backend.user.event.UserAccountChangedEvent;
+import com.sportsclubmanager.backend.user.model.AffiliationStatus;
 import com.sportsclubmanager.backend.user.model.User;
 import com.sportsclubmanager.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Servicio personalizado que implementa UserDetailsService de Spring Security
  * para
  * cargar los detalles del usuario durante la autenticación.
+ * Los detalles cargados se mantienen en una caché por nombre de usuario, que
+ * se invalida cuando se publica un {@link UserAccountChangedEvent} o un
+ * {@link RolesChangedEvent}. Un índice del ID de cada usuario en caché a su
+ * nombre de usuario permite invalidar una sola entrada a partir del ID.
+ * También implementa UserDetailsPasswordService para que Spring Security vuelva
+ * a cifrar, tras un inicio de sesión exitoso, las contraseñas cuyo coste de
+ * BCrypt no coincide con el configurado.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService
+        implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    private final Cache<String, CachedUserDetails> cache;
+    private final ConcurrentMap<Long, String> usernamesById = new ConcurrentHashMap<>();
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            UserDetailsCacheProperties cacheProperties,
+            MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getTimeToLive())
+                .recordStats()
+                // Se ejecuta de forma atómica con la expulsión de la entrada
+                .evictionListener((String username, CachedUserDetails cached, RemovalCause cause) -> {
+                    if (cached != null) {
+                        usernamesById.remove(cached.userId(), username);
+                    }
+                })
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
     }
 
     /**
      * Carga los detalles del usuario para la autenticación de Spring Security.
+     * Cada llamada devuelve una copia de los detalles en caché, ya que Spring
+     * Security borra la contraseña del objeto devuelto tras la autenticación.
      *
      * @param username nombre de usuario a buscar
      * @return objeto UserDetails con la información del usuario para autenticación
      * @throws UsernameNotFoundException si el usuario no es encontrado
      */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username)
             throws UsernameNotFoundException {
-        Optional<User> userOptional = userRepository.findByUsername(username);
+        CachedUserDetails cached = cache.get(username, this::load);
 
-        if (userOptional.isEmpty()) {
-            throw new UsernameNotFoundException(
-                    "Usuario no encontrado con nombre de usuario: " + username);
+        return org.springframework.security.core.userdetails.User
+                .withUserDetails(cached.userDetails())
+                .build();
+    }
+
+    /**
+     * Guarda la contraseña cifrada de nuevo con el coste actual.
+     *
+     * @param user        el usuario autenticado
+     * @param newPassword la contraseña cifrada con el coste actual
+     * @return los detalles del usuario con la nueva contraseña
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        String username = user.getUsername();
+        userRepository.updatePassword(username, newPassword);
+
+        // Como con los eventos de cuenta, la entrada se invalida tras el commit;
+        // antes, una carga concurrente volvería a guardar la contraseña anterior
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(username);
+            }
+        });
+
+        return org.springframework.security.core.userdetails.User
+                .withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    /**
+     * Elimina de la caché los detalles del usuario modificado.
+     *
+     * @param event el evento con el ID del usuario modificado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        String username = usernamesById.remove(event.userId());
+        if (username != null) {
+            cache.invalidate(username);
         }
+    }
+
+    /**
+     * Vacía la caché cuando cambian los roles o sus autoridades.
+     *
+     * @param event el evento de cambio de roles
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        usernamesById.clear();
+        cache.invalidateAll();
+    }
+
+    private CachedUserDetails load(String username) {
+        return readOnlyTransaction.execute(status -> {
+            Optional<User> userOptional = userRepository.findByUsername(username);
+
+            if (userOptional.isEmpty()) {
+                throw new UsernameNotFoundException(
+                        "Usuario no encontrado con nombre de usuario: " + username);
+            }
+
+            User user = userOptional.orElseThrow();
+
+            // La colección 'authorities' almacena tanto roles como autoridades
+            Set<GrantedAuthority> authorities = user
+                    .getRolesAndAuthorities()
+                    .stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toSet());
+
+            UserDetails userDetails = new org.springframework.security.core.userdetails.User(
+                    user.getUsername(),
+                    user.getPassword(),
+                    user.isEnabled(),
+                    user.isAccountNonExpired(),
+                    user.isCredentialsNonExpired(),
+                    // Un usuario suspendido no puede iniciar sesión ni renovar tokens
+                    user.isAccountNonLocked()
+                            && user.getAffiliationStatus() != AffiliationStatus.SUSPENDED,
+                    authorities);
+
+            usernamesById.put(user.getId(), user.getUsername());
+            return new CachedUserDetails(user.getId(), userDetails);
+        });
+    }
 
-        User user = userOptional.orElseThrow();
-
-        // La colección 'authorities' almacena tanto roles como autoridades
-        Set<GrantedAuthority> authorities = user
-                .getRolesAndAuthorities()
-                .stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toSet());
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.isEnabled(),
-                user.isAccountNonExpired(),
-                user.isCredentialsNonExpired(),
-                user.isAccountNonLocked(),
-                authorities);
+    private record CachedUserDetails(Long userId, UserDetails userDetails) {
     }
 }
@@ -0,0 +1,153 @@
+package com.sportsclubmanager.backend.user.service;
+
+import com.sportsclubmanager.backend.user.event.RolesChangedEvent;
+import com.sportsclubmanager.backend.user.model.Authority;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Catálogo en memoria de los roles y sus autoridades.
+ * Se carga al iniciar y se vuelve a cargar cuando cambian los roles, de modo
+ * que asignar roles a un usuario no requiere consultar la base de datos.
+ * Cada carga produce una instantánea inmutable que se reemplaza de forma
+ * atómica.
+ */
+@Component
+public class RoleCatalog {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Map.of());
+
+    public RoleCatalog(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Autoridad registrada.
+     *
+     * @param id   el ID de la autoridad
+     * @param name el nombre de la autoridad
+     */
+    public record AuthorityEntry(Long id, String name) {
+    }
+
+    /**
+     * Rol registrado con sus autoridades ordenadas por nombre.
+     *
+     * @param id                  el ID del rol
+     * @param name                el nombre del rol
+     * @param authorities         las autoridades del rol
+     * @param expandedAuthorities el nombre del rol y los de sus autoridades
+     */
+    public record RoleEntry(
+            Long id,
+            String name,
+            List<AuthorityEntry> authorities,
+            Set<String> expandedAuthorities) {
+    }
+
+    /**
+     * Carga (o vuelve a cargar) los roles y sus autoridades desde la base de
+     * datos.
+     */
+    @PostConstruct
+    public void reload() {
+        List<RoleEntry> roles = roleRepository
+                .findAll()
+                .stream()
+                .map(RoleCatalog::toEntry)
+                .sorted(Comparator.comparing(RoleEntry::id))
+                .toList();
+
+        Map<String, RoleEntry> rolesByName = new HashMap<>();
+        roles.forEach(role -> rolesByName.put(role.name(), role));
+
+        snapshot = new Snapshot(roles, Map.copyOf(rolesByName));
+    }
+
+    /**
+     * Vuelve a cargar el catálogo cuando cambian los roles o sus autoridades.
+     *
+     * @param event el evento de cambio de roles
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * Obtiene todos los roles registrados ordenados por ID. La lista es la
+     * misma instancia mientras el catálogo no se vuelva a cargar.
+     *
+     * @return lista inmutable de roles
+     */
+    public List<RoleEntry> roles() {
+        return snapshot.roles();
+    }
+
+    /**
+     * Busca un rol por su nombre.
+     *
+     * @param name el nombre del rol
+     * @return el rol, o vacío si no existe
+     */
+    public Optional<RoleEntry> findByName(String name) {
+        return Optional.ofNullable(snapshot.rolesByName().get(name));
+    }
+
+    /**
+     * Obtiene una entidad {@link Role} con el nombre indicado, construida a
+     * partir del catálogo sin consultar la base de datos.
+     * Cada llamada devuelve una instancia nueva y separada del contexto de
+     * persistencia, apta para asignarse a un usuario.
+     *
+     * @param name el nombre del rol
+     * @return el rol, o vacío si no existe
+     */
+    public Optional<Role> getRole(String name) {
+        return findByName(name).map(RoleCatalog::toRole);
+    }
+
+    private static RoleEntry toEntry(Role role) {
+        List<AuthorityEntry> authorities = role
+                .getAuthorities()
+                .stream()
+                .map(authority -> new AuthorityEntry(authority.getId(), authority.getName()))
+                .sorted(Comparator.comparing(AuthorityEntry::name))
+                .toList();
+
+        Set<String> expanded = new LinkedHashSet<>();
+        expanded.add(role.getName());
+        authorities.forEach(authority -> expanded.add(authority.name()));
+
+        return new RoleEntry(
+                role.getId(),
+                role.getName(),
+                authorities,
+                Collections.unmodifiableSet(expanded));
+    }
+
+    private static Role toRole(RoleEntry entry) {
+        Set<Authority> authorities = new HashSet<>();
+        entry.authorities().forEach(authority -> authorities.add(
+                new Authority(authority.id(), authority.name())));
+
+        return new Role(entry.id(), entry.name(), authorities);
+    }
+
+    private record Snapshot(List<RoleEntry> roles, Map<String, RoleEntry> rolesByName) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.sportsclubmanager.backend.user.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la caché de detalles de usuario utilizada
+ * durante la autenticación.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.user-details-cache")
+public class UserDetailsCacheProperties {
+
+    /**
+     * Número máximo de usuarios que se mantienen en la caché.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Tiempo máximo que un usuario permanece en la caché desde que se cargó.
+     */
+    private Duration timeToLive = Duration.ofMinutes(30);
+}
@@ -1,9 +1,17 @@
 package com.sportsclubmanager.backend.user.service;
 
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.exception.PreconditionFailedException;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -25,11 +33,115 @@ public interface UserService<T> {
 
     Page<T> findAll(Pageable pageable);
 
-    Optional<T> update(Long id, UserUpdateRequest userUpdateRequest);
+    /**
+     * Obtiene todos los usuarios como respuestas construidas a partir de
+     * proyecciones, sin cargar entidades en el contexto de persistencia.
+     *
+     * @return las respuestas de todos los usuarios
+     */
+    List<UserResponse> findAllResponses();
 
-    void deleteById(Long id);
+    /**
+     * Obtiene una página de usuarios como respuestas construidas a partir de
+     * proyecciones, sin cargar entidades en el contexto de persistencia.
+     *
+     * @param pageable la información de paginación
+     * @return la página de respuestas de usuarios
+     */
+    Page<UserResponse> findAllResponses(Pageable pageable);
 
+    /**
+     * Obtiene una página de usuarios por cursor, ordenada por ID y sin contar
+     * el total de usuarios.
+     *
+     * @param request la solicitud de la página
+     * @return la página de respuestas de usuarios
+     */
+    CursorPage<UserResponse> findAllResponses(CursorPageRequest request);
+
+    /**
+     * Recorre todos los usuarios ordenados por ID sin cargarlos en memoria. El
+     * flujo debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return el flujo de proyecciones de usuarios
+     */
+    Stream<UserSummary> streamAllSummaries();
+
+    /**
+     * Reemplaza los datos de perfil de un usuario con una sola sentencia, sin
+     * cargar la entidad ni volver a resolver sus roles.
+     *
+     * @param id                el ID del usuario
+     * @param userUpdateRequest los nuevos datos de perfil
+     * @param ifMatch           la precondición {@code If-Match}, que se comprueba
+     *                          en la misma transacción que la escritura
+     * @return el usuario actualizado, o vacío si no existe
+     * @throws PreconditionFailedException si el usuario cambió
+     */
+    Optional<T> update(Long id, UserUpdateRequest userUpdateRequest, IfMatch ifMatch);
+
+    /**
+     * Aplica un JSON merge patch a los datos de perfil de un usuario con una
+     * sola sentencia, sin cargar la entidad.
+     *
+     * @param id               el ID del usuario
+     * @param userPatchRequest los campos a modificar
+     * @param ifMatch          la precondición {@code If-Match}, que se comprueba
+     *                         en la misma transacción que la escritura
+     * @return true si el usuario existe y se actualizó
+     * @throws PreconditionFailedException si el usuario cambió
+     */
+    boolean patch(Long id, UserPatchRequest userPatchRequest, IfMatch ifMatch);
+
+    /**
+     * Elimina un usuario.
+     *
+     * @param id      el ID del usuario
+     * @param ifMatch la precondición {@code If-Match}, que se comprueba en la
+     *                misma transacción que la eliminación
+     * @throws PreconditionFailedException si el usuario cambió
+     */
+    void deleteById(Long id, IfMatch ifMatch);
+
+    /**
+     * Cambia el estado de afiliación de un usuario con una sola sentencia, sin
+     * cargar la entidad.
+     *
+     * @param id                el ID del usuario
+     * @param affiliationStatus el nuevo estado de afiliación
+     * @param ifMatch           la precondición {@code If-Match}, que se comprueba
+     *                          en la misma transacción que la escritura
+     * @return true si el usuario existe y se actualizó
+     * @throws PreconditionFailedException si el usuario cambió
+     */
     boolean updateAffiliationStatus(
             Long id,
-            AffiliationStatus affiliationStatus);
+            AffiliationStatus affiliationStatus,
+            IfMatch ifMatch);
+
+    /**
+     * Calcula el ETag de la respuesta de un usuario a partir de las versiones de
+     * las filas con las que se construye, sin cargar la entidad.
+     *
+     * @param id el ID del usuario
+     * @return el ETag, o vacío si el usuario no existe
+     */
+    Optional<String> findEntityTag(Long id);
+
+    /**
+     * Calcula el ETag de una página de usuarios sin cargar sus entidades.
+     *
+     * @param pageable la información de paginación
+     * @return el ETag de la página
+     */
+    String findPageEntityTag(Pageable pageable);
+
+    /**
+     * Calcula el ETag de una página de usuarios por cursor sin cargar sus
+     * entidades.
+     *
+     * @param request la solicitud de la página
+     * @return el ETag de la página
+     */
+    String findPageEntityTag(CursorPageRequest request);
 }
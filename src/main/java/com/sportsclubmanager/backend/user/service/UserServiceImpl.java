@@ -1,13 +1,24 @@
 package com.sportsclubmanager.backend.user.service;
 
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
 import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserResponse;
+import com.sportsclubmanager.backend.user.dto.UserSummary;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
+import com.sportsclubmanager.backend.user.event.UserAccessRevokedEvent;
+import com.sportsclubmanager.backend.user.event.UserAccountChangedEvent;
+import com.sportsclubmanager.backend.user.mapper.UserMapper;
 import com.sportsclubmanager.backend.user.model.AffiliationStatus;
 import com.sportsclubmanager.backend.user.model.User;
-import com.sportsclubmanager.backend.user.repository.RoleRepository;
 import com.sportsclubmanager.backend.user.repository.UserRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,23 +29,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService<User> {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
+    private final UserMapper userMapper;
 
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserServiceImpl(
             UserRepository userRepository,
-            RoleRepository roleRepository,
-            PasswordEncoder passwordEncoder) {
+            RoleCatalog roleCatalog,
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher,
+            UserMapper userMapper) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleCatalog = roleCatalog;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userMapper = userMapper;
     }
 
     @Override
     @Transactional
     public User save(User user) {
-        user.setRoles(RoleAuthorityUtils.getRoles(user, roleRepository));
+        user.setRoles(RoleAuthorityUtils.getRoles(user, roleCatalog));
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         return userRepository.save(user);
     }
@@ -64,44 +81,151 @@ public class UserServiceImpl implements UserService<User> {
     }
 
     @Override
-    @Transactional
-    public Optional<User> update(Long id, UserUpdateRequest userUpdateRequest) {
-        Optional<User> userOptional = userRepository.findById(id);
+    @Transactional(readOnly = true)
+    public List<UserResponse> findAllResponses() {
+        return this.userRepository
+                .findAllSummaries()
+                .stream()
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog))
+                .toList();
+    }
 
-        if (userOptional.isPresent()) {
-            User userUpdated = userOptional.orElseThrow();
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> findAllResponses(Pageable pageable) {
+        return this.userRepository
+                .findAllSummaries(pageable)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
 
-            userUpdated.setName(userUpdateRequest.getName());
-            userUpdated.setLastName(userUpdateRequest.getLastName());
-            userUpdated.setPhoneNumber(userUpdateRequest.getPhoneNumber());
-            userUpdated.setEmail(userUpdateRequest.getEmail());
-            userUpdated.setUsername(userUpdateRequest.getUsername());
-            userUpdated.setRoles(
-                    RoleAuthorityUtils.getRoles(userUpdated, roleRepository));
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findAllResponses(CursorPageRequest request) {
+        return CursorPage.of(
+                this.userRepository.findSummariesAfter(
+                        request.afterId(),
+                        request.fetchLimit()),
+                request,
+                UserSummary::id)
+                .map(summary -> userMapper.toUserResponse(summary, roleCatalog));
+    }
 
-            return Optional.of(userRepository.save(userUpdated));
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<UserSummary> streamAllSummaries() {
+        return this.userRepository.streamAllSummaries();
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> update(
+            Long id,
+            UserUpdateRequest userUpdateRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> userRepository.findVersionStamps(List.of(id)),
+                UserRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = userRepository.updateProfile(
+                id,
+                expectedVersion,
+                userUpdateRequest.getName(),
+                userUpdateRequest.getLastName(),
+                userUpdateRequest.getPhoneNumber(),
+                userUpdateRequest.getEmail(),
+                userUpdateRequest.getUsername());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> userRepository.existsById(id))) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+
+        return userRepository.findById(id);
     }
 
     @Override
     @Transactional
-    public void deleteById(Long id) {
+    public boolean patch(
+            Long id,
+            UserPatchRequest userPatchRequest,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> userRepository.findVersionStamps(List.of(id)),
+                UserRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = userRepository.updateProfile(
+                id,
+                expectedVersion,
+                userPatchRequest.name(),
+                userPatchRequest.lastName(),
+                userPatchRequest.phoneNumber(),
+                userPatchRequest.email(),
+                userPatchRequest.username());
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> userRepository.existsById(id))) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id, IfMatch ifMatch) {
+        ifMatch.check(() -> userRepository.findById(id).flatMap(user -> findEntityTag(id)));
+        eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
     }
 
     @Override
+    @Transactional
     public boolean updateAffiliationStatus(
             Long id,
-            AffiliationStatus affiliationStatus) {
-        Optional<User> userOptional = userRepository.findById(id);
-
-        if (userOptional.isPresent()) {
-            User user = userOptional.orElseThrow();
-            user.setAffiliationStatus(affiliationStatus);
-            userRepository.save(user);
-            return true;
+            AffiliationStatus affiliationStatus,
+            IfMatch ifMatch) {
+        Long expectedVersion = ifMatch.checkVersion(
+                () -> userRepository.findVersionStamps(List.of(id)),
+                UserRepository.USER_STAMP_KIND,
+                id);
+
+        int updated = userRepository.updateAffiliationStatus(
+                id,
+                affiliationStatus.name(),
+                expectedVersion);
+
+        if (!IfMatch.updated(updated, expectedVersion, () -> userRepository.existsById(id))) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(id));
+        if (affiliationStatus == AffiliationStatus.SUSPENDED) {
+            eventPublisher.publishEvent(new UserAccessRevokedEvent(id));
         }
-        return false;
+        return true;
+    }
+
+    @Override
+    public Optional<String> findEntityTag(Long id) {
+        return EntityTags.of(userRepository.findVersionStamps(List.of(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(Pageable pageable) {
+        Page<Long> ids = userRepository.findIds(pageable);
+        return EntityTags.ofPage(
+                ids.getContent(),
+                userRepository::findVersionStamps,
+                ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findPageEntityTag(CursorPageRequest request) {
+        return EntityTags.ofPage(
+                userRepository.findIdsAfter(request.afterId(), request.fetchLimit()),
+                userRepository::findVersionStamps);
     }
 }
@@ -383,6 +383,11 @@ values (1,
         true,
         'ACTIVE');
 
+-- Siguiente ID disponible para los usuarios creados por la aplicación
+insert into id_generators (name, next_val)
+select 'users', coalesce(max(id), 0) + 1
+from users;
+
 insert into clubs(club_administrator_id,
                   coach_id,
                   player_id,
@@ -570,18 +575,19 @@ values (1, 1),
 
        (5, 8);
 
-insert into events(id, name, description, location, start_date, end_date, event_visibility, maximum_participants)
+insert into events(id, name, description, location, start_date, end_date, event_visibility, maximum_participants,
+                   duration_minutes)
 values (1, 'Torneo Montería 2024', 'Gran torneo abierto de ajedrez en Montería', 'Montería',
-        '2025-05-15 09:00:00', '2025-05-15 13:00:00', 'PUBLIC', 50),
+        '2025-05-15 09:00:00', '2025-05-15 13:00:00', 'PUBLIC', 50, 240),
 
        (2, 'Copa Ciudad Montería', 'Competencia interclubes de ajedrez', 'Montería',
-        '2025-05-20 10:00:00', '2025-05-20 15:00:00', 'PUBLIC', 64),
+        '2025-05-20 10:00:00', '2025-05-20 15:00:00', 'PUBLIC', 64, 300),
 
        (3, 'Entrenamiento Avanzado', 'Entrenamiento especial para jugadores avanzados', 'Montería',
-        '2025-05-20 15:00:00', '2025-05-20 17:00:00', 'PRIVATE', 6),
+        '2025-05-20 15:00:00', '2025-05-20 17:00:00', 'PRIVATE', 6, 120),
 
        (4, 'Clínica de Tácticas', 'Sesión de táctica y cálculo para principiantes', 'Montería',
-        '2025-05-01 16:00:00', '2025-05-01 18:00:00', 'PRIVATE', 7);
+        '2025-05-01 16:00:00', '2025-05-01 18:00:00', 'PRIVATE', 7, 120);
 
 insert into tournaments(id)
 values (1),
@@ -599,5 +605,8 @@ values (12, 1),
        (15, 4),
        (16, 4);
 
+update events e
+set participant_count = (select count(*) from players_events pe where pe.event_id = e.id);
+
 # Habilita las comprobaciones de claves foráneas de nuevo para evitar errores al crear tablas
 set foreign_key_checks = 1;
\ No newline at end of file
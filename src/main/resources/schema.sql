@@ -2,6 +2,8 @@
 set foreign_key_checks = 0;
 
 # borrar todas las tablas (SOLO PARA PRUEBAS)
+drop table if exists archived_players_events;
+drop table if exists archived_events;
 drop table if exists players_events;
 drop table if exists tournaments;
 drop table if exists trainings;
@@ -15,10 +17,20 @@ drop table if exists roles;
 drop table if exists authorities;
 drop table if exists events;
 drop table if exists users;
+drop table if exists id_generators;
+drop table if exists refresh_tokens;
+drop table if exists revoked_tokens;
+
+create table if not exists id_generators
+(
+    name     varchar(50) not null,
+    next_val bigint      not null,
+    primary key (name)
+);
 
 create table if not exists users
 (
-    id                      bigint auto_increment,
+    id                      bigint                                   not null,
     national_id             bigint(10)                               not null,
     name                    varchar(20)                              not null,
     last_name               varchar(20)                              not null,
@@ -31,6 +43,7 @@ create table if not exists users
     account_non_locked      boolean                                  not null default true,
     credentials_non_expired boolean                                  not null default true,
     affiliation_status      enum ('ACTIVE', 'INACTIVE', 'SUSPENDED') not null default 'ACTIVE',
+    version                 bigint                                   not null default 0,
     primary key (id),
     unique key uk_users_national_id (national_id),
     unique key uk_users_phone_number (phone_number),
@@ -82,6 +95,7 @@ create table if not exists clubs
     phone_number          bigint       not null,
     enabled               boolean      not null default true,
     creation_date         datetime     not null default now(),
+    version               bigint       not null default 0,
     primary key (id),
     constraint fk_clubs_club_administrators_id
         foreign key (club_administrator_id) references club_administrators (id),
@@ -137,8 +151,13 @@ create table if not exists events
     end_date             datetime                   not null,
     event_visibility     enum ('PUBLIC', 'PRIVATE') not null,
     maximum_participants int                        not null,
+    participant_count    int                        not null default 0,
+    duration_minutes     bigint                     not null,
+    version              bigint                     not null default 0,
     primary key (id),
-    unique key events_name (name)
+    unique key events_name (name),
+    index idx_events_start_date_end_date (start_date, end_date),
+    index idx_events_duration_minutes (duration_minutes)
 );
 
 create table if not exists tournaments
@@ -166,5 +185,81 @@ create table if not exists players_events
     constraint players_events_event_id foreign key (event_id) references events (id)
 );
 
+# Eventos finalizados y sus inscripciones, trasladados por el archivado.
+# Las inscripciones no referencian a players para conservar el historial.
+create table if not exists archived_events
+(
+    id                   bigint                          not null,
+    type                 enum ('TOURNAMENT', 'TRAINING') not null,
+    name                 varchar(50)                     not null,
+    description          varchar(255)                    not null,
+    location             varchar(50)                     not null,
+    start_date           datetime                        not null,
+    end_date             datetime                        not null,
+    event_visibility     enum ('PUBLIC', 'PRIVATE')      not null,
+    maximum_participants int                             not null,
+    participant_count    int                             not null,
+    archived_at          datetime(6)                     not null,
+    primary key (id),
+    index idx_archived_events_start_date (start_date)
+);
+
+create table if not exists archived_players_events
+(
+    event_id  bigint not null,
+    player_id bigint not null,
+    primary key (event_id, player_id),
+    constraint archived_players_events_event_id foreign key (event_id) references archived_events (id)
+);
+
+# Claves de firma de los tokens JWT compartidas por todos los nodos.
+# No se borra al reiniciar para que los tokens emitidos sigan siendo válidos.
+# El secreto se guarda sin cifrar: quien pueda leer esta tabla puede firmar tokens,
+# por lo que su acceso y sus copias de seguridad deben limitarse como las credenciales.
+create table if not exists jwt_signing_keys
+(
+    kid        varchar(36) not null,
+    secret     varbinary(64) not null,
+    created_at datetime(6)   not null,
+    expires_at datetime(6)   not null,
+    primary key (kid),
+    index idx_jwt_signing_keys_expires_at (expires_at)
+);
+
+create table if not exists refresh_tokens
+(
+    id         bigint auto_increment not null,
+    token_hash char(64)              not null,
+    username   varchar(255)          not null,
+    family_id  varchar(36)           not null,
+    created_at datetime(6)           not null,
+    expires_at datetime(6)           not null,
+    used_at    datetime(6),
+    primary key (id),
+    unique index ux_refresh_tokens_token_hash (token_hash),
+    index idx_refresh_tokens_family_id (family_id),
+    index idx_refresh_tokens_expires_at (expires_at)
+);
+
+# Revocaciones de tokens de acceso. La clave es 'jti:<id>' para un único token
+# o 'sub:<username>' para todos los tokens del usuario emitidos hasta revoked_at.
+create table if not exists revoked_tokens
+(
+    token_key  varchar(255) not null,
+    revoked_at datetime(6)  not null,
+    expires_at datetime(6)  not null,
+    primary key (token_key),
+    index idx_revoked_tokens_revoked_at (revoked_at),
+    index idx_revoked_tokens_expires_at (expires_at)
+);
+
+# Latido que el primario escribe periódicamente para medir el retraso de las réplicas
+create table if not exists replication_heartbeat
+(
+    id          int    not null,
+    beat_millis bigint not null,
+    primary key (id)
+);
+
 # Habilita las comprobaciones de claves foráneas de nuevo para evitar errores al crear tablas
-set foreign_key_checks = 1;
\ No newline at end of file
+set foreign_key_checks = 1;
@@ -45,7 +45,8 @@ public class UserDataProvider {
                 true,
                 false,
                 getUserRoles(),
-                AffiliationStatus.ACTIVE);
+                AffiliationStatus.ACTIVE,
+                null);
     }
 
     public static User getNewInvalidUser() {
@@ -64,7 +65,8 @@ public class UserDataProvider {
                 true,
                 false,
                 getUserRoles(),
-                AffiliationStatus.ACTIVE);
+                AffiliationStatus.ACTIVE,
+                null);
     }
 
     public static User getUser() {
@@ -83,7 +85,8 @@ public class UserDataProvider {
                 true,
                 false,
                 getUserRoles(),
-                AffiliationStatus.ACTIVE);
+                AffiliationStatus.ACTIVE,
+                null);
     }
 
     public static User getUserWithId(Long id) {
@@ -102,7 +105,8 @@ public class UserDataProvider {
                 true,
                 false,
                 getUserRoles(),
-                AffiliationStatus.ACTIVE);
+                AffiliationStatus.ACTIVE,
+                null);
     }
 
     public static List<User> getUsers() {
@@ -122,7 +126,8 @@ public class UserDataProvider {
                         true,
                         false,
                         getUserRoles(),
-                        AffiliationStatus.ACTIVE),
+                        AffiliationStatus.ACTIVE,
+                        null),
                 new User(
                         2L,
                         2345678901L,
@@ -138,7 +143,8 @@ public class UserDataProvider {
                         true,
                         false,
                         getUserRoles(),
-                        AffiliationStatus.ACTIVE),
+                        AffiliationStatus.ACTIVE,
+                        null),
                 new User(
                         3L,
                         3456789012L,
@@ -154,7 +160,8 @@ public class UserDataProvider {
                         true,
                         false,
                         getUserRoles(),
-                        AffiliationStatus.INACTIVE),
+                        AffiliationStatus.INACTIVE,
+                        null),
                 new User(
                         4L,
                         4567890123L,
@@ -170,7 +177,8 @@ public class UserDataProvider {
                         true,
                         false,
                         getUserRoles(),
-                        AffiliationStatus.ACTIVE),
+                        AffiliationStatus.ACTIVE,
+                        null),
                 new User(
                         5L,
                         5678901234L,
@@ -186,6 +194,7 @@ public class UserDataProvider {
                         true,
                         false,
                         getUserRoles(),
-                        AffiliationStatus.SUSPENDED));
+                        AffiliationStatus.SUSPENDED,
+                        null));
     }
 }
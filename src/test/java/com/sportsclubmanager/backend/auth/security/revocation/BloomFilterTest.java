@@ -0,0 +1,53 @@
+package com.sportsclubmanager.backend.auth.security.revocation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que el filtro de Bloom no da falsos negativos y que, con el tamaño
+ * configurado, la tasa de falsos positivos se mantiene cerca de la
+ * probabilidad pedida.
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void insertedValuesAreAlwaysReported() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("jti:" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("jti:" + i), "jti:" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateIsBoundedAtTheConfiguredSize() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("jti:revocado-" + i);
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("jti:valido-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < probes * 0.02, "falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertFalse(filter.mightContain("jti:1"));
+        assertFalse(filter.mightContain(""));
+    }
+}
@@ -0,0 +1,130 @@
+package com.sportsclubmanager.backend.auth.security.revocation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.auth.repository.RevokedTokenRepository;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.JwtTokenProperties;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Comprueba el registro de revocaciones con un filtro de Bloom diminuto, de
+ * modo que los falsos positivos son frecuentes: los tokens revocados siempre
+ * se rechazan y un falso positivo del filtro se confirma contra la base de
+ * datos sin rechazar el token válido.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ TokenRevocationStore.class, TokenRevocationStoreTest.Config.class })
+class TokenRevocationStoreTest {
+
+    private static final int EXPECTED_INSERTIONS = 1;
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.5;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        TokenRevocationProperties tokenRevocationProperties() {
+            TokenRevocationProperties properties = new TokenRevocationProperties();
+            properties.setExpectedInsertions(EXPECTED_INSERTIONS);
+            properties.setFalsePositiveProbability(FALSE_POSITIVE_PROBABILITY);
+            return properties;
+        }
+
+        @Bean
+        JwtTokenProperties jwtTokenProperties() {
+            return new JwtTokenProperties();
+        }
+    }
+
+    @Autowired
+    private TokenRevocationStore revocationStore;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAll();
+        revocationStore.rebuild();
+    }
+
+    @Test
+    void revokedTokensAreAlwaysRejected() {
+        List<JwtTokenDetails> revoked = IntStream.range(0, 50)
+                .mapToObj(i -> token("revocado-" + i, Instant.now()))
+                .toList();
+        revoked.forEach(revocationStore::revokeToken);
+
+        revoked.forEach(details -> assertTrue(revocationStore.isRevoked("usuario", details), details.tokenId()));
+
+        revocationStore.rebuild();
+
+        revoked.forEach(details -> assertTrue(revocationStore.isRevoked("usuario", details), details.tokenId()));
+    }
+
+    @Test
+    void falsePositivesAreConfirmedAgainstTheDatabase() {
+        // Mismo tamaño que el filtro del registro, que se construyó con la tabla vacía
+        BloomFilter shadow = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        for (int i = 0; i < 20; i++) {
+            revocationStore.revokeToken(token("revocado-" + i, Instant.now()));
+            shadow.put("jti:revocado-" + i);
+        }
+
+        List<String> falsePositives = new ArrayList<>();
+        for (int i = 0; falsePositives.size() < 5; i++) {
+            if (shadow.mightContain("jti:valido-" + i)) {
+                falsePositives.add("valido-" + i);
+            }
+        }
+
+        for (String tokenId : falsePositives) {
+            assertFalse(revocationStore.isRevoked("usuario", token(tokenId, Instant.now())), tokenId);
+        }
+    }
+
+    @Test
+    void revokingAUserOnlyRejectsTokensIssuedBefore() {
+        JwtTokenDetails before = token("anterior", Instant.now().minusSeconds(60));
+
+        revocationStore.revokeUser("usuario");
+
+        assertTrue(revocationStore.isRevoked("usuario", before));
+        assertTrue(revocationStore.isRevoked("usuario", token(null, null)));
+        assertFalse(revocationStore.isRevoked("usuario", token("posterior", Instant.now().plusSeconds(60))));
+        assertFalse(revocationStore.isRevoked("otro", before));
+    }
+
+    @Test
+    void purgeRemovesExpiredRevocations() {
+        JwtTokenDetails expired = new JwtTokenDetails(
+                "expirado", Instant.now().minusSeconds(120), Instant.now().minusSeconds(60), 0);
+        revocationStore.revokeToken(expired);
+
+        revocationStore.purge();
+
+        assertEquals(0, revokedTokenRepository.count());
+        assertFalse(revocationStore.isRevoked("usuario", expired));
+    }
+
+    private static JwtTokenDetails token(String tokenId, Instant issuedAt) {
+        return new JwtTokenDetails(tokenId, issuedAt, Instant.now().plusSeconds(3600), 0);
+    }
+}
@@ -0,0 +1,195 @@
+package com.sportsclubmanager.backend.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.member.exception.MaximumParticipantsException;
+import com.sportsclubmanager.backend.member.mapper.PlayerMapperImpl;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.EventRegistrationQueue;
+import com.sportsclubmanager.backend.member.service.EventRegistrationQueueProperties;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.user.mapper.UserMapperImpl;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Simula la apertura de un torneo popular: todos los jugadores intentan
+ * inscribirse a la vez desde el mismo número de hilos cliente. Registra las
+ * inscripciones por segundo cuando cada solicitud ocupa su plaza en su propia
+ * transacción y cuando las solicitudes se agrupan en la cola de inscripciones.
+ * El comportamiento de la cola se comprueba en
+ * {@code EventRegistrationQueueTest}; aquí solo se informa de los tiempos.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PlayerService.class, PlayerMapperImpl.class, UserMapperImpl.class, RoleCatalog.class })
+class EventRegistrationBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            EventRegistrationBenchmark.class);
+
+    private static final int PLAYERS = 2_000;
+    private static final int MAXIMUM_PARTICIPANTS = 1_500;
+    private static final int CLIENT_THREADS = 32;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private final List<Long> playerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = new Player();
+            player.setNationalId(4000000L + i);
+            player.setName("Jugador");
+            player.setLastName("Apellido");
+            player.setPhoneNumber(3400000000L + i);
+            player.setEmail("jugador" + i + "@example.com");
+            player.setUsername("jugador" + i);
+            player.setPassword("Password123#");
+            players.add(player);
+        }
+        playerRepository.saveAll(players).forEach(player -> playerIds.add(player.getId()));
+    }
+
+    @Test
+    void compareQueuedRegistrationsWithIndividualTransactions() throws Exception {
+        Long directTournamentId = tournament("Torneo directo");
+        Long queuedTournamentId = tournament("Torneo en cola");
+
+        long start = System.nanoTime();
+        int directRegistered = registerDirectly(directTournamentId);
+        double directSeconds = (System.nanoTime() - start) / 1e9;
+
+        EventRegistrationQueueProperties properties = new EventRegistrationQueueProperties();
+        properties.setEnabled(true);
+        EventRegistrationQueue queue = new EventRegistrationQueue(playerService, properties);
+        int queuedRegistered;
+        double queuedSeconds;
+        try {
+            start = System.nanoTime();
+            queuedRegistered = registerThroughQueue(queue, queuedTournamentId);
+            queuedSeconds = (System.nanoTime() - start) / 1e9;
+        } finally {
+            queue.destroy();
+        }
+
+        logger.info(
+                "Transacción por solicitud: {} solicitudes/s",
+                Math.round(PLAYERS / directSeconds));
+        logger.info(
+                "Cola de inscripciones:     {} solicitudes/s",
+                Math.round(PLAYERS / queuedSeconds));
+
+        assertEquals(MAXIMUM_PARTICIPANTS, directRegistered);
+        assertEquals(MAXIMUM_PARTICIPANTS, queuedRegistered);
+        assertEquals(MAXIMUM_PARTICIPANTS, participantCount(directTournamentId));
+        assertEquals(MAXIMUM_PARTICIPANTS, participantCount(queuedTournamentId));
+    }
+
+    private int registerDirectly(Long tournamentId) throws Exception {
+        return registerConcurrently(playerId -> {
+            try {
+                return playerService.registerInTournamentEvent(playerId, tournamentId);
+            } catch (MaximumParticipantsException e) {
+                return false;
+            }
+        });
+    }
+
+    private int registerThroughQueue(EventRegistrationQueue queue, Long tournamentId)
+            throws Exception {
+        return registerConcurrently(playerId -> {
+            try {
+                return queue.registerInTournamentEvent(playerId, tournamentId).join();
+            } catch (CompletionException e) {
+                assertInstanceOf(MaximumParticipantsException.class, e.getCause());
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Envía una solicitud por jugador desde {@link #CLIENT_THREADS} hilos que
+     * esperan su respuesta, como harían los clientes HTTP.
+     */
+    private int registerConcurrently(Predicate<Long> register) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (Long playerId : playerIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return register.test(playerId);
+                }));
+            }
+            start.countDown();
+
+            int registered = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(60, TimeUnit.SECONDS)) {
+                    registered++;
+                }
+            }
+            return registered;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long tournament(String name) {
+        Tournament tournament = new Tournament();
+        tournament.setName(name);
+        tournament.setDescription("Torneo de prueba");
+        tournament.setLocation("Montería");
+        tournament.setStartDate(LocalDateTime.now().plusDays(1));
+        tournament.setEndDate(LocalDateTime.now().plusDays(2));
+        tournament.setEventVisibility(EventVisibility.PUBLIC);
+        tournament.setMaximumParticipants(MAXIMUM_PARTICIPANTS);
+        return tournamentRepository.save(tournament).getId();
+    }
+
+    private int participantCount(Long tournamentId) {
+        return tournamentRepository.findById(tournamentId).orElseThrow().getParticipantCount();
+    }
+}
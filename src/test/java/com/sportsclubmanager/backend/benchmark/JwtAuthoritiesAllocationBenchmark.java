@@ -0,0 +1,164 @@
+package com.sportsclubmanager.backend.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.auth.security.GrantedAuthorityRegistry;
+import com.sportsclubmanager.backend.auth.security.JwtAuthoritiesCodec;
+import com.sportsclubmanager.backend.auth.security.JwtConfig;
+import com.sportsclubmanager.backend.user.model.Authority;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Mide los bytes asignados por cada token validado (verificación de la firma y
+ * decodificación de las autoridades) con el formato anterior, que guarda las
+ * autoridades como JSON, y con el formato compacto de máscara de roles. La
+ * decodificación de ambos formatos se comprueba en {@code JwtAuthoritiesCodecTest}.
+ */
+@Tag("benchmark")
+class JwtAuthoritiesAllocationBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            JwtAuthoritiesAllocationBenchmark.class);
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+    private static final SecretKey SIGNING_KEY = Jwts.SIG.HS256.key().build();
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    private JwtAuthoritiesCodec codec;
+    private JwtParser parser;
+    private Collection<GrantedAuthority> authorities;
+
+    @BeforeEach
+    void setUp() {
+        Role admin = new Role(1L, "ROLE_ADMIN", authorities(
+                "AUTHORITY_VIEW_ALL",
+                "AUTHORITY_MANAGE_MEMBERS",
+                "AUTHORITY_MANAGE_CLUB",
+                "AUTHORITY_VIEW_MEMBERS",
+                "AUTHORITY_MANAGE_TRAINING",
+                "AUTHORITY_VIEW_PROFILE",
+                "AUTHORITY_VIEW_TOURNAMENTS",
+                "AUTHORITY_WRITE"));
+        Role user = new Role(5L, "ROLE_USER", authorities(
+                "AUTHORITY_READ",
+                "AUTHORITY_VIEW_PROFILE"));
+
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of(admin, user));
+
+        RoleCatalog roleCatalog = new RoleCatalog(roleRepository);
+        roleCatalog.reload();
+
+        GrantedAuthorityRegistry registry = new GrantedAuthorityRegistry(roleCatalog);
+
+        codec = new JwtAuthoritiesCodec(registry);
+        parser = Jwts.parser().verifyWith(SIGNING_KEY).build();
+        authorities = Stream.of(admin, user)
+                .flatMap(role -> Stream.concat(
+                        Stream.of(role.getName()),
+                        role.getAuthorities().stream().map(Authority::getName)))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void compareLegacyJsonAndCompactAuthorities() throws Exception {
+        String legacyToken = legacyToken();
+        String compactToken = compactToken();
+
+        long legacyBytes = bytesPerValidation(legacyToken);
+        long compactBytes = bytesPerValidation(compactToken);
+
+        logger.info(
+                "Formato JSON:     {} bytes de token, {} bytes asignados por validación",
+                legacyToken.length(),
+                legacyBytes);
+        logger.info(
+                "Máscara de roles: {} bytes de token, {} bytes asignados por validación",
+                compactToken.length(),
+                compactBytes);
+    }
+
+    private long bytesPerValidation(String token) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            codec.read(parse(token));
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        int sink = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += codec.read(parse(token)).size();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        assertTrue(sink > 0);
+        return (after - before) / MEASURED_ITERATIONS;
+    }
+
+    private Claims parse(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private String legacyToken() throws Exception {
+        Claims claims = Jwts.claims()
+                .add(
+                        JwtConfig.AUTHORITIES_CLAIM,
+                        new ObjectMapper().writeValueAsString(authorities))
+                .add("username", "admin")
+                .build();
+        return sign(claims);
+    }
+
+    private String compactToken() throws Exception {
+        ClaimsBuilder claimsBuilder = Jwts.claims().add("username", "admin");
+        codec.write(claimsBuilder, authorities);
+        return sign(claimsBuilder.build());
+    }
+
+    private String sign(Claims claims) {
+        return Jwts.builder()
+                .subject("admin")
+                .claims(claims)
+                .expiration(new Date(System.currentTimeMillis() + 3600000))
+                .issuedAt(new Date())
+                .signWith(SIGNING_KEY)
+                .compact();
+    }
+
+    private static Set<Authority> authorities(String... names) {
+        Set<Authority> authorities = new HashSet<>();
+        long id = 1;
+        for (String name : names) {
+            authorities.add(new Authority(id++, name));
+        }
+        return authorities;
+    }
+}
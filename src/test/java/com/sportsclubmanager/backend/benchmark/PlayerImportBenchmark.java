@@ -0,0 +1,198 @@
+package com.sportsclubmanager.backend.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.auth.security.password.PasswordHashingProperties;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.PlayerImportProperties;
+import com.sportsclubmanager.backend.member.service.PlayerImportService;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.importing.ImportReader;
+import com.sportsclubmanager.backend.shared.importing.ImportReport;
+import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Registra el número de jugadores guardados por segundo y de sentencias
+ * preparadas en el alta individual (una transacción, un cifrado y una
+ * inserción por jugador) y en la importación masiva por bloques con cifrado en
+ * paralelo y lotes JDBC. El comportamiento de la importación se comprueba en
+ * {@code PlayerImportServiceTest}; aquí solo se informa de los resultados.
+ * <p>
+ * Se usa BCrypt con coste 4 para que el resultado refleje sobre todo el
+ * acceso a la base de datos.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        PlayerImportService.class,
+        ImportReader.class,
+        RoleCatalog.class,
+        PlayerImportBenchmark.Config.class
+})
+class PlayerImportBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            PlayerImportBenchmark.class);
+
+    private static final int PLAYERS = 3_000;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        PlayerImportProperties playerImportProperties() {
+            return new PlayerImportProperties();
+        }
+
+        @Bean
+        PasswordHashingProperties passwordHashingProperties() {
+            return new PasswordHashingProperties();
+        }
+    }
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RoleCatalog roleCatalog;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        if (roleRepository.count() == 0) {
+            for (String name : new String[] { "ROLE_USER", "ROLE_PLAYER" }) {
+                Role role = new Role();
+                role.setName(name);
+                roleRepository.save(role);
+            }
+        }
+        roleCatalog.reload();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void compareBulkImportWithSingleInserts() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = player(i);
+            transactionTemplate.executeWithoutResult(status -> {
+                player.setRoles(RoleAuthorityUtils.getRoles(player, roleCatalog));
+                player.setPassword(passwordEncoder.encode(player.getPassword()));
+                playerRepository.save(player);
+            });
+        }
+        double singleSeconds = (System.nanoTime() - start) / 1e9;
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        byte[] ndjson = ndjson(PLAYERS, 2 * PLAYERS);
+        statistics.clear();
+        start = System.nanoTime();
+        ImportReport report = playerImportService.importPlayers(
+                ExportFormat.NDJSON,
+                new ByteArrayInputStream(ndjson));
+        double bulkSeconds = (System.nanoTime() - start) / 1e9;
+        long bulkStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(PLAYERS, report.imported());
+        assertEquals(0, report.failed());
+
+        logger.info(
+                "Alta individual:    {} jugadores/s, {} sentencias preparadas",
+                Math.round(PLAYERS / singleSeconds),
+                singleStatements);
+        logger.info(
+                "Importación masiva: {} jugadores/s, {} sentencias preparadas",
+                Math.round(PLAYERS / bulkSeconds),
+                bulkStatements);
+    }
+
+    private static Player player(int i) {
+        Player player = new Player();
+        player.setNationalId(10_000_000L + i);
+        player.setName("Jugador");
+        player.setLastName("Apellido");
+        player.setPhoneNumber(3_000_000_000L + i);
+        player.setEmail("jugador" + i + "@example.com");
+        player.setUsername("jugador" + i);
+        player.setPassword("Password123#");
+        return player;
+    }
+
+    private static byte[] ndjson(int from, int to) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            builder.append("{\"nationalId\":").append(10_000_000L + i)
+                    .append(",\"name\":\"Jugador\",\"lastName\":\"Apellido\"")
+                    .append(",\"phoneNumber\":").append(3_000_000_000L + i)
+                    .append(",\"email\":\"jugador").append(i).append("@example.com\"")
+                    .append(",\"username\":\"jugador").append(i).append('"')
+                    .append(",\"password\":\"Password123#\"}\n");
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
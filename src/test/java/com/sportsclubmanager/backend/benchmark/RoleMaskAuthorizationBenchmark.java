@@ -0,0 +1,190 @@
+package com.sportsclubmanager.backend.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sportsclubmanager.backend.auth.security.GrantedAuthorityRegistry;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.authorization.RoleMaskAuthorizationManager;
+import com.sportsclubmanager.backend.club.controller.ClubController;
+import com.sportsclubmanager.backend.member.controller.PlayerController;
+import com.sportsclubmanager.backend.user.model.Authority;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+/**
+ * Compara el tiempo por decisión de {@code @PreAuthorize} en los endpoints de
+ * {@link PlayerController} y {@link ClubController} entre la evaluación SpEL
+ * estándar y las máscaras de roles precompiladas, y comprueba que ambas toman
+ * las mismas decisiones.
+ */
+@Tag("benchmark")
+class RoleMaskAuthorizationBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+            RoleMaskAuthorizationBenchmark.class);
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+
+    private AuthorizationManager<MethodInvocation> stockManager;
+    private AuthorizationManager<MethodInvocation> maskManager;
+
+    private List<MethodInvocation> invocations;
+    private List<Supplier<Authentication>> principals;
+
+    @BeforeEach
+    void setUp() {
+        Role admin = new Role(1L, "ROLE_ADMIN", authorities(
+                "AUTHORITY_VIEW_ALL",
+                "AUTHORITY_MANAGE_MEMBERS",
+                "AUTHORITY_MANAGE_CLUB"));
+        Role clubAdmin = new Role(2L, "ROLE_CLUB_ADMIN", authorities(
+                "AUTHORITY_MANAGE_CLUB",
+                "AUTHORITY_VIEW_MEMBERS",
+                "AUTHORITY_MANAGE_EVENTS"));
+        Role coach = new Role(3L, "ROLE_COACH", authorities(
+                "AUTHORITY_MANAGE_TRAINING",
+                "AUTHORITY_VIEW_MEMBERS"));
+        Role player = new Role(4L, "ROLE_PLAYER", authorities(
+                "AUTHORITY_VIEW_EVENTS",
+                "AUTHORITY_REGISTER_EVENTS"));
+        Role user = new Role(5L, "ROLE_USER", authorities(
+                "AUTHORITY_READ",
+                "AUTHORITY_VIEW_PROFILE"));
+
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of(admin, clubAdmin, coach, player, user));
+
+        RoleCatalog roleCatalog = new RoleCatalog(roleRepository);
+        roleCatalog.reload();
+        GrantedAuthorityRegistry registry = new GrantedAuthorityRegistry(roleCatalog);
+
+        stockManager = new PreAuthorizeAuthorizationManager();
+        maskManager = new RoleMaskAuthorizationManager(
+                () -> roleCatalog,
+                () -> registry,
+                stockManager);
+
+        invocations = new ArrayList<>();
+        addInvocations(mock(PlayerController.class), PlayerController.class);
+        addInvocations(mock(ClubController.class), ClubController.class);
+
+        principals = Stream.of(
+                List.of(clubAdmin, user),
+                List.of(player, user),
+                List.of(admin, user))
+                .map(roles -> principal(roles, registry))
+                .toList();
+    }
+
+    @Test
+    void compareSpelAndRoleMasks() {
+        for (MethodInvocation invocation : invocations) {
+            for (Supplier<Authentication> principal : principals) {
+                assertEquals(
+                        stockManager.authorize(principal, invocation).isGranted(),
+                        maskManager.authorize(principal, invocation).isGranted(),
+                        () -> "Decisión distinta en " + invocation.getMethod());
+            }
+        }
+
+        double stockNanos = nanosPerDecision(stockManager);
+        double maskNanos = nanosPerDecision(maskManager);
+
+        logger.info(
+                "{} métodos protegidos en PlayerController y ClubController",
+                invocations.size());
+        logger.info("SpEL estándar:     {} ns por decisión", Math.round(stockNanos));
+        logger.info("Máscara de roles:  {} ns por decisión", Math.round(maskNanos));
+    }
+
+    private double nanosPerDecision(AuthorizationManager<MethodInvocation> manager) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            decideAll(manager);
+        }
+
+        long start = System.nanoTime();
+        int granted = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            granted += decideAll(manager);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(granted > 0);
+        return (double) elapsed / MEASURED_ROUNDS / (invocations.size() * principals.size());
+    }
+
+    private int decideAll(AuthorizationManager<MethodInvocation> manager) {
+        int granted = 0;
+        for (MethodInvocation invocation : invocations) {
+            for (Supplier<Authentication> principal : principals) {
+                AuthorizationResult result = manager.authorize(principal, invocation);
+                if (result != null && result.isGranted()) {
+                    granted++;
+                }
+            }
+        }
+        return granted;
+    }
+
+    private void addInvocations(Object target, Class<?> controller) {
+        Stream.of(controller.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(PreAuthorize.class))
+                .forEach(method -> invocations.add(new SimpleMethodInvocation(target, method)));
+    }
+
+    private static Supplier<Authentication> principal(
+            List<Role> roles,
+            GrantedAuthorityRegistry registry) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Role role : roles) {
+            authorities.add(new SimpleGrantedAuthority(role.getName()));
+            role.getAuthorities().forEach(
+                    authority -> authorities.add(new SimpleGrantedAuthority(authority.getName())));
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "usuario",
+                null,
+                authorities);
+        authentication.setDetails(new JwtTokenDetails(
+                "jti",
+                Instant.now(),
+                Instant.now().plusSeconds(3600),
+                registry.roleMask(authorities)));
+        return () -> authentication;
+    }
+
+    private static Set<Authority> authorities(String... names) {
+        Set<Authority> authorities = new HashSet<>();
+        long id = 1;
+        for (String name : names) {
+            authorities.add(new Authority(id++, name));
+        }
+        return authorities;
+    }
+}
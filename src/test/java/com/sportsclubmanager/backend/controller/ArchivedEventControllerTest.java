@@ -0,0 +1,126 @@
+package com.sportsclubmanager.backend.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.event.service.EventArchiveService;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba la consulta de un evento archivado y de los jugadores que estaban
+ * inscritos en él.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ArchivedEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from archived_players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from archived_events").executeUpdate();
+            entityManager.createNativeQuery("delete from players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void archivedEventIsReturnedWithoutPlayersAndPlayersAreListedApart() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Tournament tournament = new Tournament();
+        tournament.setName("Torneo archivado");
+        tournament.setDescription("Torneo de prueba");
+        tournament.setLocation("Montería");
+        tournament.setStartDate(start);
+        tournament.setEndDate(start.plusHours(2));
+        tournament.setEventVisibility(EventVisibility.PUBLIC);
+        tournament.setMaximumParticipants(10);
+        Long tournamentId = tournamentRepository.save(tournament).getId();
+
+        Long secondPlayerId = player(2);
+        Long firstPlayerId = player(1);
+        playerService.registerInTournamentEvent(secondPlayerId, tournamentId);
+        playerService.registerInTournamentEvent(firstPlayerId, tournamentId);
+
+        eventArchiveService.archiveEventsFinishedBefore(start.plusDays(1));
+
+        mockMvc.perform(get("/api/archived-events/{id}", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(tournamentId))
+                .andExpect(jsonPath("$.type").value("TOURNAMENT"))
+                .andExpect(jsonPath("$.participantCount").value(2))
+                .andExpect(jsonPath("$.archivedAt").exists())
+                .andExpect(jsonPath("$.playerIds").doesNotExist());
+
+        mockMvc.perform(get("/api/archived-events/{id}/players", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value(Math.min(firstPlayerId, secondPlayerId)))
+                .andExpect(jsonPath("$[1]").value(Math.max(firstPlayerId, secondPlayerId)));
+    }
+
+    @Test
+    void unknownArchivedEventIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/archived-events/{id}", -1L))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/archived-events/{id}/players", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    private Long player(int i) {
+        Player player = new Player();
+        player.setNationalId(8100000L + i);
+        player.setName("Jugador");
+        player.setLastName("Apellido");
+        player.setPhoneNumber(3810000000L + i);
+        player.setEmail("jugador" + i + "@example.com");
+        player.setUsername("jugador" + i);
+        player.setPassword("Password123#");
+        return playerRepository.save(player).getId();
+    }
+}
@@ -0,0 +1,182 @@
+package com.sportsclubmanager.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba las lecturas condicionales con {@code If-None-Match} y las
+ * escrituras condicionales con {@code If-Match} sobre los eventos de torneo.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class EntityTagControllerTest {
+
+    private static final String UPDATE_REQUEST = """
+            {
+                "name": "%s",
+                "description": "Torneo de prueba",
+                "location": "Montería",
+                "startDate": "2030-01-01T10:00:00",
+                "endDate": "2030-01-02T10:00:00",
+                "eventVisibility": "PUBLIC",
+                "maximumParticipants": 10
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        Tournament tournament = new Tournament();
+        tournament.setName("Torneo " + System.nanoTime());
+        tournament.setDescription("Torneo de prueba");
+        tournament.setLocation("Montería");
+        tournament.setStartDate(LocalDateTime.now().plusDays(1));
+        tournament.setEndDate(LocalDateTime.now().plusDays(2));
+        tournament.setEventVisibility(EventVisibility.PUBLIC);
+        tournament.setMaximumParticipants(10);
+        tournamentId = tournamentRepository.save(tournament).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void readWithCurrentETagReturnsNotModified() throws Exception {
+        String eTag = eTag();
+
+        mockMvc.perform(get("/api/tournament-events/{id}", tournamentId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    void readOfUnknownEventReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/tournament-events/{id}", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void registrationChangesTheETag() throws Exception {
+        String eTag = eTag();
+
+        mockMvc.perform(post("/api/tournament-events/{id}/players", tournamentId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + player() + "]"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tournament-events/{id}", tournamentId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        assertNotEquals(eTag, eTag());
+    }
+
+    @Test
+    void updateWithCurrentETagSucceedsAndStaleETagIsRejected() throws Exception {
+        String eTag = eTag();
+
+        mockMvc.perform(put("/api/tournament-events/{id}", tournamentId)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(UPDATE_REQUEST.formatted("Primer cambio " + tournamentId)))
+                .andExpect(status().isOk());
+        String updatedETag = eTag();
+        assertNotEquals(eTag, updatedETag);
+
+        mockMvc.perform(put("/api/tournament-events/{id}", tournamentId)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(UPDATE_REQUEST.formatted("Segundo cambio " + tournamentId)))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals(
+                "Primer cambio " + tournamentId,
+                tournamentRepository.findById(tournamentId).orElseThrow().getName());
+        assertEquals(updatedETag, eTag());
+    }
+
+    @Test
+    void deleteWithStaleETagIsRejected() throws Exception {
+        mockMvc.perform(delete("/api/tournament-events/{id}", tournamentId)
+                .header(HttpHeaders.IF_MATCH, "\"desactualizado\""))
+                .andExpect(status().isPreconditionFailed());
+        assertTrue(tournamentRepository.existsById(tournamentId));
+
+        mockMvc.perform(delete("/api/tournament-events/{id}", tournamentId)
+                .header(HttpHeaders.IF_MATCH, eTag()))
+                .andExpect(status().isNoContent());
+        assertFalse(tournamentRepository.existsById(tournamentId));
+    }
+
+    private String eTag() throws Exception {
+        return mockMvc.perform(get("/api/tournament-events/{id}", tournamentId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private Long player() {
+        long suffix = System.nanoTime() % 1_000_000;
+        Player player = new Player();
+        player.setNationalId(7_000_000L + suffix);
+        player.setName("Jugador");
+        player.setLastName("Apellido");
+        player.setPhoneNumber(3_700_000_000L + suffix);
+        player.setEmail("jugador" + suffix + "@example.com");
+        player.setUsername("jugador" + suffix);
+        player.setPassword("Password123#");
+        return playerRepository.save(player).getId();
+    }
+}
@@ -0,0 +1,125 @@
+package com.sportsclubmanager.backend.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.model.Training;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.event.repository.TrainingRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba que el calendario solo muestra los eventos privados a los
+ * administradores.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EventCalendarControllerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 3, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long publicId;
+
+    private Long privateId;
+
+    @BeforeEach
+    void setUp() {
+        publicId = tournamentRepository.save(
+                event(new Tournament(), EventVisibility.PUBLIC)).getId();
+        privateId = trainingRepository.save(
+                event(new Training(), EventVisibility.PRIVATE)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from trainings").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+        });
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminSeesPrivateEvents() throws Exception {
+        calendar("")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(
+                        publicId.intValue(),
+                        privateId.intValue())));
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void playerSeesOnlyPublicEvents() throws Exception {
+        calendar("")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(publicId.intValue())));
+        calendar("&visibility=PUBLIC")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(publicId.intValue())));
+        calendar("&visibility=PRIVATE")
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "COACH")
+    void coachCannotRequestPrivateEvents() throws Exception {
+        calendar("&type=TRAINING")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", empty()));
+        calendar("&visibility=PRIVATE")
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions calendar(String parameters) throws Exception {
+        return mockMvc.perform(get("/api/events?from={from}&to={to}" + parameters,
+                FROM, FROM.plusMonths(1)));
+    }
+
+    private static <T extends Event> T event(T event, EventVisibility visibility) {
+        event.setName("Evento " + System.nanoTime());
+        event.setDescription("Evento de prueba");
+        event.setLocation("Montería");
+        event.setStartDate(FROM.plusDays(1));
+        event.setEndDate(FROM.plusDays(1).plusHours(2));
+        event.setEventVisibility(visibility);
+        event.setMaximumParticipants(10);
+        return event;
+    }
+}
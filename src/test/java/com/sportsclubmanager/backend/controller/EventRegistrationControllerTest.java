@@ -0,0 +1,167 @@
+package com.sportsclubmanager.backend.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.model.Training;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.event.repository.TrainingRepository;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba las inscripciones por lotes en torneos y entrenamientos: el
+ * resultado de cada jugador y el rechazo de las listas vacías, demasiado
+ * largas o con IDs nulos antes de consultar el evento.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class EventRegistrationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long tournamentId;
+
+    private Long trainingId;
+
+    private Long firstPlayerId;
+
+    private Long secondPlayerId;
+
+    @BeforeEach
+    void setUp() {
+        tournamentId = tournamentRepository.save(event(new Tournament(), "Torneo", 1)).getId();
+        trainingId = trainingRepository.save(event(new Training(), "Entrenamiento", 10)).getId();
+        firstPlayerId = playerRepository.save(player(1)).getId();
+        secondPlayerId = playerRepository.save(player(2)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from trainings").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void tournamentRegistrationReturnsTheOutcomeOfEachPlayer() throws Exception {
+        registerPlayers("tournament-events", tournamentId, "[%d, -1, %d, %d]"
+                .formatted(firstPlayerId, firstPlayerId, secondPlayerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].registered").value(true))
+                .andExpect(jsonPath("$[1].registered").value(false))
+                .andExpect(jsonPath("$[1].error").value("Jugador con ID -1 no encontrado"))
+                .andExpect(jsonPath("$[2].registered").value(false))
+                .andExpect(jsonPath("$[3].registered").value(false))
+                .andExpect(jsonPath("$[3].error").value("Los participantes no deben ser mayores que 1"));
+
+        assertEquals(1, tournamentRepository.findById(tournamentId).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    void trainingRegistrationRegistersEveryPlayer() throws Exception {
+        registerPlayers("training-events", trainingId, "[%d, %d]".formatted(firstPlayerId, secondPlayerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].registered", contains(true, true)));
+
+        assertEquals(2, trainingRepository.findById(trainingId).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    void invalidListsAreRejected() throws Exception {
+        String tooMany = LongStream.rangeClosed(1, PlayerService.MAX_BATCH_REGISTRATIONS + 1)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        for (String resource : new String[] { "tournament-events", "training-events" }) {
+            registerPlayers(resource, -1L, "[]")
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.estado").value(400));
+            registerPlayers(resource, -1L, tooMany)
+                    .andExpect(status().isBadRequest());
+            registerPlayers(resource, -1L, "[%d, null]".formatted(firstPlayerId))
+                    .andExpect(status().isBadRequest());
+        }
+
+        assertEquals(0, tournamentRepository.findById(tournamentId).orElseThrow().getParticipantCount());
+        assertEquals(0, trainingRepository.findById(trainingId).orElseThrow().getParticipantCount());
+    }
+
+    private ResultActions registerPlayers(String resource, Long eventId, String body) throws Exception {
+        return mockMvc.perform(post("/api/{resource}/{id}/players", resource, eventId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private static <T extends Event> T event(T event, String name, int maximumParticipants) {
+        event.setName(name + " " + System.nanoTime());
+        event.setDescription("Evento de prueba");
+        event.setLocation("Montería");
+        event.setStartDate(LocalDateTime.now().plusDays(1));
+        event.setEndDate(LocalDateTime.now().plusDays(2));
+        event.setEventVisibility(EventVisibility.PUBLIC);
+        event.setMaximumParticipants(maximumParticipants);
+        return event;
+    }
+
+    private static Player player(int i) {
+        Player player = new Player();
+        player.setNationalId(6200000L + i);
+        player.setName("Jugador");
+        player.setLastName("Apellido");
+        player.setPhoneNumber(3620000000L + i);
+        player.setEmail("jugador" + i + "@example.com");
+        player.setUsername("jugador" + i);
+        player.setPassword("Password123#");
+        return player;
+    }
+}
@@ -0,0 +1,167 @@
+package com.sportsclubmanager.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.sportsclubmanager.backend.member.model.Coach;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.CoachRepository;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.model.AffiliationStatus;
+import com.sportsclubmanager.backend.user.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba las modificaciones parciales de jugadores: el perfil con JSON
+ * merge patch, el estado de afiliación, la precondición {@code If-Match} y que
+ * el recurso de jugadores no modifica a otros tipos de usuario.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class UserPatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long playerId;
+
+    private Long coachId;
+
+    @BeforeEach
+    void setUp() {
+        Player player = new Player();
+        fill(player, 1);
+        playerId = playerRepository.save(player).getId();
+
+        Coach coach = new Coach();
+        fill(coach, 2);
+        coachId = coachRepository.save(coach).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from coaches").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void patchChangesOnlyTheGivenFields() throws Exception {
+        mockMvc.perform(patch("/api/players/{id}", playerId)
+                .contentType(UserPatchRequest.MEDIA_TYPE)
+                .content("{\"name\": \"Nuevo\"}"))
+                .andExpect(status().isNoContent());
+
+        Player player = playerRepository.findById(playerId).orElseThrow();
+        assertEquals("Nuevo", player.getName());
+        assertEquals("Apellido", player.getLastName());
+    }
+
+    @Test
+    void patchWithInvalidFieldIsRejected() throws Exception {
+        mockMvc.perform(patch("/api/players/{id}", playerId)
+                .contentType(UserPatchRequest.MEDIA_TYPE)
+                .content("{\"name\": \"A\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals("Usuario", playerRepository.findById(playerId).orElseThrow().getName());
+    }
+
+    @Test
+    void patchWithStaleETagIsRejected() throws Exception {
+        String eTag = eTag(playerId);
+
+        mockMvc.perform(patch("/api/players/{id}", playerId)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(UserPatchRequest.MEDIA_TYPE)
+                .content("{\"name\": \"Primero\"}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(patch("/api/players/{id}", playerId)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(UserPatchRequest.MEDIA_TYPE)
+                .content("{\"name\": \"Segundo\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals("Primero", playerRepository.findById(playerId).orElseThrow().getName());
+    }
+
+    @Test
+    void updateAffiliationStatusChangesTheStatus() throws Exception {
+        mockMvc.perform(patch("/api/players/{id}/affiliation-status", playerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("\"SUSPENDED\""))
+                .andExpect(status().isOk());
+
+        assertEquals(
+                AffiliationStatus.SUSPENDED,
+                playerRepository.findById(playerId).orElseThrow().getAffiliationStatus());
+    }
+
+    @Test
+    void playerResourceDoesNotModifyACoach() throws Exception {
+        mockMvc.perform(patch("/api/players/{id}", coachId)
+                .contentType(UserPatchRequest.MEDIA_TYPE)
+                .content("{\"name\": \"Nuevo\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/players/{id}/affiliation-status", coachId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("\"SUSPENDED\""))
+                .andExpect(status().isNotFound());
+
+        Coach coach = coachRepository.findById(coachId).orElseThrow();
+        assertEquals("Usuario", coach.getName());
+        assertEquals(AffiliationStatus.ACTIVE, coach.getAffiliationStatus());
+    }
+
+    private String eTag(Long id) throws Exception {
+        return mockMvc.perform(get("/api/players/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private static void fill(User user, int i) {
+        user.setNationalId(6100000L + i);
+        user.setName("Usuario");
+        user.setLastName("Apellido");
+        user.setPhoneNumber(3610000000L + i);
+        user.setEmail("usuario" + i + "@example.com");
+        user.setUsername("usuario" + i);
+        user.setPassword("Password123#");
+    }
+}
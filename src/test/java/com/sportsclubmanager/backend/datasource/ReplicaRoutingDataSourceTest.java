@@ -0,0 +1,175 @@
+package com.sportsclubmanager.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.shared.datasource.ReadYourWritesTracker;
+import com.sportsclubmanager.backend.shared.datasource.Replica;
+import com.sportsclubmanager.backend.shared.datasource.ReplicaHealthIndicator;
+import com.sportsclubmanager.backend.shared.datasource.ReplicaLagMonitor;
+import com.sportsclubmanager.backend.shared.datasource.ReplicaProperties;
+import com.sportsclubmanager.backend.shared.datasource.ReplicaRoutingDataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba el enrutamiento entre el primario y una réplica con dos bases de
+ * datos H2 embebidas. La tabla {@code node} de cada una indica a qué base se
+ * envió la consulta; la réplica no recibe los cambios del primario, por lo que
+ * su retraso se controla escribiendo directamente su tabla de latidos.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replicaDatabase;
+    private ReplicaProperties properties;
+    private Replica replica;
+    private ReplicaLagMonitor monitor;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replicaDatabase = database("replica");
+
+        properties = new ReplicaProperties();
+        properties.setReadYourWritesWindow(Duration.ofMinutes(1));
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+        replica = new Replica("replica-1", replicaDatabase);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primary,
+                List.of(replica),
+                tracker);
+        monitor = new ReplicaLagMonitor(primary, List.of(replica), properties);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        replicateHeartbeat(System.currentTimeMillis());
+        monitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndWritesToThePrimary() {
+        assertEquals("replica", read());
+        assertEquals("primary", write());
+    }
+
+    @Test
+    void readsAfterAWriteGoToThePrimaryOnlyForTheSamePrincipal() {
+        authenticate("admin");
+        write();
+        assertEquals("primary", read());
+
+        authenticate("coach");
+        assertEquals("replica", read());
+    }
+
+    @Test
+    void laggingReplicaIsOutOfServiceAndReadsFallBackToThePrimary() {
+        ReplicaHealthIndicator healthIndicator = new ReplicaHealthIndicator(List.of(replica));
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+
+        replicateHeartbeat(System.currentTimeMillis() - properties.getMaxLag().toMillis() - 1_000);
+        monitor.check();
+
+        assertFalse(replica.isAvailable());
+        assertEquals("primary", read());
+
+        var health = healthIndicator.health();
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(
+                Status.OUT_OF_SERVICE.getCode(),
+                ((Map<?, ?>) health.getDetails().get("replica-1")).get("status"));
+
+        replicateHeartbeat(System.currentTimeMillis());
+        monitor.check();
+
+        assertTrue(replica.isAvailable());
+        assertEquals("replica", read());
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    void unreachableReplicaIsDown() {
+        new JdbcTemplate(replicaDatabase).execute("drop table replication_heartbeat");
+        monitor.check();
+
+        assertFalse(replica.isAvailable());
+        assertEquals("primary", read());
+
+        var health = new ReplicaHealthIndicator(List.of(replica)).health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(Status.DOWN.getCode(), ((Map<?, ?>) health.getDetails().get("replica-1")).get("status"));
+        assertNull(((Map<?, ?>) health.getDetails().get("replica-1")).get("lagMillis"));
+    }
+
+    private String read() {
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> currentNode());
+    }
+
+    private String write() {
+        transactionTemplate.setReadOnly(false);
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update("update node set writes = writes + 1");
+            return currentNode();
+        });
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private void replicateHeartbeat(long beatMillis) {
+        JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDatabase);
+        replicaJdbcTemplate.update("delete from replication_heartbeat");
+        replicaJdbcTemplate.update(
+                "insert into replication_heartbeat (id, beat_millis) values (1, ?)",
+                beatMillis);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(username, null, "ROLE_ADMIN"));
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table node (name varchar(20) not null, writes int not null)");
+        jdbcTemplate.update("insert into node (name, writes) values (?, 0)", name);
+        jdbcTemplate.execute("create table replication_heartbeat (id int primary key, beat_millis bigint not null)");
+        return database;
+    }
+}
@@ -0,0 +1,128 @@
+package com.sportsclubmanager.backend.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.shared.export.ExportColumn;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.export.StreamingExporter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Comprueba la elección del formato según los valores de calidad de
+ * {@code Accept} y la escritura de CSV (comillas, saltos de línea y fórmulas)
+ * y NDJSON.
+ */
+class StreamingExporterTest {
+
+    private record Row(String name, Object value) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            new ExportColumn<>("name", Row::name),
+            new ExportColumn<>("value", Row::value));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final StreamingExporter exporter = new StreamingExporter(
+            objectMapper,
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void acceptQualityValuesAreRespected() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromAccept("text/csv;q=0.1, application/x-ndjson"));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromAccept("application/x-ndjson;q=0.5, text/csv"));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromAccept("text/csv, */*;q=0.8"));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromAccept("text/csv, */*"));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromAccept("text/*, application/*;q=0.2"));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromAccept("*/*, application/x-ndjson;q=0"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromAccept("text/csv;q=0"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromAccept("*/*"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromAccept(null));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromAccept("no es un tipo"));
+    }
+
+    @Test
+    void csvQuotesSeparatorsEscapesQuotesAndKeepsEmbeddedNewlines() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = export("text/csv", Stream.of(
+                new Row("Ana, María", "O\"Neil"),
+                new Row("linea1\nlinea2", "linea1\r\nlinea2"),
+                new Row("Luis", null)));
+
+        assertEquals(ExportFormat.CSV.getMediaType(), response.getHeaders().getContentType());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("datos.csv"));
+        assertEquals(
+                "name,value\r\n"
+                        + "\"Ana, María\",\"O\"\"Neil\"\r\n"
+                        + "\"linea1\nlinea2\",\"linea1\r\nlinea2\"\r\n"
+                        + "Luis,\r\n",
+                write(response));
+    }
+
+    @Test
+    void csvNeutralizesFormulasButNotNumbers() throws IOException {
+        String csv = write(export("text/csv", Stream.of(
+                new Row("=HYPERLINK(\"http://example.com\")", "+1"),
+                new Row("-2+3", "@SUM(A1:A2)"),
+                new Row("\tTAB", -5),
+                new Row("a=b", 1.5))));
+
+        assertEquals(
+                "name,value\r\n"
+                        + "\"'=HYPERLINK(\"\"http://example.com\"\")\",'+1\r\n"
+                        + "'-2+3,'@SUM(A1:A2)\r\n"
+                        + "'\tTAB,-5\r\n"
+                        + "a=b,1.5\r\n",
+                csv);
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = export("application/x-ndjson", Stream.of(
+                new Row("linea1\nlinea2", "=1+1"),
+                new Row("Luis", null)));
+
+        assertEquals(ExportFormat.NDJSON.getMediaType(), response.getHeaders().getContentType());
+
+        String ndjson = write(response);
+        assertTrue(ndjson.endsWith("\n"));
+
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("linea1\nlinea2", first.get("name").asText());
+        assertEquals("=1+1", first.get("value").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("Luis", second.get("name").asText());
+        assertTrue(second.get("value").isNull());
+    }
+
+    @Test
+    void emptyExportsHaveNoRows() throws IOException {
+        assertEquals("name,value\r\n", write(export("text/csv", Stream.empty())));
+        assertEquals("", write(export(null, Stream.empty())));
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String accept, Stream<Row> rows) {
+        return exporter.export(accept, "datos", COLUMNS, () -> rows);
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
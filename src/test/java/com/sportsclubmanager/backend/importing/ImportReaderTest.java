@@ -0,0 +1,113 @@
+package com.sportsclubmanager.backend.importing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.member.dto.PlayerImportRow;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.importing.ImportReader;
+import com.sportsclubmanager.backend.shared.importing.ImportRecord;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ImportReaderTest {
+
+    private static final String CSV_HEADER = "nationalId,name,lastName,phoneNumber,email,username,password\r\n";
+
+    private final ImportReader importReader = new ImportReader(new ObjectMapper());
+
+    @Test
+    void csvQuotedValuesMayContainSeparatorsEscapedQuotesAndNewlines() {
+        List<ImportRecord<PlayerImportRow>> records = read(ExportFormat.CSV, CSV_HEADER
+                + "1234567,\"Ana, María\",\"O\"\"Neil\",3001234567,ana@example.com,ana123,\"linea1\nlinea2\"\r\n"
+                + "7654321,Luis,Pérez,3007654321,luis@example.com,luis123,Password123#");
+
+        assertEquals(2, records.size());
+
+        PlayerImportRow first = records.get(0).value();
+        assertEquals(1, records.get(0).row());
+        assertNull(records.get(0).error());
+        assertEquals(1234567L, first.nationalId());
+        assertEquals("Ana, María", first.name());
+        assertEquals("O\"Neil", first.lastName());
+        assertEquals("linea1\nlinea2", first.password());
+
+        PlayerImportRow second = records.get(1).value();
+        assertEquals(2, records.get(1).row());
+        assertEquals("Luis", second.name());
+        assertEquals("Password123#", second.password());
+    }
+
+    @Test
+    void csvEmptyValuesAreNullAndBlankLinesAreSkipped() {
+        List<ImportRecord<PlayerImportRow>> records = read(ExportFormat.CSV, CSV_HEADER
+                + "\r\n"
+                + "1234567,Ana,,3001234567,ana@example.com,ana123,Password123#\r\n"
+                + "\r\n");
+
+        assertEquals(1, records.size());
+        assertEquals(1, records.get(0).row());
+        assertNull(records.get(0).value().lastName());
+    }
+
+    @Test
+    void csvBadRowsAreReportedAndReadingContinues() {
+        List<ImportRecord<PlayerImportRow>> records = read(ExportFormat.CSV, CSV_HEADER
+                + "1234567,Ana,López,3001234567,ana@example.com\r\n"
+                + "abc,Ana,López,3001234567,ana@example.com,ana123,Password123#\r\n"
+                + "1234567,Ana,López,3001234567,ana@example.com,ana123,Password123#\r\n");
+
+        assertEquals(3, records.size());
+
+        assertNull(records.get(0).value());
+        assertEquals("La fila tiene 5 columnas y se esperaban 7", records.get(0).error());
+
+        assertNull(records.get(1).value());
+        assertEquals("La fila no tiene el formato esperado", records.get(1).error());
+
+        assertEquals(3, records.get(2).row());
+        assertNull(records.get(2).error());
+        assertEquals("ana123", records.get(2).value().username());
+    }
+
+    @Test
+    void csvWithoutRowsHasNoRecords() {
+        assertTrue(read(ExportFormat.CSV, "").isEmpty());
+        assertTrue(read(ExportFormat.CSV, CSV_HEADER).isEmpty());
+    }
+
+    @Test
+    void ndjsonBadLinesAreReportedAndReadingContinues() {
+        List<ImportRecord<PlayerImportRow>> records = read(ExportFormat.NDJSON, """
+                {"nationalId": 1234567, "name": "Ana", "username": "ana123"}
+
+                {"nationalId": 1234567, "name": "Ana"
+                ["no", "es", "un", "objeto"]
+                {"nationalId": "abc"}
+                {"nationalId": 7654321, "name": "Luis", "username": "luis123"}
+                """);
+
+        assertEquals(5, records.size());
+        assertEquals("Ana", records.get(0).value().name());
+        assertEquals("La fila no tiene el formato esperado", records.get(1).error());
+        assertEquals("La fila no es un objeto JSON", records.get(2).error());
+        assertEquals("La fila no tiene el formato esperado", records.get(3).error());
+        assertEquals(5, records.get(4).row());
+        assertEquals("luis123", records.get(4).value().username());
+    }
+
+    private List<ImportRecord<PlayerImportRow>> read(ExportFormat format, String content) {
+        Iterator<ImportRecord<PlayerImportRow>> iterator = importReader.read(
+                format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                PlayerImportRow.class);
+
+        List<ImportRecord<PlayerImportRow>> records = new ArrayList<>();
+        iterator.forEachRemaining(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sportsclubmanager.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.auth.security.password.CalibratedBCryptPasswordEncoder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que solo se vuelven a cifrar las contraseñas con un coste menor
+ * que el calibrado, de modo que un nodo con otro coste no las rebaja.
+ */
+class CalibratedBCryptPasswordEncoderTest {
+
+    private final CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+    @Test
+    void onlyLowerCostsAreUpgraded() {
+        assertTrue(encoder.upgradeEncoding(new CalibratedBCryptPasswordEncoder(4).encode("Password123#")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("Password123#")));
+        assertFalse(encoder.upgradeEncoding(new CalibratedBCryptPasswordEncoder(6).encode("Password123#")));
+    }
+
+    @Test
+    void hashesWithAHigherCostStillMatch() {
+        String encoded = new CalibratedBCryptPasswordEncoder(6).encode("Password123#");
+
+        assertTrue(encoder.matches("Password123#", encoded));
+        assertFalse(encoder.matches("Otra123#", encoded));
+    }
+}
@@ -0,0 +1,123 @@
+package com.sportsclubmanager.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.auth.security.GrantedAuthorityRegistry;
+import com.sportsclubmanager.backend.auth.security.JwtAuthoritiesCodec;
+import com.sportsclubmanager.backend.auth.security.JwtConfig;
+import com.sportsclubmanager.backend.user.model.Authority;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.Jwts;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Comprueba que las autoridades de un token se leen igual con el formato
+ * compacto de máscara de roles y con el formato anterior en JSON, y que el
+ * formato anterior se sigue usando cuando la máscara no basta.
+ */
+class JwtAuthoritiesCodecTest {
+
+    private JwtAuthoritiesCodec codec;
+
+    private Role admin;
+
+    private Role user;
+
+    @BeforeEach
+    void setUp() {
+        admin = new Role(1L, "ROLE_ADMIN", authorities(
+                "AUTHORITY_VIEW_ALL",
+                "AUTHORITY_MANAGE_MEMBERS",
+                "AUTHORITY_VIEW_PROFILE"));
+        user = new Role(5L, "ROLE_USER", authorities(
+                "AUTHORITY_READ",
+                "AUTHORITY_VIEW_PROFILE"));
+
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of(admin, user));
+
+        RoleCatalog roleCatalog = new RoleCatalog(roleRepository);
+        roleCatalog.reload();
+
+        codec = new JwtAuthoritiesCodec(new GrantedAuthorityRegistry(roleCatalog));
+    }
+
+    @Test
+    void rolesAreWrittenAsAMaskAndReadBackWithTheirAuthorities() throws Exception {
+        Set<GrantedAuthority> authorities = grantedAuthorities(admin, user);
+
+        Claims claims = write(authorities);
+
+        assertInstanceOf(Number.class, claims.get(JwtConfig.ROLES_CLAIM));
+        assertNull(claims.get(JwtConfig.AUTHORITIES_CLAIM));
+        assertEquals(names(authorities), names(codec.read(claims)));
+    }
+
+    @Test
+    void legacyJsonAuthoritiesAreStillRead() throws Exception {
+        Set<GrantedAuthority> authorities = grantedAuthorities(user);
+        Claims claims = Jwts.claims()
+                .add(JwtConfig.AUTHORITIES_CLAIM, new ObjectMapper().writeValueAsString(authorities))
+                .build();
+
+        assertEquals(names(authorities), names(codec.read(claims)));
+    }
+
+    @Test
+    void authoritiesOutsideTheRolesAreWrittenAsJson() throws Exception {
+        Set<GrantedAuthority> authorities = grantedAuthorities(user);
+        authorities.add(new SimpleGrantedAuthority("AUTHORITY_EXTRA"));
+
+        Claims claims = write(authorities);
+
+        assertNull(claims.get(JwtConfig.ROLES_CLAIM));
+        assertNotNull(claims.get(JwtConfig.AUTHORITIES_CLAIM));
+        assertEquals(names(authorities), names(codec.read(claims)));
+        assertEquals(codec.roleMask(grantedAuthorities(user)), codec.roleMask(authorities));
+    }
+
+    private Claims write(Collection<? extends GrantedAuthority> authorities) throws Exception {
+        ClaimsBuilder claims = Jwts.claims();
+        codec.write(claims, authorities);
+        return claims.build();
+    }
+
+    private static Set<GrantedAuthority> grantedAuthorities(Role... roles) {
+        return Stream.of(roles)
+                .flatMap(role -> Stream.concat(
+                        Stream.of(role.getName()),
+                        role.getAuthorities().stream().map(Authority::getName)))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static Set<Authority> authorities(String... names) {
+        Set<Authority> authorities = new HashSet<>();
+        long id = 1;
+        for (String name : names) {
+            authorities.add(new Authority(id++, name));
+        }
+        return authorities;
+    }
+
+    private static Set<String> names(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
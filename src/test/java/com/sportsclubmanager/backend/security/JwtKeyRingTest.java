@@ -0,0 +1,151 @@
+package com.sportsclubmanager.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.auth.model.JwtSigningKey;
+import com.sportsclubmanager.backend.auth.repository.JwtSigningKeyRepository;
+import com.sportsclubmanager.backend.auth.security.JwtKeyProperties;
+import com.sportsclubmanager.backend.auth.security.JwtKeyRing;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Comprueba la rotación de las claves de firma: los tokens firmados con la
+ * clave reemplazada se aceptan durante el solapamiento y se rechazan cuando
+ * expira, las claves creadas por otro nodo se cargan al recibir su
+ * {@code kid} y los tokens con un {@code kid} desconocido se rechazan.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ JwtKeyRing.class, JwtKeyRingTest.Config.class })
+class JwtKeyRingTest {
+
+    private static final Duration ROTATION_PERIOD = Duration.ofDays(7);
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        JwtKeyProperties jwtKeyProperties() {
+            JwtKeyProperties properties = new JwtKeyProperties();
+            properties.setRotationPeriod(ROTATION_PERIOD);
+            properties.setOverlap(Duration.ofHours(2));
+            properties.setUnknownKidReloadInterval(Duration.ZERO);
+            return properties;
+        }
+    }
+
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    @Autowired
+    private JwtSigningKeyRepository signingKeyRepository;
+
+    private JwtParser parser;
+
+    @BeforeEach
+    void setUp() {
+        keyRing.rotate();
+        parser = Jwts.parser().keyLocator(keyRing).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        signingKeyRepository.deleteAll();
+        keyRing.reload();
+    }
+
+    @Test
+    void rotationIsNotRepeatedBeforeTheRotationPeriod() {
+        String kid = keyRing.currentSigningKey().kid();
+
+        keyRing.rotate();
+
+        assertEquals(kid, keyRing.currentSigningKey().kid());
+        assertEquals(1, signingKeyRepository.count());
+    }
+
+    @Test
+    void previousKeyIsAcceptedDuringTheOverlapAndRejectedAfterIt() {
+        JwtKeyRing.SigningKey previous = keyRing.currentSigningKey();
+        String token = sign(previous.kid(), previous.key());
+
+        Instant now = Instant.now();
+        update(previous.kid(), now.minus(ROTATION_PERIOD).minusSeconds(60), now.plus(Duration.ofHours(1)));
+        keyRing.rotate();
+
+        JwtKeyRing.SigningKey current = keyRing.currentSigningKey();
+        assertNotEquals(previous.kid(), current.kid());
+        assertEquals("admin", parse(token));
+        assertEquals("admin", parse(sign(current.kid(), current.key())));
+
+        update(previous.kid(), now.minus(ROTATION_PERIOD).minusSeconds(60), now.minusSeconds(1));
+        keyRing.rotate();
+
+        assertThrows(SignatureException.class, () -> parse(token));
+        assertFalse(signingKeyRepository.existsById(previous.kid()));
+        assertEquals("admin", parse(sign(current.kid(), current.key())));
+    }
+
+    @Test
+    void keyCreatedByAnotherNodeIsLoadedWhenItsKidIsSeen() {
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        String kid = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        signingKeyRepository.save(new JwtSigningKey(kid, key.getEncoded(), now, now.plus(ROTATION_PERIOD)));
+
+        assertEquals("admin", parse(sign(kid, key)));
+        assertEquals(kid, keyRing.currentSigningKey().kid());
+    }
+
+    @Test
+    void unknownOrMissingKidAndForeignSignaturesAreRejected() {
+        SecretKey foreignKey = Jwts.SIG.HS256.key().build();
+
+        assertThrows(SignatureException.class, () -> parse(sign("desconocida", foreignKey)));
+        assertThrows(
+                SignatureException.class,
+                () -> parse(sign(keyRing.currentSigningKey().kid(), foreignKey)));
+        assertThrows(
+                SignatureException.class,
+                () -> parse(Jwts.builder().subject("admin").signWith(foreignKey).compact()));
+    }
+
+    private void update(String kid, Instant createdAt, Instant expiresAt) {
+        JwtSigningKey signingKey = signingKeyRepository.findById(kid).orElseThrow();
+        signingKey.setCreatedAt(createdAt);
+        signingKey.setExpiresAt(expiresAt);
+        signingKeyRepository.save(signingKey);
+    }
+
+    private String parse(String token) {
+        return parser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private static String sign(String kid, SecretKey key) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("admin")
+                .expiration(Date.from(Instant.now().plusSeconds(600)))
+                .signWith(key)
+                .compact();
+    }
+}
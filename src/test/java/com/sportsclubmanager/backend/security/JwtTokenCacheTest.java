@@ -0,0 +1,85 @@
+package com.sportsclubmanager.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.cache.JwtTokenCache;
+import com.sportsclubmanager.backend.auth.security.cache.JwtTokenCacheProperties;
+import com.sportsclubmanager.backend.auth.security.cache.VerifiedToken;
+import com.sportsclubmanager.backend.user.event.RolesChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Comprueba que la caché de tokens guarda datos inmutables y que cada
+ * solicitud recibe su propia autenticación, de modo que modificar una no
+ * afecta a las demás ni a la caché.
+ */
+class JwtTokenCacheTest {
+
+    private final JwtTokenCache cache = new JwtTokenCache(new JwtTokenCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void eachRequestGetsItsOwnAuthentication() {
+        VerifiedToken verified = verified(Instant.now().plusSeconds(600));
+        cache.put("token", verified);
+
+        UsernamePasswordAuthenticationToken first = cache.get("token").toAuthentication();
+        first.setDetails("modificado");
+        first.setAuthenticated(false);
+
+        UsernamePasswordAuthenticationToken second = cache.get("token").toAuthentication();
+
+        assertNotSame(first, second);
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertEquals(verified.details(), second.getDetails());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), List.copyOf(second.getAuthorities()));
+    }
+
+    @Test
+    void cachedAuthoritiesCannotBeModified() {
+        List<GrantedAuthority> authorities = new ArrayList<>(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        VerifiedToken verified = new VerifiedToken("admin", authorities, details(Instant.now().plusSeconds(600)));
+        cache.put("token", verified);
+
+        authorities.add(new SimpleGrantedAuthority("ROLE_CLUB_ADMIN"));
+
+        List<GrantedAuthority> cached = cache.get("token").authorities();
+        assertEquals(1, cached.size());
+        assertThrows(UnsupportedOperationException.class, () -> cached.add(new SimpleGrantedAuthority("ROLE_PLAYER")));
+    }
+
+    @Test
+    void expiredTokensAndTokensWithoutExpirationAreNotStored() {
+        cache.put("expirado", verified(Instant.now().minusSeconds(1)));
+        cache.put("sin-expiracion", verified(null));
+
+        assertNull(cache.get("expirado"));
+        assertNull(cache.get("sin-expiracion"));
+        assertNull(cache.get("desconocido"));
+    }
+
+    @Test
+    void changingRolesEmptiesTheCache() {
+        cache.put("token", verified(Instant.now().plusSeconds(600)));
+
+        cache.onRolesChanged(new RolesChangedEvent());
+
+        assertNull(cache.get("token"));
+    }
+
+    private static VerifiedToken verified(Instant expiresAt) {
+        return new VerifiedToken("admin", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), details(expiresAt));
+    }
+
+    private static JwtTokenDetails details(Instant expiresAt) {
+        return new JwtTokenDetails("jti", Instant.now(), expiresAt, 1L);
+    }
+}
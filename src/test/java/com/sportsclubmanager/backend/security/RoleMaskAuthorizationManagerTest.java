@@ -0,0 +1,197 @@
+package com.sportsclubmanager.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.sportsclubmanager.backend.auth.security.GrantedAuthorityRegistry;
+import com.sportsclubmanager.backend.auth.security.JwtTokenDetails;
+import com.sportsclubmanager.backend.auth.security.authorization.RoleMaskAuthorizationManager;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+/**
+ * Comprueba que las expresiones {@code hasRole} y {@code hasAnyRole} se
+ * deciden con la máscara de roles, y que las demás expresiones, los métodos
+ * sin anotación y los roles desconocidos se delegan en el gestor estándar.
+ */
+class RoleMaskAuthorizationManagerTest {
+
+    static class Endpoints {
+
+        @PreAuthorize("hasRole('ADMIN')")
+        public void admin() {
+        }
+
+        @PreAuthorize("hasAnyRole( 'ADMIN' , 'CLUB_ADMIN' )")
+        public void admins() {
+        }
+
+        @PreAuthorize("hasRole('UNKNOWN')")
+        public void unknown() {
+        }
+
+        @PreAuthorize("hasAnyRole('ADMIN', 'UNKNOWN')")
+        public void adminOrUnknown() {
+        }
+
+        @PreAuthorize("hasAuthority('AUTHORITY_READ')")
+        public void authority() {
+        }
+
+        @PreAuthorize("hasRole('ADMIN') or hasAuthority('AUTHORITY_READ')")
+        public void combined() {
+        }
+
+        @PreAuthorize("hasRole(#role)")
+        public void parameter(String role) {
+        }
+
+        public void unannotated() {
+        }
+    }
+
+    @PreAuthorize("hasRole('PLAYER')")
+    static class PlayerEndpoints {
+
+        public void list() {
+        }
+    }
+
+    private GrantedAuthorityRegistry registry;
+
+    private AuthorizationManager<MethodInvocation> fallback;
+
+    private RoleMaskAuthorizationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of(
+                new Role(1L, "ROLE_ADMIN", new HashSet<>()),
+                new Role(2L, "ROLE_CLUB_ADMIN", new HashSet<>()),
+                new Role(3L, "ROLE_PLAYER", new HashSet<>())));
+
+        RoleCatalog roleCatalog = new RoleCatalog(roleRepository);
+        roleCatalog.reload();
+        registry = new GrantedAuthorityRegistry(roleCatalog);
+
+        fallback = spy(new PreAuthorizeAuthorizationManager());
+        manager = new RoleMaskAuthorizationManager(() -> roleCatalog, () -> registry, fallback);
+    }
+
+    @Test
+    void roleExpressionsAreDecidedWithTheRoleMask() {
+        assertTrue(granted("admin", token("ROLE_ADMIN")));
+        assertFalse(granted("admin", token("ROLE_CLUB_ADMIN", "ROLE_PLAYER")));
+        assertTrue(granted("admins", token("ROLE_CLUB_ADMIN")));
+        assertTrue(granted("admins", token("ROLE_PLAYER", "ROLE_ADMIN")));
+        assertFalse(granted("admins", token("ROLE_PLAYER")));
+        assertTrue(invocation(new PlayerEndpoints(), "list", token("ROLE_PLAYER")));
+        assertFalse(invocation(new PlayerEndpoints(), "list", token("ROLE_ADMIN")));
+
+        verify(fallback, never()).authorize(any(), any());
+    }
+
+    @Test
+    void authenticationsWithoutTokenDetailsUseTheirAuthorities() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                "usuario",
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_CLUB_ADMIN")));
+
+        assertTrue(granted("admins", () -> authentication));
+        assertFalse(granted("admin", () -> authentication));
+        assertFalse(granted("admin", () -> null));
+
+        verify(fallback, never()).authorize(any(), any());
+    }
+
+    @Test
+    void otherExpressionsAreDelegatedToTheStockManager() {
+        Supplier<Authentication> reader = token("ROLE_PLAYER", "AUTHORITY_READ");
+
+        assertTrue(granted("authority", reader));
+        assertFalse(granted("authority", token("ROLE_ADMIN")));
+        assertTrue(granted("combined", reader));
+        assertTrue(granted("combined", token("ROLE_ADMIN")));
+        assertFalse(granted("combined", token("ROLE_PLAYER")));
+
+        verify(fallback, times(5)).authorize(any(), any());
+    }
+
+    @Test
+    void parametersAndUnannotatedMethodsAreDelegatedToTheStockManager() throws NoSuchMethodException {
+        SimpleMethodInvocation parameter = new SimpleMethodInvocation(
+                new Endpoints(),
+                Endpoints.class.getMethod("parameter", String.class),
+                "ADMIN");
+        assertTrue(manager.authorize(token("ROLE_ADMIN"), parameter).isGranted());
+        assertFalse(manager.authorize(token("ROLE_PLAYER"), parameter).isGranted());
+
+        manager.authorize(token("ROLE_ADMIN"), invocation(new Endpoints(), "unannotated"));
+
+        verify(fallback, times(3)).authorize(any(), any());
+    }
+
+    @Test
+    void unknownRolesAreDelegatedToTheStockManager() {
+        assertTrue(granted("unknown", token("ROLE_UNKNOWN")));
+        assertFalse(granted("unknown", token("ROLE_ADMIN")));
+        assertTrue(granted("adminOrUnknown", token("ROLE_ADMIN")));
+        assertTrue(granted("adminOrUnknown", token("ROLE_UNKNOWN")));
+        assertFalse(granted("adminOrUnknown", token("ROLE_PLAYER")));
+
+        verify(fallback, times(5)).authorize(any(), any());
+    }
+
+    private boolean granted(String method, Supplier<Authentication> authentication) {
+        return invocation(new Endpoints(), method, authentication);
+    }
+
+    private boolean invocation(Object target, String method, Supplier<Authentication> authentication) {
+        return manager.authorize(authentication, invocation(target, method)).isGranted();
+    }
+
+    private static MethodInvocation invocation(Object target, String method) {
+        try {
+            return new SimpleMethodInvocation(target, target.getClass().getMethod(method));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private Supplier<Authentication> token(String... authorityNames) {
+        List<GrantedAuthority> authorities = Stream.of(authorityNames)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "usuario",
+                null,
+                authorities);
+        authentication.setDetails(new JwtTokenDetails(
+                "jti",
+                Instant.now(),
+                Instant.now().plusSeconds(3600),
+                registry.roleMask(authorities)));
+        return () -> authentication;
+    }
+}
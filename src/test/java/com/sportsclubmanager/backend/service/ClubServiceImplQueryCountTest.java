@@ -0,0 +1,158 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.club.dto.ClubResponse;
+import com.sportsclubmanager.backend.club.mapper.ClubMapperImpl;
+import com.sportsclubmanager.backend.club.model.Club;
+import com.sportsclubmanager.backend.club.service.ClubServiceImpl;
+import com.sportsclubmanager.backend.member.model.ClubAdministrator;
+import com.sportsclubmanager.backend.member.model.Coach;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.service.ClubAdministratorService;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import com.sportsclubmanager.backend.user.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Comprueba que el listado de clubes se resuelve con un número fijo de
+ * sentencias SQL, sin importar cuántos clubes ni miembros existan.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ ClubServiceImpl.class, ClubMapperImpl.class })
+class ClubServiceImplQueryCountTest {
+
+    private static final int CLUBS = 8;
+    private static final int COACHES_PER_CLUB = 2;
+    private static final int PLAYERS_PER_CLUB = 3;
+
+    @Autowired
+    private ClubServiceImpl clubService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private ClubAdministratorService clubAdministratorService;
+
+    private Statistics statistics;
+
+    private long sequence;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CLUBS; i++) {
+            Club club = new Club();
+            club.setName("Club " + i);
+            club.setAddress("Calle " + i);
+            club.setPhoneNumber(3000000000L + i);
+            entityManager.persist(club);
+
+            ClubAdministrator clubAdministrator = member(new ClubAdministrator(), "Admin" + i);
+            clubAdministrator.setClub(club);
+            entityManager.persist(clubAdministrator);
+
+            for (int j = 0; j < COACHES_PER_CLUB; j++) {
+                Coach coach = member(new Coach(), "Coach" + i + "x" + j);
+                coach.setClub(club);
+                entityManager.persist(coach);
+            }
+            for (int j = 0; j < PLAYERS_PER_CLUB; j++) {
+                Player player = member(new Player(), "Player" + i + "x" + j);
+                player.setClub(club);
+                entityManager.persist(player);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllResponsesUsesTwoStatements() {
+        List<ClubResponse> responses = clubService.findAllResponses();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(CLUBS, responses.size());
+
+        ClubResponse response = responses.stream()
+                .filter(club -> club.getName().equals("Club 3"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Admin3", response.getClubAdministratorName());
+        assertEquals(Set.of("Coach3x0", "Coach3x1"), response.getCoachNames());
+        assertEquals(
+                Set.of("Player3x0", "Player3x1", "Player3x2"),
+                response.getPlayerNames());
+    }
+
+    @Test
+    void findAllResponsesPageUsesThreeStatementsRegardlessOfPageSize() {
+        for (int size : new int[] { 1, 5, CLUBS }) {
+            statistics.clear();
+
+            Page<ClubResponse> page = clubService.findAllResponses(PageRequest.of(0, size));
+
+            assertEquals(size, page.getNumberOfElements());
+            assertEquals(CLUBS, page.getTotalElements());
+            assertTrue(statistics.getPrepareStatementCount() <= 3);
+            page.forEach(club -> {
+                assertEquals(COACHES_PER_CLUB, club.getCoachNames().size());
+                assertEquals(PLAYERS_PER_CLUB, club.getPlayerNames().size());
+            });
+        }
+    }
+
+    @Test
+    void findAllResponsesByCursorWalksAllClubsWithoutCounting() {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+
+            CursorPage<ClubResponse> page = clubService.findAllResponses(
+                    CursorPageRequest.of(cursor, 3));
+
+            assertEquals(2, statistics.getPrepareStatementCount());
+            page.content().forEach(club -> names.add(club.getName()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(CLUBS, names.size());
+        assertEquals(CLUBS, Set.copyOf(names).size());
+    }
+
+    private <T extends User> T member(T user, String name) {
+        long number = ++sequence;
+        user.setNationalId(1000000L + number);
+        user.setName(name);
+        user.setLastName("Apellido");
+        user.setPhoneNumber(3100000000L + number);
+        user.setEmail("miembro" + number + "@example.com");
+        user.setUsername("miembro" + number);
+        user.setPassword("Password123#");
+        return user;
+    }
+}
@@ -0,0 +1,147 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.user.event.RolesChangedEvent;
+import com.sportsclubmanager.backend.user.event.UserAccountChangedEvent;
+import com.sportsclubmanager.backend.user.model.User;
+import com.sportsclubmanager.backend.user.repository.UserRepository;
+import com.sportsclubmanager.backend.user.service.CustomUserDetailsService;
+import com.sportsclubmanager.backend.user.service.UserDetailsCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba la invalidación de la caché de detalles de usuario: un cambio de
+ * cuenta solo invalida la entrada de ese usuario, aunque haya cambiado su
+ * nombre de usuario, y la contraseña que se vuelve a cifrar solo se invalida
+ * tras el commit.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CustomUserDetailsService.class, CustomUserDetailsServiceTest.Config.class })
+class CustomUserDetailsServiceTest {
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        UserDetailsCacheProperties userDetailsCacheProperties() {
+            return new UserDetailsCacheProperties();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        firstId = userRepository.save(user(1)).getId();
+        userRepository.save(user(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createNativeQuery("delete from users")
+                .executeUpdate());
+        userDetailsService.onRolesChanged(new RolesChangedEvent());
+    }
+
+    @Test
+    void accountChangeInvalidatesOnlyThatUser() {
+        userDetailsService.loadUserByUsername("usuario1");
+        userDetailsService.loadUserByUsername("usuario2");
+        setPassword("usuario1", "nueva1");
+        setPassword("usuario2", "nueva2");
+
+        userDetailsService.onUserAccountChanged(new UserAccountChangedEvent(firstId));
+
+        assertEquals("nueva1", userDetailsService.loadUserByUsername("usuario1").getPassword());
+        assertEquals("Password123#", userDetailsService.loadUserByUsername("usuario2").getPassword());
+    }
+
+    @Test
+    void accountChangeInvalidatesTheFormerUsername() {
+        userDetailsService.loadUserByUsername("usuario1");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createNativeQuery("update users set username = 'renombrado' where id = :id")
+                .setParameter("id", firstId)
+                .executeUpdate());
+
+        userDetailsService.onUserAccountChanged(new UserAccountChangedEvent(firstId));
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("usuario1"));
+        assertEquals("renombrado", userDetailsService.loadUserByUsername("renombrado").getUsername());
+    }
+
+    @Test
+    void upgradedPasswordIsInvalidatedOnlyAfterCommit() {
+        UserDetails user = userDetailsService.loadUserByUsername("usuario1");
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            userDetailsService.updatePassword(user, "revertida");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("Password123#", userDetailsService.loadUserByUsername("usuario1").getPassword());
+
+        transaction.executeWithoutResult(status -> {
+            userDetailsService.updatePassword(user, "cifrada");
+            assertEquals("Password123#", userDetailsService.loadUserByUsername("usuario1").getPassword());
+        });
+
+        assertEquals("cifrada", userDetailsService.loadUserByUsername("usuario1").getPassword());
+    }
+
+    private void setPassword(String username, String password) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> userRepository.updatePassword(username, password));
+    }
+
+    private static User user(int i) {
+        User user = new User();
+        user.setNationalId(7000000L + i);
+        user.setName("Usuario");
+        user.setLastName("Apellido");
+        user.setPhoneNumber(3700000000L + i);
+        user.setEmail("usuario" + i + "@example.com");
+        user.setUsername("usuario" + i);
+        user.setPassword("Password123#");
+        return user;
+    }
+}
@@ -0,0 +1,222 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.event.dto.ArchivedEventResponse;
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventType;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.model.Training;
+import com.sportsclubmanager.backend.event.repository.ArchivedEventRepository;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.event.repository.TrainingRepository;
+import com.sportsclubmanager.backend.event.service.EventArchiveProperties;
+import com.sportsclubmanager.backend.event.service.EventArchiveService;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba el archivado por bloques de los eventos finalizados: los eventos y
+ * sus inscripciones pasan a las tablas de archivo con su tipo y su número de
+ * participantes, y desaparecen de las tablas de eventos.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ EventArchiveService.class, EventArchiveServiceTest.Config.class })
+class EventArchiveServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        EventArchiveProperties eventArchiveProperties() {
+            EventArchiveProperties properties = new EventArchiveProperties();
+            properties.setChunkSize(CHUNK_SIZE);
+            return properties;
+        }
+    }
+
+    @EnableConfigurationProperties(EventArchiveProperties.class)
+    static class PropertiesConfig {
+    }
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> playerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 2; i++) {
+            Player player = new Player();
+            player.setNationalId(8000000L + i);
+            player.setName("Jugador");
+            player.setLastName("Apellido");
+            player.setPhoneNumber(3800000000L + i);
+            player.setEmail("jugador" + i + "@example.com");
+            player.setUsername("jugador" + i);
+            player.setPassword("Password123#");
+            playerIds.add(playerRepository.save(player).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from archived_players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from archived_events").executeUpdate();
+            entityManager.createNativeQuery("delete from players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from trainings").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void finishedEventsAndRegistrationsMoveToTheArchiveInChunks() {
+        Long tournamentId = tournamentRepository.save(event(new Tournament(), CUTOFF.minusDays(10))).getId();
+        register(tournamentId, playerIds.get(1));
+        register(tournamentId, playerIds.get(0));
+        Long trainingId = trainingRepository.save(event(new Training(), CUTOFF.minusDays(5))).getId();
+        register(trainingId, playerIds.get(0));
+        Long emptyTournamentId = tournamentRepository.save(event(new Tournament(), CUTOFF.minusDays(3))).getId();
+        Long endsAfterCutoffId = trainingRepository.save(event(new Training(), CUTOFF.plusHours(1))).getId();
+        register(endsAfterCutoffId, playerIds.get(1));
+
+        int archived = eventArchiveService.archiveEventsFinishedBefore(CUTOFF);
+
+        assertEquals(3, archived);
+
+        ArchivedEventResponse tournament = eventArchiveService.findById(tournamentId).orElseThrow();
+        assertEquals(EventType.TOURNAMENT, tournament.type());
+        assertEquals(2, tournament.participantCount());
+        assertNotNull(tournament.archivedAt());
+        assertEquals(
+                List.of(playerIds.get(0), playerIds.get(1)),
+                eventArchiveService.findPlayerIds(tournamentId).orElseThrow());
+
+        ArchivedEventResponse training = eventArchiveService.findById(trainingId).orElseThrow();
+        assertEquals(EventType.TRAINING, training.type());
+        assertEquals(1, training.participantCount());
+        assertEquals(List.of(playerIds.get(0)), eventArchiveService.findPlayerIds(trainingId).orElseThrow());
+
+        assertEquals(0, eventArchiveService.findById(emptyTournamentId).orElseThrow().participantCount());
+        assertEquals(List.of(), eventArchiveService.findPlayerIds(emptyTournamentId).orElseThrow());
+
+        assertFalse(tournamentRepository.existsById(tournamentId));
+        assertFalse(tournamentRepository.existsById(emptyTournamentId));
+        assertFalse(trainingRepository.existsById(trainingId));
+        assertEquals(0, count("select count(*) from tournaments where id in (?1, ?2)", tournamentId, emptyTournamentId));
+        assertEquals(0, count("select count(*) from trainings where id = ?1", trainingId));
+        assertEquals(0, count("select count(*) from events where id in (?1, ?2, ?3)",
+                tournamentId, trainingId, emptyTournamentId));
+        assertEquals(0, count("select count(*) from players_events where event_id in (?1, ?2)",
+                tournamentId, trainingId));
+
+        assertTrue(trainingRepository.existsById(endsAfterCutoffId));
+        assertTrue(eventArchiveService.findById(endsAfterCutoffId).isEmpty());
+        assertEquals(1, count("select count(*) from players_events where event_id = ?1", endsAfterCutoffId));
+    }
+
+    @Test
+    void archivingStopsWhenTheLastChunkIsExactlyFull() {
+        for (int i = 0; i < 2 * CHUNK_SIZE; i++) {
+            tournamentRepository.save(event(new Tournament(), CUTOFF.minusDays(i + 1)));
+        }
+
+        assertEquals(2 * CHUNK_SIZE, eventArchiveService.archiveEventsFinishedBefore(CUTOFF));
+        assertEquals(2 * CHUNK_SIZE, archivedEventRepository.count());
+        assertEquals(0, eventArchiveService.archiveEventsFinishedBefore(CUTOFF));
+    }
+
+    @Test
+    void chunkSizeMustBePositive() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+                .withUserConfiguration(PropertiesConfig.class);
+
+        runner.withPropertyValues("app.events.archive.chunk-size=0")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+        runner.withPropertyValues("app.events.archive.chunk-size=1")
+                .run(context -> assertNull(context.getStartupFailure()));
+    }
+
+    private static <T extends Event> T event(T event, LocalDateTime endDate) {
+        event.setName("Evento " + endDate);
+        event.setDescription("Evento finalizado");
+        event.setLocation("Montería");
+        event.setStartDate(endDate.minusHours(2));
+        event.setEndDate(endDate);
+        event.setEventVisibility(EventVisibility.PUBLIC);
+        event.setMaximumParticipants(10);
+        return event;
+    }
+
+    private void register(Long eventId, Long playerId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("insert into players_events (player_id, event_id) values (?1, ?2)")
+                    .setParameter(1, playerId)
+                    .setParameter(2, eventId)
+                    .executeUpdate();
+            entityManager.createNativeQuery(
+                    "update events set participant_count = participant_count + 1 where id = ?1")
+                    .setParameter(1, eventId)
+                    .executeUpdate();
+        });
+    }
+
+    private long count(String sql, Object... parameters) {
+        var query = entityManager.createNativeQuery(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        return ((Number) query.getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,250 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.event.dto.CalendarEventResponse;
+import com.sportsclubmanager.backend.event.dto.EventCalendarCursor;
+import com.sportsclubmanager.backend.event.dto.EventUpdateRequest;
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventType;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.model.Training;
+import com.sportsclubmanager.backend.event.service.EventCalendarProperties;
+import com.sportsclubmanager.backend.event.service.EventCalendarService;
+import com.sportsclubmanager.backend.event.service.TournamentEventService;
+import com.sportsclubmanager.backend.event.service.TrainingEventService;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.exception.InvalidCursorException;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba el calendario de eventos: la paginación por cursor sobre la fecha
+ * de inicio, la fecha de fin y el ID con empates y ambos tipos de evento, los
+ * eventos largos que empezaron mucho antes del intervalo, la lectura del
+ * cursor y los eventos privados.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        EventCalendarService.class,
+        TournamentEventService.class,
+        TrainingEventService.class,
+        EventCalendarServiceTest.Config.class
+})
+class EventCalendarServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        EventCalendarProperties eventCalendarProperties() {
+            return new EventCalendarProperties();
+        }
+    }
+
+    @Autowired
+    private EventCalendarService eventCalendarService;
+
+    @Autowired
+    private TournamentEventService tournamentEventService;
+
+    @Autowired
+    private TrainingEventService trainingEventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int eventCount;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from trainings").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+        });
+    }
+
+    @Test
+    void pagesFollowStartDateEndDateAndIdAcrossTiesAndEventTypes() {
+        LocalDateTime start = FROM.plusDays(2);
+        LocalDateTime end = start.plusHours(2);
+
+        Long startedBefore = saveTraining(FROM.minusDays(10), FROM.plusHours(1));
+        Long tieTraining = saveTraining(start, end);
+        Long tieTournament = saveTournament(start, end);
+        Long sameStartTournament = saveTournament(start, end.plusHours(1));
+        Long sameStartTraining = saveTraining(start, end.plusHours(1));
+        Long last = saveTournament(start.plusDays(1), end.plusDays(1));
+        saveTournament(FROM.minusDays(2), FROM);
+        saveTraining(TO, TO.plusHours(2));
+
+        assertEquals(
+                List.of(startedBefore, tieTraining, tieTournament, sameStartTournament, sameStartTraining, last),
+                findAll(null, 2));
+        assertEquals(
+                List.of(startedBefore, tieTraining, sameStartTraining),
+                findAll(EventType.TRAINING, 1));
+        assertEquals(
+                List.of(tieTournament, sameStartTournament, last),
+                findAll(EventType.TOURNAMENT, 2));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        saveTournament(FROM.plusDays(1), FROM.plusDays(2));
+        saveTraining(FROM.plusDays(1), FROM.plusDays(2));
+
+        CursorPage<CalendarEventResponse> page = eventCalendarService.findCalendar(
+                FROM, TO, null, null, null, 2, true);
+
+        assertEquals(2, page.content().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void cursorEncodesTheLastEventPosition() {
+        EventCalendarCursor cursor = new EventCalendarCursor(FROM, FROM.plusHours(2), 42);
+
+        assertEquals(cursor, EventCalendarCursor.decode(cursor.encode()));
+        assertFalse(cursor.encode().contains("="));
+    }
+
+    @Test
+    void invalidCursorsAreRejected() {
+        for (String cursor : List.of(
+                "no es base64!",
+                encode("id:5"),
+                encode("event:" + FROM + "|" + FROM.plusHours(2)),
+                encode("event:" + FROM + "|mañana|5"),
+                encode("event:" + FROM + "|" + FROM.plusHours(2) + "|cinco"))) {
+            assertThrows(InvalidCursorException.class, () -> EventCalendarCursor.decode(cursor), cursor);
+            assertThrows(
+                    InvalidCursorException.class,
+                    () -> eventCalendarService.findCalendar(FROM, TO, null, null, cursor, null, true),
+                    cursor);
+        }
+    }
+
+    @Test
+    void eventsLongerThanTheMaximumDurationStartedBeforeTheIntervalAreIncluded() {
+        Long startedLongAgo = saveTournament(FROM.minusDays(90), FROM.plusDays(1));
+        Long startedLongAgoTie = saveTraining(FROM.minusDays(90), FROM.plusDays(1));
+        Long startedLater = saveTraining(FROM.minusDays(40), FROM.plusHours(1));
+        Long inRange = saveTraining(FROM.minusDays(10), FROM.plusHours(2));
+        Long inInterval = saveTournament(FROM.plusDays(1), FROM.plusDays(2));
+        saveTournament(FROM.minusDays(90), FROM);
+
+        List<Long> expected = List.of(startedLongAgo, startedLongAgoTie, startedLater, inRange, inInterval);
+        assertEquals(expected, findAll(null, 1));
+        assertEquals(expected, findAll(null, 2));
+        assertEquals(expected, findAll(null, null));
+    }
+
+    @Test
+    void updatingTheDatesUpdatesTheDuration() {
+        Long id = saveTraining(FROM.plusDays(1), FROM.plusDays(2));
+        EventUpdateRequest request = new EventUpdateRequest();
+        request.setName("Entrenamiento modificado");
+        request.setDescription("Descripción");
+        request.setLocation("Montería");
+        request.setStartDate(FROM.minusDays(60));
+        request.setEndDate(FROM.plusDays(1));
+        request.setEventVisibility(EventVisibility.PUBLIC);
+        request.setMaximumParticipants(10);
+
+        trainingEventService.update(id, request, IfMatch.none());
+
+        assertEquals(
+                Duration.ofDays(61).toMinutes(),
+                trainingEventService.findById(id).orElseThrow().getDurationMinutes());
+        assertEquals(List.of(id), findAll(null, null));
+    }
+
+    @Test
+    void privateEventsAreOnlyIncludedWhenAllowed() {
+        Long publicId = saveTraining(FROM.plusDays(1), FROM.plusDays(2));
+        Training privateTraining = event(new Training(), FROM.minusDays(60), FROM.plusDays(1));
+        privateTraining.setEventVisibility(EventVisibility.PRIVATE);
+        Long privateId = trainingEventService.save(privateTraining).getId();
+
+        assertEquals(List.of(privateId, publicId), ids(eventCalendarService.findCalendar(
+                FROM, TO, null, null, null, null, true)));
+        assertEquals(List.of(publicId), ids(eventCalendarService.findCalendar(
+                FROM, TO, null, null, null, null, false)));
+        assertThrows(
+                AccessDeniedException.class,
+                () -> eventCalendarService.findCalendar(
+                        FROM, TO, EventVisibility.PRIVATE, null, null, null, false));
+    }
+
+    private List<Long> findAll(EventType type, Integer limit) {
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPage<CalendarEventResponse> page = eventCalendarService.findCalendar(
+                    FROM, TO, null, type, after, limit, true);
+            ids.addAll(ids(page));
+            after = page.nextCursor();
+        } while (after != null);
+        return ids;
+    }
+
+    private static List<Long> ids(CursorPage<CalendarEventResponse> page) {
+        return page.content().stream().map(CalendarEventResponse::id).toList();
+    }
+
+    private Long saveTournament(LocalDateTime startDate, LocalDateTime endDate) {
+        return tournamentEventService.save(event(new Tournament(), startDate, endDate)).getId();
+    }
+
+    private Long saveTraining(LocalDateTime startDate, LocalDateTime endDate) {
+        return trainingEventService.save(event(new Training(), startDate, endDate)).getId();
+    }
+
+    private <T extends Event> T event(T event, LocalDateTime startDate, LocalDateTime endDate) {
+        event.setName("Evento " + ++eventCount);
+        event.setDescription("Descripción");
+        event.setLocation("Montería");
+        event.setStartDate(startDate);
+        event.setEndDate(endDate);
+        event.setEventVisibility(EventVisibility.PUBLIC);
+        event.setMaximumParticipants(10);
+        return event;
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,285 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.member.dto.EventRegistrationOutcome;
+import com.sportsclubmanager.backend.member.exception.MaximumParticipantsException;
+import com.sportsclubmanager.backend.member.exception.PlayerAlreadyHasTournamentEventException;
+import com.sportsclubmanager.backend.member.mapper.PlayerMapperImpl;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.EventRegistrationQueue;
+import com.sportsclubmanager.backend.member.service.EventRegistrationQueueProperties;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.user.mapper.UserMapperImpl;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba las inscripciones por lotes: el orden de admisión, los jugadores
+ * repetidos o inexistentes, el máximo de participantes y la convivencia con
+ * las inscripciones individuales, y que la ventana de un lote lleno no cierra
+ * el lote siguiente.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PlayerService.class, PlayerMapperImpl.class, UserMapperImpl.class, RoleCatalog.class })
+class EventRegistrationQueueTest {
+
+    private static final int MAXIMUM_PARTICIPANTS = 3;
+    private static final int PLAYERS = 6;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private final List<Long> playerIds = new ArrayList<>();
+
+    private Long tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = new Player();
+            player.setNationalId(5000000L + i);
+            player.setName("Jugador");
+            player.setLastName("Apellido");
+            player.setPhoneNumber(3500000000L + i);
+            player.setEmail("jugador" + i + "@example.com");
+            player.setUsername("jugador" + i);
+            player.setPassword("Password123#");
+            playerIds.add(playerRepository.save(player).getId());
+        }
+
+        Tournament tournament = new Tournament();
+        tournament.setName("Torneo");
+        tournament.setDescription("Torneo de prueba");
+        tournament.setLocation("Montería");
+        tournament.setStartDate(LocalDateTime.now().plusDays(1));
+        tournament.setEndDate(LocalDateTime.now().plusDays(2));
+        tournament.setEventVisibility(EventVisibility.PUBLIC);
+        tournament.setMaximumParticipants(MAXIMUM_PARTICIPANTS);
+        tournamentId = tournamentRepository.save(tournament).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void batchAdmitsPlayersInOrderUntilTheEventIsFull() {
+        Long unknownId = -1L;
+        List<Long> requested = List.of(
+                playerIds.get(0),
+                unknownId,
+                playerIds.get(1),
+                playerIds.get(0),
+                playerIds.get(2),
+                playerIds.get(3));
+
+        List<EventRegistrationOutcome> outcomes = playerService.registerAllInTournamentEvent(
+                tournamentId,
+                requested);
+
+        assertEquals(requested, outcomes.stream().map(EventRegistrationOutcome::playerId).toList());
+        assertTrue(outcomes.get(0).registered());
+        assertInstanceOf(IllegalArgumentException.class, outcomes.get(1).error());
+        assertTrue(outcomes.get(2).registered());
+        assertInstanceOf(PlayerAlreadyHasTournamentEventException.class, outcomes.get(3).error());
+        assertTrue(outcomes.get(4).registered());
+        assertInstanceOf(MaximumParticipantsException.class, outcomes.get(5).error());
+
+        assertEquals(MAXIMUM_PARTICIPANTS, participantCount());
+        assertEquals(
+                List.of(playerIds.get(0), playerIds.get(1), playerIds.get(2)),
+                registeredPlayerIds());
+    }
+
+    @Test
+    void batchSkipsPlayersAlreadyRegisteredIndividually() {
+        assertTrue(playerService.registerInTournamentEvent(playerIds.get(0), tournamentId));
+
+        List<EventRegistrationOutcome> outcomes = playerService.registerAllInTournamentEvent(
+                tournamentId,
+                List.of(playerIds.get(0), playerIds.get(1)));
+
+        assertInstanceOf(PlayerAlreadyHasTournamentEventException.class, outcomes.get(0).error());
+        assertTrue(outcomes.get(1).registered());
+        assertEquals(2, participantCount());
+    }
+
+    @Test
+    void batchWaitsForAConcurrentIndividualRegistration() throws Exception {
+        Long playerId = playerIds.get(0);
+        CountDownLatch registeredIndividually = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> individual = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        playerService.registerInTournamentEvent(playerId, tournamentId);
+                        registeredIndividually.countDown();
+                        await(commit);
+                    }));
+            assertTrue(registeredIndividually.await(10, TimeUnit.SECONDS));
+
+            Future<List<EventRegistrationOutcome>> batch = executor.submit(
+                    () -> playerService.registerAllInTournamentEvent(
+                            tournamentId,
+                            List.of(playerId, playerIds.get(1))));
+            Thread.sleep(200);
+            commit.countDown();
+
+            individual.get(10, TimeUnit.SECONDS);
+            List<EventRegistrationOutcome> outcomes = batch.get(10, TimeUnit.SECONDS);
+
+            assertInstanceOf(PlayerAlreadyHasTournamentEventException.class, outcomes.get(0).error());
+            assertTrue(outcomes.get(1).registered());
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, participantCount());
+        assertEquals(List.of(playerIds.get(0), playerIds.get(1)), registeredPlayerIds());
+    }
+
+    @Test
+    void queueCompletesEachRequestWithItsOwnOutcome() throws Exception {
+        EventRegistrationQueueProperties properties = new EventRegistrationQueueProperties();
+        properties.setEnabled(true);
+        properties.setBatchWindow(Duration.ofMillis(50));
+        EventRegistrationQueue queue = new EventRegistrationQueue(playerService, properties);
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        try {
+            for (Long playerId : playerIds) {
+                results.add(queue.registerInTournamentEvent(playerId, tournamentId));
+            }
+            results.add(queue.registerInTournamentEvent(playerIds.get(0), tournamentId));
+
+            for (int i = 0; i < MAXIMUM_PARTICIPANTS; i++) {
+                assertTrue(results.get(i).get(10, TimeUnit.SECONDS));
+            }
+            for (int i = MAXIMUM_PARTICIPANTS; i < PLAYERS; i++) {
+                assertFailsWith(MaximumParticipantsException.class, results.get(i));
+            }
+            assertFailsWith(PlayerAlreadyHasTournamentEventException.class, results.get(PLAYERS));
+        } finally {
+            queue.destroy();
+        }
+
+        assertEquals(MAXIMUM_PARTICIPANTS, participantCount());
+        assertEquals(playerIds.subList(0, MAXIMUM_PARTICIPANTS), registeredPlayerIds());
+    }
+
+    @Test
+    void fullBatchDoesNotShortenTheWindowOfTheNextOne() throws Exception {
+        EventRegistrationQueueProperties properties = new EventRegistrationQueueProperties();
+        properties.setEnabled(true);
+        properties.setBatchWindow(Duration.ofSeconds(2));
+        properties.setMaxBatchSize(2);
+        EventRegistrationQueue queue = new EventRegistrationQueue(playerService, properties);
+
+        try {
+            CompletableFuture<Boolean> first = queue.registerInTournamentEvent(playerIds.get(0), tournamentId);
+            CompletableFuture<Boolean> second = queue.registerInTournamentEvent(playerIds.get(1), tournamentId);
+            assertTrue(first.get(1, TimeUnit.SECONDS));
+            assertTrue(second.get(1, TimeUnit.SECONDS));
+
+            Thread.sleep(1000);
+            CompletableFuture<Boolean> next = queue.registerInTournamentEvent(playerIds.get(2), tournamentId);
+
+            // La ventana del primer lote habría cerrado el siguiente al cumplirse
+            Thread.sleep(1500);
+            assertFalse(next.isDone());
+            assertTrue(next.get(10, TimeUnit.SECONDS));
+        } finally {
+            queue.destroy();
+        }
+
+        assertEquals(3, participantCount());
+    }
+
+    private static void assertFailsWith(
+            Class<? extends Throwable> expected,
+            CompletableFuture<Boolean> result) {
+        ExecutionException e = assertThrows(
+                ExecutionException.class,
+                () -> result.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(expected, e.getCause());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int participantCount() {
+        return tournamentRepository.findById(tournamentId).orElseThrow().getParticipantCount();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> registeredPlayerIds() {
+        return ((List<Number>) entityManager
+                .createNativeQuery(
+                        "select player_id from players_events where event_id = ?1 order by player_id")
+                .setParameter(1, tournamentId)
+                .getResultList())
+                .stream()
+                .map(Number::longValue)
+                .toList();
+    }
+}
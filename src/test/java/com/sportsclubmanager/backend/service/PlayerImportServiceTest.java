@@ -0,0 +1,230 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsclubmanager.backend.auth.security.password.PasswordHashingProperties;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.PlayerImportProperties;
+import com.sportsclubmanager.backend.member.service.PlayerImportService;
+import com.sportsclubmanager.backend.shared.export.ExportFormat;
+import com.sportsclubmanager.backend.shared.importing.ImportError;
+import com.sportsclubmanager.backend.shared.importing.ImportReader;
+import com.sportsclubmanager.backend.shared.importing.ImportReport;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.repository.RoleRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Comprueba la importación por bloques sobre la base de datos: las filas
+ * inválidas, repetidas o en conflicto con usuarios existentes se rechazan sin
+ * detener la importación, y un conflicto que aparece al guardar un bloque solo
+ * rechaza la fila afectada.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        PlayerImportService.class,
+        ImportReader.class,
+        RoleCatalog.class,
+        PlayerImportServiceTest.Config.class
+})
+class PlayerImportServiceTest {
+
+    private static final String CONFLICT = "El jugador entra en conflicto con un usuario registrado durante la importación";
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        PlayerImportProperties playerImportProperties() {
+            PlayerImportProperties properties = new PlayerImportProperties();
+            properties.setChunkSize(3);
+            return properties;
+        }
+
+        @Bean
+        PasswordHashingProperties passwordHashingProperties() {
+            return new PasswordHashingProperties();
+        }
+    }
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RoleCatalog roleCatalog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        if (roleRepository.count() == 0) {
+            for (String name : new String[] { "ROLE_USER", "ROLE_PLAYER" }) {
+                Role role = new Role();
+                role.setName(name);
+                roleRepository.save(role);
+            }
+        }
+        roleCatalog.reload();
+
+        when(passwordEncoder.encode(anyString())).thenAnswer(
+                invocation -> "{cifrada}" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from users_roles").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void importSavesValidRowsAcrossChunksAndReportsTheRest() {
+        playerRepository.save(player(90));
+
+        ImportReport report = importPlayers(
+                row(1),
+                "{\"nationalId\": 123, \"name\": \"Jugador\"}",
+                row(2),
+                row(2),
+                row(90).replace("jugador90", "otro90"),
+                "no es json",
+                row(3),
+                row(4));
+
+        assertEquals(8, report.total());
+        assertEquals(4, report.imported());
+        assertEquals(4, report.failed());
+        Map<Long, ImportError> errors = report.errors().stream()
+                .collect(Collectors.toMap(ImportError::row, Function.identity()));
+        assertEquals(Set.of(2L, 4L, 5L, 6L), errors.keySet());
+        assertEquals(
+                List.of("El nombre de usuario está repetido en el archivo",
+                        "El correo electrónico está repetido en el archivo",
+                        "El documento de identidad está repetido en el archivo",
+                        "El número de teléfono está repetido en el archivo"),
+                errors.get(4L).messages());
+        assertEquals(
+                List.of("Ya existe un usuario con el documento de identidad 10000090",
+                        "Ya existe un usuario con el número de teléfono 3000000090"),
+                errors.get(5L).messages());
+        assertEquals(List.of("La fila no tiene el formato esperado"), errors.get(6L).messages());
+
+        for (int i = 1; i <= 4; i++) {
+            Player player = playerRepository.findByUsername("jugador" + i).orElseThrow();
+            assertEquals("{cifrada}Password123#", player.getPassword());
+            assertFalse(player.getRoles().isEmpty());
+        }
+    }
+
+    @Test
+    void conflictWhileSavingAChunkRejectsOnlyTheConflictingRow() {
+        AtomicBoolean registered = new AtomicBoolean();
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            if (registered.compareAndSet(false, true)) {
+                Player concurrent = player(91);
+                concurrent.setUsername("jugador2");
+                new TransactionTemplate(transactionManager)
+                        .executeWithoutResult(status -> playerRepository.save(concurrent));
+            }
+            return "{cifrada}" + invocation.getArgument(0);
+        });
+
+        ImportReport report = importPlayers(row(1), row(2), row(3), row(4));
+
+        assertEquals(3, report.imported());
+        assertEquals(1, report.failed());
+        ImportError error = report.errors().get(0);
+        assertEquals(2, error.row());
+        assertEquals("jugador2", error.key());
+        assertEquals(List.of(CONFLICT), error.messages());
+
+        assertEquals(4, playerRepository.count());
+        assertEquals(
+                10000091L,
+                playerRepository.findByUsername("jugador2").orElseThrow().getNationalId());
+        assertTrue(playerRepository.findByUsername("jugador3").isPresent());
+    }
+
+    private ImportReport importPlayers(String... lines) {
+        return playerImportService.importPlayers(
+                ExportFormat.NDJSON,
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String row(int i) {
+        return "{\"nationalId\":" + (10_000_000L + i)
+                + ",\"name\":\"Jugador\",\"lastName\":\"Apellido\""
+                + ",\"phoneNumber\":" + (3_000_000_000L + i)
+                + ",\"email\":\"jugador" + i + "@example.com\""
+                + ",\"username\":\"jugador" + i + "\""
+                + ",\"password\":\"Password123#\"}";
+    }
+
+    private static Player player(int i) {
+        Player player = new Player();
+        player.setNationalId(10_000_000L + i);
+        player.setName("Jugador");
+        player.setLastName("Apellido");
+        player.setPhoneNumber(3_000_000_000L + i);
+        player.setEmail("jugador" + i + "@example.com");
+        player.setUsername("jugador" + i);
+        player.setPassword("Password123#");
+        return player;
+    }
+}
@@ -0,0 +1,200 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.event.model.Event;
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.model.Training;
+import com.sportsclubmanager.backend.member.mapper.PlayerMapperImpl;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.model.PlayerResponse;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.shared.pagination.CursorPage;
+import com.sportsclubmanager.backend.shared.pagination.CursorPageRequest;
+import com.sportsclubmanager.backend.user.mapper.UserMapperImpl;
+import com.sportsclubmanager.backend.user.model.Role;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Comprueba que el listado de jugadores se resuelve con la proyección que
+ * agrega los roles con {@code listagg} y una sola consulta de eventos, con un
+ * número fijo de sentencias SQL, y que los roles y eventos de cada jugador se
+ * asignan correctamente.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ PlayerService.class, PlayerMapperImpl.class, UserMapperImpl.class, RoleCatalog.class })
+class PlayerServiceQueryCountTest {
+
+    private static final int PLAYERS = 6;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private RoleCatalog roleCatalog;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = role("ROLE_USER");
+        Role playerRole = role("ROLE_PLAYER");
+
+        Tournament tournament = event(new Tournament(), "Torneo");
+        Training training = event(new Training(), "Entrenamiento");
+
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = player(i);
+            // El primer jugador no tiene roles ni eventos
+            if (i > 0) {
+                player.getRoles().add(userRole);
+                player.getRoles().add(playerRole);
+                player.getEvents().add(tournament);
+            }
+            if (i % 2 == 0 && i > 0) {
+                player.getEvents().add(training);
+            }
+            entityManager.persist(player);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        roleCatalog.reload();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllPlayerResponsesUsesTwoStatements() {
+        List<PlayerResponse> responses = playerService.findAllPlayerResponses();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(PLAYERS, responses.size());
+
+        PlayerResponse withoutRoles = find(responses, "jugador0");
+        assertEquals(Set.of(), withoutRoles.getRoles());
+        assertEquals(Set.of(), withoutRoles.getEvents());
+
+        PlayerResponse withTournament = find(responses, "jugador1");
+        assertEquals(Set.of("ROLE_USER", "ROLE_PLAYER"), roleNames(withTournament));
+        assertEquals(Set.of("Torneo"), eventNames(withTournament));
+
+        PlayerResponse withBoth = find(responses, "jugador2");
+        assertEquals(Set.of("ROLE_USER", "ROLE_PLAYER"), roleNames(withBoth));
+        assertEquals(Set.of("Torneo", "Entrenamiento"), eventNames(withBoth));
+        assertEquals("Jugador2", withBoth.getName());
+        assertEquals("jugador2@example.com", withBoth.getEmail());
+    }
+
+    @Test
+    void findAllPlayerResponsesPageUsesThreeStatementsRegardlessOfPageSize() {
+        for (int size : new int[] { 1, 4, PLAYERS }) {
+            statistics.clear();
+
+            Page<PlayerResponse> page = playerService.findAllPlayerResponses(PageRequest.of(0, size));
+
+            assertEquals(size, page.getNumberOfElements());
+            assertEquals(PLAYERS, page.getTotalElements());
+            assertTrue(statistics.getPrepareStatementCount() <= 3);
+        }
+    }
+
+    @Test
+    void findAllPlayerResponsesByCursorWalksAllPlayersInOrder() {
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+
+            CursorPage<PlayerResponse> page = playerService.findAllPlayerResponses(
+                    CursorPageRequest.of(cursor, 4));
+
+            assertEquals(2, statistics.getPrepareStatementCount());
+            page.content().forEach(player -> {
+                usernames.add(player.getUsername());
+                if (!player.getUsername().equals("jugador0")) {
+                    assertEquals(Set.of("ROLE_USER", "ROLE_PLAYER"), roleNames(player));
+                }
+            });
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(
+                List.of("jugador0", "jugador1", "jugador2", "jugador3", "jugador4", "jugador5"),
+                usernames);
+    }
+
+    private static PlayerResponse find(List<PlayerResponse> responses, String username) {
+        return responses.stream()
+                .filter(player -> player.getUsername().equals(username))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Set<String> roleNames(PlayerResponse response) {
+        return response.getRoles().stream().map(Role::getName).collect(Collectors.toSet());
+    }
+
+    private static Set<String> eventNames(PlayerResponse response) {
+        return response.getEvents().stream().map(Event::getName).collect(Collectors.toSet());
+    }
+
+    private Role role(String name) {
+        Role role = new Role();
+        role.setName(name);
+        return entityManager.persist(role);
+    }
+
+    private <T extends Event> T event(T event, String name) {
+        event.setName(name);
+        event.setDescription("Descripción");
+        event.setLocation("Montería");
+        event.setStartDate(LocalDateTime.now().plusDays(1));
+        event.setEndDate(LocalDateTime.now().plusDays(2));
+        event.setEventVisibility(EventVisibility.PUBLIC);
+        event.setMaximumParticipants(10);
+        return entityManager.persist(event);
+    }
+
+    private static Player player(int i) {
+        Player player = new Player();
+        player.setNationalId(8000000L + i);
+        player.setName("Jugador" + i);
+        player.setLastName("Apellido");
+        player.setPhoneNumber(3800000000L + i);
+        player.setEmail("jugador" + i + "@example.com");
+        player.setUsername("jugador" + i);
+        player.setPassword("Password123#");
+        return player;
+    }
+}
@@ -0,0 +1,168 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.event.model.EventVisibility;
+import com.sportsclubmanager.backend.event.model.Tournament;
+import com.sportsclubmanager.backend.event.repository.TournamentRepository;
+import com.sportsclubmanager.backend.member.exception.MaximumParticipantsException;
+import com.sportsclubmanager.backend.member.exception.PlayerAlreadyHasTournamentEventException;
+import com.sportsclubmanager.backend.member.mapper.PlayerMapperImpl;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.user.mapper.UserMapperImpl;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba que las inscripciones concurrentes a un evento nunca superan el
+ * máximo de participantes.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PlayerService.class, PlayerMapperImpl.class, UserMapperImpl.class, RoleCatalog.class })
+class PlayerServiceRegistrationConcurrencyTest {
+
+    private static final int MAXIMUM_PARTICIPANTS = 5;
+    private static final int PLAYERS = 24;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private final List<Long> playerIds = new ArrayList<>();
+
+    private Long tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = new Player();
+            player.setNationalId(2000000L + i);
+            player.setName("Jugador");
+            player.setLastName("Apellido");
+            player.setPhoneNumber(3200000000L + i);
+            player.setEmail("jugador" + i + "@example.com");
+            player.setUsername("jugador" + i);
+            player.setPassword("Password123#");
+            playerIds.add(playerRepository.save(player).getId());
+        }
+
+        Tournament tournament = new Tournament();
+        tournament.setName("Torneo");
+        tournament.setDescription("Torneo de prueba");
+        tournament.setLocation("Montería");
+        tournament.setStartDate(LocalDateTime.now().plusDays(1));
+        tournament.setEndDate(LocalDateTime.now().plusDays(2));
+        tournament.setEventVisibility(EventVisibility.PUBLIC);
+        tournament.setMaximumParticipants(MAXIMUM_PARTICIPANTS);
+        tournamentId = tournamentRepository.save(tournament).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from players_events").executeUpdate();
+            entityManager.createNativeQuery("delete from tournaments").executeUpdate();
+            entityManager.createNativeQuery("delete from events").executeUpdate();
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void concurrentRegistrationsNeverExceedMaximumParticipants() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (Long playerId : playerIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return playerService.registerInTournamentEvent(playerId, tournamentId);
+                    } catch (MaximumParticipantsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int registered = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    registered++;
+                }
+            }
+
+            assertEquals(MAXIMUM_PARTICIPANTS, registered);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(MAXIMUM_PARTICIPANTS, participantCount());
+        assertEquals(MAXIMUM_PARTICIPANTS, registrations());
+    }
+
+    @Test
+    void registeringTwiceDoesNotTakeASecondSeat() {
+        Long playerId = playerIds.get(0);
+
+        assertTrue(playerService.registerInTournamentEvent(playerId, tournamentId));
+        assertThrows(
+                PlayerAlreadyHasTournamentEventException.class,
+                () -> playerService.registerInTournamentEvent(playerId, tournamentId));
+
+        assertEquals(1, participantCount());
+        assertEquals(1, registrations());
+    }
+
+    private int participantCount() {
+        return tournamentRepository.findById(tournamentId).orElseThrow().getParticipantCount();
+    }
+
+    private long registrations() {
+        return ((Number) entityManager
+                .createNativeQuery("select count(*) from players_events where event_id = ?1")
+                .setParameter(1, tournamentId)
+                .getSingleResult())
+                .longValue();
+    }
+}
@@ -0,0 +1,146 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.sportsclubmanager.backend.auth.dto.TokenResponse;
+import com.sportsclubmanager.backend.auth.exception.InvalidRefreshTokenException;
+import com.sportsclubmanager.backend.auth.model.RefreshToken;
+import com.sportsclubmanager.backend.auth.repository.RefreshTokenRepository;
+import com.sportsclubmanager.backend.auth.security.JwtTokenIssuer;
+import com.sportsclubmanager.backend.auth.security.JwtTokenProperties;
+import com.sportsclubmanager.backend.auth.service.RefreshTokenService;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Comprueba sobre la base de datos la rotación de los tokens de
+ * actualización: cada uso emite un token nuevo de la misma familia, reutilizar
+ * un token revoca toda la familia y los tokens expirados se rechazan.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ RefreshTokenService.class, RefreshTokenServiceTest.Config.class })
+class RefreshTokenServiceTest {
+
+    private static final String USERNAME = "usuario";
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        JwtTokenProperties jwtTokenProperties() {
+            return new JwtTokenProperties();
+        }
+    }
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtTokenIssuer tokenIssuer;
+
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.withUsername(USERNAME).password("{cifrada}").roles("PLAYER").build();
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenAnswer(invocation -> user);
+        when(tokenIssuer.issueAccessToken(eq(USERNAME), any())).thenReturn("acceso");
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void refreshRotatesTheTokenWithinTheSameFamily() {
+        String first = refreshTokenService.login(user).getRefreshToken();
+
+        TokenResponse response = refreshTokenService.refresh(first);
+
+        String second = response.getRefreshToken();
+        assertNotEquals(first, second);
+        assertEquals("acceso", response.getAccessToken());
+
+        List<RefreshToken> tokens = refreshTokenRepository.findAll();
+        assertEquals(2, tokens.size());
+        assertEquals(1, tokens.stream().map(RefreshToken::getFamilyId).distinct().count());
+        assertEquals(1, tokens.stream().filter(token -> token.getUsedAt() != null).count());
+
+        assertNotNull(refreshTokenService.refresh(second).getRefreshToken());
+    }
+
+    @Test
+    void reusingATokenRevokesItsWholeFamilyOnly() {
+        String first = refreshTokenService.login(user).getRefreshToken();
+        String second = refreshTokenService.refresh(first).getRefreshToken();
+        String otherSession = refreshTokenService.login(user).getRefreshToken();
+
+        InvalidRefreshTokenException reuse = assertThrows(
+                InvalidRefreshTokenException.class,
+                () -> refreshTokenService.refresh(first));
+        assertEquals("El token de actualización ya fue utilizado", reuse.getMessage());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(second));
+        assertEquals(1, refreshTokenRepository.count());
+        assertNotNull(refreshTokenService.refresh(otherSession).getRefreshToken());
+    }
+
+    @Test
+    void expiredTokensAreRejectedAndPurged() {
+        String token = refreshTokenService.login(user).getRefreshToken();
+        RefreshToken stored = refreshTokenRepository.findAll().get(0);
+        stored.setExpiresAt(Instant.now().minusSeconds(1));
+        refreshTokenRepository.save(stored);
+
+        InvalidRefreshTokenException expired = assertThrows(
+                InvalidRefreshTokenException.class,
+                () -> refreshTokenService.refresh(token));
+        assertEquals("El token de actualización ha expirado", expired.getMessage());
+        assertNull(refreshTokenRepository.findById(stored.getId()).orElseThrow().getUsedAt());
+
+        refreshTokenService.purgeExpired();
+
+        assertEquals(0, refreshTokenRepository.count());
+    }
+
+    @Test
+    void disabledAccountRevokesTheFamily() {
+        String token = refreshTokenService.login(user).getRefreshToken();
+        user = User.withUserDetails(user).disabled(true).build();
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(token));
+        assertEquals(0, refreshTokenRepository.count());
+    }
+
+    @Test
+    void unknownAndBlankTokensAreRejected() {
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh("desconocido"));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(" "));
+    }
+}
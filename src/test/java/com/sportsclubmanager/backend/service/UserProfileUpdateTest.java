@@ -0,0 +1,220 @@
+package com.sportsclubmanager.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sportsclubmanager.backend.member.mapper.PlayerMapperImpl;
+import com.sportsclubmanager.backend.member.model.Coach;
+import com.sportsclubmanager.backend.member.model.Player;
+import com.sportsclubmanager.backend.member.repository.CoachRepository;
+import com.sportsclubmanager.backend.member.repository.PlayerRepository;
+import com.sportsclubmanager.backend.member.service.CoachService;
+import com.sportsclubmanager.backend.member.service.PlayerService;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.exception.PreconditionFailedException;
+import com.sportsclubmanager.backend.user.dto.UserPatchRequest;
+import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
+import com.sportsclubmanager.backend.user.mapper.UserMapperImpl;
+import com.sportsclubmanager.backend.user.model.AffiliationStatus;
+import com.sportsclubmanager.backend.user.model.User;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Ejecuta sobre la base de datos las sentencias de una sola fila que modifican
+ * el perfil y el estado de afiliación de los usuarios: los campos nulos, el
+ * incremento de versión, la condición de versión de {@code If-Match} y la
+ * restricción a las filas de cada tipo de usuario.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        PlayerService.class,
+        CoachService.class,
+        PlayerMapperImpl.class,
+        UserMapperImpl.class,
+        RoleCatalog.class })
+class UserProfileUpdateTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private CoachService coachService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private Long playerId;
+
+    private Long coachId;
+
+    @BeforeEach
+    void setUp() {
+        Player player = new Player();
+        fill(player, 1);
+        playerId = playerRepository.save(player).getId();
+
+        Coach coach = new Coach();
+        fill(coach, 2);
+        coachId = coachRepository.save(coach).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from players").executeUpdate();
+            entityManager.createNativeQuery("delete from coaches").executeUpdate();
+            entityManager.createNativeQuery("delete from users").executeUpdate();
+        });
+    }
+
+    @Test
+    void patchChangesOnlyTheGivenFieldsAndIncrementsTheVersion() {
+        Player before = playerRepository.findById(playerId).orElseThrow();
+
+        assertTrue(playerService.patch(
+                playerId,
+                new UserPatchRequest("Nuevo", null, null, null, "nuevousuario"),
+                IfMatch.none()));
+
+        Player after = playerRepository.findById(playerId).orElseThrow();
+        assertEquals("Nuevo", after.getName());
+        assertEquals("nuevousuario", after.getUsername());
+        assertEquals(before.getLastName(), after.getLastName());
+        assertEquals(before.getPhoneNumber(), after.getPhoneNumber());
+        assertEquals(before.getEmail(), after.getEmail());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    @Test
+    void updateAffiliationStatusChangesTheStatusAndIncrementsTheVersion() {
+        Long version = playerRepository.findById(playerId).orElseThrow().getVersion();
+
+        assertTrue(playerService.updateAffiliationStatus(
+                playerId,
+                AffiliationStatus.SUSPENDED,
+                IfMatch.none()));
+
+        Player after = playerRepository.findById(playerId).orElseThrow();
+        assertEquals(AffiliationStatus.SUSPENDED, after.getAffiliationStatus());
+        assertEquals(version + 1, after.getVersion());
+    }
+
+    @Test
+    void playerEndpointCannotUpdateACoach() {
+        Coach before = coachRepository.findById(coachId).orElseThrow();
+
+        assertFalse(playerService.patch(
+                coachId,
+                new UserPatchRequest("Nuevo", null, null, null, null),
+                IfMatch.none()));
+        assertFalse(playerService.updateAffiliationStatus(
+                coachId,
+                AffiliationStatus.SUSPENDED,
+                IfMatch.none()));
+        assertTrue(playerService.update(
+                coachId,
+                new UserUpdateRequest(),
+                IfMatch.none()).isEmpty());
+
+        Coach after = coachRepository.findById(coachId).orElseThrow();
+        assertEquals(before.getName(), after.getName());
+        assertEquals(AffiliationStatus.ACTIVE, after.getAffiliationStatus());
+        assertEquals(before.getVersion(), after.getVersion());
+        assertTrue(coachService.patch(
+                coachId,
+                new UserPatchRequest("Nuevo", null, null, null, null),
+                IfMatch.none()));
+    }
+
+    @Test
+    void unknownUserIsNotFoundEvenWithIfMatch() {
+        assertFalse(playerService.patch(
+                -1L,
+                new UserPatchRequest("Nuevo", null, null, null, null),
+                ifMatch("\"desconocido\"")));
+    }
+
+    @Test
+    void patchWithCurrentETagSucceedsAndStaleETagIsRejected() {
+        String eTag = playerService.findEntityTag(playerId).orElseThrow();
+
+        assertTrue(playerService.patch(
+                playerId,
+                new UserPatchRequest("Primero", null, null, null, null),
+                ifMatch(eTag)));
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> playerService.updateAffiliationStatus(
+                        playerId,
+                        AffiliationStatus.SUSPENDED,
+                        ifMatch(eTag)));
+
+        Player after = playerRepository.findById(playerId).orElseThrow();
+        assertEquals("Primero", after.getName());
+        assertEquals(AffiliationStatus.ACTIVE, after.getAffiliationStatus());
+    }
+
+    @Test
+    void statementAppliesOnlyAtTheExpectedVersion() {
+        Long version = playerRepository.findById(playerId).orElseThrow().getVersion();
+
+        assertEquals(0, updateProfileName(version + 1, "Desfasado"));
+        assertEquals(1, updateProfileName(version, "Actual"));
+        assertEquals(0, updateProfileName(version, "Repetido"));
+
+        Player after = playerRepository.findById(playerId).orElseThrow();
+        assertEquals("Actual", after.getName());
+        assertEquals(version + 1, after.getVersion());
+    }
+
+    private int updateProfileName(Long expectedVersion, String name) {
+        return new TransactionTemplate(transactionManager).execute(status -> playerRepository
+                .updateProfile(playerId, expectedVersion, name, null, null, null, null));
+    }
+
+    private static IfMatch ifMatch(String eTag) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MATCH, eTag);
+        return IfMatch.from(new ServletWebRequest(request));
+    }
+
+    private static void fill(User user, int i) {
+        user.setNationalId(6000000L + i);
+        user.setName("Usuario");
+        user.setLastName("Apellido");
+        user.setPhoneNumber(3600000000L + i);
+        user.setEmail("usuario" + i + "@example.com");
+        user.setUsername("usuario" + i);
+        user.setPassword("Password123#");
+    }
+}
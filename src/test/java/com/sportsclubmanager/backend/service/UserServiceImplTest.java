@@ -5,12 +5,16 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.sportsclubmanager.backend.UserDataProvider;
+import com.sportsclubmanager.backend.shared.etag.EntityTags;
+import com.sportsclubmanager.backend.shared.etag.IfMatch;
+import com.sportsclubmanager.backend.shared.etag.VersionStamp;
+import com.sportsclubmanager.backend.shared.exception.PreconditionFailedException;
 import com.sportsclubmanager.backend.shared.util.RoleAuthorityUtils;
 import com.sportsclubmanager.backend.user.dto.UserUpdateRequest;
 import com.sportsclubmanager.backend.user.model.Role;
 import com.sportsclubmanager.backend.user.model.User;
-import com.sportsclubmanager.backend.user.repository.RoleRepository;
 import com.sportsclubmanager.backend.user.repository.UserRepository;
+import com.sportsclubmanager.backend.user.service.RoleCatalog;
 import com.sportsclubmanager.backend.user.service.UserServiceImpl;
 import com.sportsclubmanager.backend.user.validation.NoSpecialCharactersValidator;
 import com.sportsclubmanager.backend.user.validation.PasswordStrengthValidator;
@@ -23,7 +27,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
@@ -32,11 +40,14 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleCatalog roleCatalog;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userServiceImpl;
 
@@ -56,14 +67,14 @@ class UserServiceImplTest {
         Role mockRole = UserDataProvider.getRoleUser();
 
         // When
-        when(roleRepository.findByName(anyString())).thenReturn(
+        when(roleCatalog.getRole(anyString())).thenReturn(
                 Optional.of(mockRole));
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
 
         userServiceImpl.save(mockNewUser);
 
         // Then
-        verify(roleRepository, times(1)).findByName("ROLE_USER");
+        verify(roleCatalog, times(1)).getRole("ROLE_USER");
         verify(passwordEncoder, times(1)).encode(rawPassword);
         verify(userRepository, times(1)).save(any(User.class));
 
@@ -84,7 +95,7 @@ class UserServiceImplTest {
                 },
                 () -> {
                     assertEquals(
-                            RoleAuthorityUtils.getRoles(savedUser, roleRepository),
+                            RoleAuthorityUtils.getRoles(savedUser, roleCatalog),
                             savedUser.getRoles(),
                             "Los roles del usuario guardado no son los esperados.");
                 },
@@ -171,7 +182,7 @@ class UserServiceImplTest {
 
         Role mockRole = UserDataProvider.getRoleUser();
 
-        when(roleRepository.findByName(anyString())).thenReturn(
+        when(roleCatalog.getRole(anyString())).thenReturn(
                 Optional.of(mockRole));
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
 
@@ -179,7 +190,7 @@ class UserServiceImplTest {
         userServiceImpl.save(mockNewInvalidUser);
 
         // Then
-        verify(roleRepository, times(1)).findByName("ROLE_USER");
+        verify(roleCatalog, times(1)).getRole("ROLE_USER");
         verify(passwordEncoder, times(1)).encode(rawPassword);
         verify(userRepository, times(1)).save(any(User.class));
 
@@ -200,7 +211,7 @@ class UserServiceImplTest {
                 },
                 () -> {
                     assertEquals(
-                            RoleAuthorityUtils.getRoles(savedUser, roleRepository),
+                            RoleAuthorityUtils.getRoles(savedUser, roleCatalog),
                             savedUser.getRoles(),
                             "Los roles del usuario guardado no son los esperados.");
                 },
@@ -421,36 +432,41 @@ class UserServiceImplTest {
         updateRequest.setUsername("nuevousuario");
         updateRequest.setRoles(existingUser.getRoles());
 
+        when(userRepository.updateProfile(
+                eq(userId),
+                isNull(),
+                anyString(),
+                anyString(),
+                anyLong(),
+                anyString(),
+                anyString())).thenReturn(1);
         when(userRepository.findById(userId)).thenReturn(
                 Optional.of(existingUser));
-        when(roleRepository.findByName(anyString())).thenReturn(
-                Optional.of(UserDataProvider.getRoleUser()));
-        when(userRepository.save(any(User.class))).thenAnswer(
-                // Devuelve el mismo usuario que se le pasa como argumento
-                invocation -> invocation.getArgument(0));
 
         // When
         Optional<User> resultOpt = userServiceImpl.update(
                 userId,
-                updateRequest);
+                updateRequest,
+                IfMatch.none());
 
         // Then
-        assertTrue(
-                resultOpt.isPresent(),
-                "El usuario actualizado debe estar presente");
-
-        User updatedUser = resultOpt.get();
-
-        assertEquals("Nuevo Nombre", updatedUser.getName());
-        assertEquals("Nuevo Apellido", updatedUser.getLastName());
-        assertEquals(1234567890L, updatedUser.getPhoneNumber());
-        assertEquals("nuevo@email.com", updatedUser.getEmail());
-        assertEquals("nuevousuario", updatedUser.getUsername());
-        assertNotNull(updatedUser.getRoles());
+        assertSame(
+                existingUser,
+                resultOpt.orElseThrow(),
+                "Debe devolver el usuario leído después de la actualización");
 
+        verify(userRepository, times(1)).updateProfile(
+                userId,
+                null,
+                "Nuevo Nombre",
+                "Nuevo Apellido",
+                1234567890L,
+                "nuevo@email.com",
+                "nuevousuario");
         verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).save(existingUser);
+        verify(userRepository, never()).save(any(User.class));
         verifyNoMoreInteractions(userRepository);
+        verifyNoInteractions(roleCatalog);
     }
 
     @Test
@@ -458,29 +474,61 @@ class UserServiceImplTest {
         // Given
         Long userId = 999L;
         UserUpdateRequest updateRequest = new UserUpdateRequest();
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.updateProfile(userId, null, null, null, null, null, null))
+                .thenReturn(0);
 
         // When
         Optional<User> resultOpt = userServiceImpl.update(
                 userId,
-                updateRequest);
+                updateRequest,
+                IfMatch.none());
 
         // Then
         assertTrue(
                 resultOpt.isEmpty(),
                 "Debe retornar Optional.empty() si el usuario no existe");
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).updateProfile(userId, null, null, null, null, null, null);
+        verify(userRepository, never()).findById(userId);
         verify(userRepository, never()).save(any(User.class));
         verifyNoMoreInteractions(userRepository);
     }
 
+    @Test
+    void givenIfMatchAndConcurrentChange_whenUpdate_thenPreconditionFails() {
+        // Given
+        Long userId = 10L;
+        List<VersionStamp> stamps = List.of(userStamp(userId, 3L));
+        String eTag = EntityTags.of(stamps).orElseThrow();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MATCH, eTag);
+
+        when(userRepository.findVersionStamps(List.of(userId))).thenReturn(stamps);
+        when(userRepository.updateProfile(userId, 3L, "Nuevo Nombre", null, null, null, null))
+                .thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        UserUpdateRequest updateRequest = new UserUpdateRequest();
+        updateRequest.setName("Nuevo Nombre");
+
+        // When & Then
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> userServiceImpl.update(
+                        userId,
+                        updateRequest,
+                        IfMatch.from(new ServletWebRequest(request))),
+                "Si la versión cambió después de comprobar If-Match debe fallar la precondición");
+        verify(userRepository, never()).findById(userId);
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void givenValidUserId_whenDeleteById_thenUserIsDeleted() {
         // Given
         Long id = 1L;
 
         // When
-        userServiceImpl.deleteById(id);
+        userServiceImpl.deleteById(id, IfMatch.none());
 
         // Then
         ArgumentCaptor<Long> longCaptor = ArgumentCaptor.forClass(Long.class);
@@ -496,7 +544,7 @@ class UserServiceImplTest {
         Long id = 999L; // No existe
 
         // When
-        userServiceImpl.deleteById(id);
+        userServiceImpl.deleteById(id, IfMatch.none());
 
         // Then
         ArgumentCaptor<Long> longCaptor = ArgumentCaptor.forClass(Long.class);
@@ -505,4 +553,28 @@ class UserServiceImplTest {
         verify(userRepository).deleteById(longCaptor.capture());
         assertEquals(999L, longCaptor.getValue());
     }
+
+    private static VersionStamp userStamp(Long id, Long version) {
+        return new VersionStamp() {
+            @Override
+            public String getKind() {
+                return UserRepository.USER_STAMP_KIND;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return id;
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
 }